@@ -0,0 +1,81 @@
+package no.ntnu.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Turn execution and movement on the standard board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardGameBenchmark {
+    private static final MethodHandle MOVE_PLAYER;
+
+    static {
+        try {
+            MOVE_PLAYER = MethodHandles.privateLookupIn(BoardGame.class, MethodHandles.lookup())
+                .findVirtual(BoardGame.class, "movePlayer",
+                    MethodType.methodType(Tile.class, Player.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"2", "4", "6"})
+    public int playerCount;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double ownershipDensity;
+
+    private BoardGame game;
+    private Player mover;
+    private int steps;
+
+    /**
+     * Rebuild the game for every iteration so balances do not drift too far.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(playerCount);
+        EngineFixtures.distributeOwnership(fixture, ownershipDensity, 42);
+        game = fixture.game();
+        mover = game.getPlayers().get(0);
+        steps = 2;
+    }
+
+    @Benchmark
+    public int playTurn() {
+        game.playTurn();
+        game.nextTurn();
+        return game.getLastRoll();
+    }
+
+    @Benchmark
+    public Tile movePlayer() throws Throwable {
+        steps = steps == 12 ? 2 : steps + 1;
+        return (Tile) MOVE_PLAYER.invokeExact(game, mover, steps);
+    }
+}
@@ -0,0 +1,64 @@
+package no.ntnu.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.simulation.CompactGame;
+import no.ntnu.simulation.GameOutcome;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.PurchasePolicy;
+
+/**
+ * Whole-game throughput of the object engine against the compact array engine.
+ * Both play the same rules with the same turn limit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CompactEngineBenchmark {
+    private static final int MAX_TURNS = 500;
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    private GameSimulator simulator;
+    private CompactGame compactGame;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() throws Exception {
+        simulator = new GameSimulator(playerCount, PurchasePolicy.always(), MAX_TURNS);
+        BoardDefinition board = MonopolyBoardFactory.standardDefinition();
+        random = new SplittableRandom(42);
+        compactGame = new CompactGame(board, playerCount, random.split(), 0);
+    }
+
+    @Benchmark
+    public GameOutcome boardGame() throws InvalidDataException {
+        return simulator.playGame(random.split());
+    }
+
+    @Benchmark
+    public GameOutcome compactGame() {
+        compactGame.reset(random.split());
+        return compactGame.play(MAX_TURNS);
+    }
+}
@@ -0,0 +1,70 @@
+package no.ntnu.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import no.ntnu.Board;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Dice;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.Tile;
+import no.ntnu.tile.UtilityTile;
+
+/**
+ * Builds game states for the benchmarks.
+ */
+final class EngineFixtures {
+    private EngineFixtures() {}
+
+    /**
+     * A game together with the board it was built on.
+     */
+    record Fixture(BoardGame game, Board board) {}
+
+    /**
+     * Build a game on the standard board with the given number of players.
+     */
+    static Fixture newGame(int playerCount) throws InvalidDataException {
+        BoardGame game = new BoardGame(new Dice(2));
+        Board board = MonopolyBoardFactory.sharedBoard();
+        game.setBoard(board);
+        for (int i = 1; i <= playerCount; i++) {
+            game.addPlayer(new Player("Player " + i));
+        }
+        return new Fixture(game, board);
+    }
+
+    /**
+     * Hand out a share of the ownable tiles to random players, and build
+     * random houses on every completed colour group, like a late-game board.
+     *
+     * @param density share of ownable tiles that get an owner, 0 to 1
+     */
+    static void distributeOwnership(Fixture fixture, double density, long seed) {
+        Random rnd = new Random(seed);
+        List<Player> players = fixture.game().getPlayers();
+        for (int id = 1; id <= fixture.board().getTileCount(); id++) {
+            Tile tile = fixture.board().getTileById(id);
+            if (tile.getPrice() == 0 || rnd.nextDouble() >= density) {
+                continue;
+            }
+            Player owner = players.get(rnd.nextInt(players.size()));
+            if (tile instanceof PropertyTile || tile instanceof RailroadTile || tile instanceof UtilityTile) {
+                fixture.game().setOwner(tile, owner);
+            }
+        }
+        for (Player player : players) {
+            for (PropertyTile property : player.getOwnedProperties()) {
+                if (player.hasMonopoly(property.getColor())) {
+                    // Five stands for a hotel, as in BoardState
+                    fixture.game().setBuildings(property, rnd.nextInt(BoardState.HOTEL + 1));
+                }
+            }
+        }
+    }
+}
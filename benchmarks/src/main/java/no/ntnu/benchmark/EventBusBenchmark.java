@@ -0,0 +1,100 @@
+package no.ntnu.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.observer.GameEventBus;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Cost on the game thread of notifying a slow observer directly versus through the event bus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventBusBenchmark {
+    private BoardGame directGame;
+    private BoardGame busGame;
+    private GameEventBus bus;
+    private Player payer;
+    private Player owner;
+    private Tile tile;
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture direct = EngineFixtures.newGame(2);
+        directGame = direct.game();
+        directGame.addObserver(new SlowObserver());
+
+        EngineFixtures.Fixture viaBus = EngineFixtures.newGame(2);
+        busGame = viaBus.game();
+        bus = new GameEventBus(4096);
+        bus.subscribe(new SlowObserver());
+        busGame.addObserver(bus);
+
+        payer = directGame.getPlayers().get(0);
+        owner = directGame.getPlayers().get(1);
+        tile = direct.board().getTileById(40);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bus.close();
+    }
+
+    @Benchmark
+    public void direct() {
+        directGame.notifyRentPaid(payer, owner, tile, 50);
+    }
+
+    @Benchmark
+    public void eventBus() {
+        busGame.notifyRentPaid(payer, owner, tile, 50);
+    }
+
+    /**
+     * Observer that spends about a microsecond per event, like formatting a log line.
+     */
+    private static class SlowObserver implements GameObserver {
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {}
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {}
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {}
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {}
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            Blackhole.consumeCPU(1000);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {}
+
+        @Override
+        public void onGameEnd(Player winner) {}
+    }
+}
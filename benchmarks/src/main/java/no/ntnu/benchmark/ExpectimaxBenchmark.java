@@ -0,0 +1,71 @@
+package no.ntnu.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.BoardGame;
+import no.ntnu.search.ExpectimaxPlayer;
+import no.ntnu.search.TranspositionTable;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.Tile;
+
+/**
+ * Latency of one expectimax buy decision on a mid-game board, by search depth,
+ * with and without a transposition table. The table is cleared before every
+ * decision, so it only pays off through positions repeated within one search.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectimaxBenchmark {
+    @Param({"1", "2", "3"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean table;
+
+    private ExpectimaxPlayer player;
+    private TranspositionTable transpositions;
+    private BoardGame game;
+    private Tile offered;
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(4);
+        EngineFixtures.distributeOwnership(fixture, 0.5, 42);
+        game = fixture.game();
+        for (int id = 1; id <= fixture.board().getTileCount() && offered == null; id++) {
+            if (fixture.board().getTileById(id) instanceof PropertyTile pt && game.getOwner(pt) == null) {
+                offered = pt;
+            }
+        }
+        player = new ExpectimaxPlayer(depth, Duration.ofSeconds(10));
+        if (table) {
+            transpositions = new TranspositionTable(1 << 14);
+            player.setTranspositionTable(transpositions);
+        }
+    }
+
+    @Benchmark
+    public boolean decide() {
+        if (transpositions != null) {
+            transpositions.clear();
+        }
+        return player.shouldBuy(game, game.getCurrentPlayer(), offered);
+    }
+}
@@ -0,0 +1,40 @@
+package no.ntnu.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.Board;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+
+/**
+ * Cost of building a standard board for a caller that wants its own, and of
+ * getting the shared one every game plays on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+
+    @Benchmark
+    public Board createBoard() throws InvalidDataException {
+        return MonopolyBoardFactory.createBoard(MonopolyBoardFactory.standardDefinition());
+    }
+
+    @Benchmark
+    public Board sharedBoard() {
+        return MonopolyBoardFactory.sharedBoard();
+    }
+}
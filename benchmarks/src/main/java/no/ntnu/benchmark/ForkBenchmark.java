@@ -0,0 +1,60 @@
+package no.ntnu.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.BoardGame;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.simulation.CompactGame;
+
+/**
+ * Cost of branching a running game for what-if analysis.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForkBenchmark {
+    @Param({"2", "4"})
+    public int playerCount;
+
+    private BoardGame game;
+    private CompactGame compactGame;
+    private final SplittableRandom random = new SplittableRandom(17);
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(playerCount);
+        EngineFixtures.distributeOwnership(fixture, 0.5, 42);
+        game = fixture.game();
+        compactGame = new CompactGame(MonopolyBoardFactory.standardDefinition(), playerCount,
+            new SplittableRandom(5), 0);
+        for (int i = 0; i < 60; i++) {
+            compactGame.step();
+        }
+    }
+
+    @Benchmark
+    public BoardGame boardGame() {
+        return game.fork(random.split());
+    }
+
+    @Benchmark
+    public CompactGame compactGame() {
+        return compactGame.fork(random.split());
+    }
+}
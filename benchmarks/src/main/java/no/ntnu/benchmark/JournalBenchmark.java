@@ -0,0 +1,95 @@
+package no.ntnu.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.Player;
+import no.ntnu.journal.GameJournal;
+import no.ntnu.journal.GameJournalReader;
+import no.ntnu.tile.Tile;
+
+/**
+ * Writing and reading the binary game journal, in events per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+    private static final int EVENTS = 1_000_000;
+
+    private Path directory;
+    private List<Player> players;
+    private Tile from;
+    private Tile to;
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(4);
+        players = fixture.game().getPlayers();
+        from = fixture.board().getTileById(7);
+        to = fixture.board().getTileById(12);
+        directory = Files.createTempDirectory("journal-bench");
+        writeEvents();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long write() throws IOException {
+        return writeEvents();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long read() throws IOException {
+        long sum = 0;
+        try (GameJournalReader reader = new GameJournalReader(directory)) {
+            while (reader.next()) {
+                sum += reader.getTileId() + reader.getAmount();
+            }
+        }
+        return sum;
+    }
+
+    private long writeEvents() throws IOException {
+        try (GameJournal journal = new GameJournal(directory)) {
+            for (int i = 0; i < EVENTS; i += 4) {
+                Player player = players.get(i & 3);
+                journal.onDiceRoll(player, 1 + (i % 6), 1 + (i / 6 % 6));
+                journal.onPlayerMoved(player, from, to, 5);
+                journal.onTileAction(player, "PropertyAction", to);
+                journal.onRentPaid(player, players.get((i + 1) & 3), to, 10 + (i & 15));
+            }
+            return journal.getRecordCount();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package no.ntnu.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.search.MctsPlayer;
+import no.ntnu.tile.Tile;
+
+/**
+ * Rollout throughput of the tree search by pool size. Each operation is one
+ * buy decision on a mid-game board; the rollouts counter, reported per
+ * second, shows how the search scales with threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MctsBenchmark {
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private MctsPlayer player;
+    private BoardGame game;
+    private Tile offered;
+
+    /**
+     * Rollouts played by the measured searches.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rollouts {
+        public long rollouts;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(4);
+        EngineFixtures.distributeOwnership(fixture, 0.5, 42);
+        game = fixture.game();
+        for (int id = 1; id <= fixture.board().getTileCount() && offered == null; id++) {
+            Tile tile = fixture.board().getTileById(id);
+            if (tile.getPrice() > 0 && !isOwned(tile)) {
+                offered = tile;
+            }
+        }
+        pool = new ForkJoinPool(threads);
+        player = new MctsPlayer(Duration.ofMillis(50), pool,
+            PlayerStrategy.withReserve(MctsPlayer.DEFAULT_ROLLOUT_RESERVE), MctsPlayer.DEFAULT_HORIZON, 7);
+    }
+
+    private boolean isOwned(Tile tile) {
+        for (Player owner : game.getPlayers()) {
+            if (owner.getOwnedProperties().contains(tile) || owner.getOwnedRailroads().contains(tile)
+                || owner.getOwnedUtilities().contains(tile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public boolean decide(Rollouts counter) {
+        boolean buy = player.shouldBuy(game, game.getCurrentPlayer(), offered);
+        counter.rollouts += player.getLastSearch().rollouts();
+        return buy;
+    }
+}
@@ -0,0 +1,109 @@
+package no.ntnu.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Fan-out of game events to registered observers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObserverDispatchBenchmark {
+
+    @Param({"0", "1", "4"})
+    public int observerCount;
+
+    private BoardGame game;
+    private Player payer;
+    private Player owner;
+    private Tile tile;
+
+    @Setup
+    public void setUp(Blackhole bh) throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(2);
+        game = fixture.game();
+        payer = game.getPlayers().get(0);
+        owner = game.getPlayers().get(1);
+        tile = fixture.board().getTileById(40);
+        for (int i = 0; i < observerCount; i++) {
+            game.addObserver(new ConsumingObserver(bh));
+        }
+    }
+
+    @Benchmark
+    public void notifyRentPaid() {
+        game.notifyRentPaid(payer, owner, tile, 50);
+    }
+
+    @Benchmark
+    public void notifyPropertyAvailable() {
+        game.notifyPropertyAvailable(payer, tile);
+    }
+
+    /**
+     * Observer that hands every event to the blackhole so nothing is optimised away.
+     */
+    private static class ConsumingObserver implements GameObserver {
+        private final Blackhole bh;
+
+        ConsumingObserver(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            bh.consume(die1 + die2);
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            bh.consume(to);
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            bh.consume(actionName);
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            bh.consume(property);
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            bh.consume(amount);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            bh.consume(player);
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            bh.consume(winner);
+        }
+    }
+}
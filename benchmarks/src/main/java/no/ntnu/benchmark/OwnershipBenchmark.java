@@ -0,0 +1,89 @@
+package no.ntnu.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+
+/**
+ * Rent and ownership queries made on every rent payment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OwnershipBenchmark {
+    private static final PropertyColor[] COLORS = PropertyColor.values();
+
+    @Param({"2", "4", "6"})
+    public int playerCount;
+
+    @Param({"0.25", "0.5", "1.0"})
+    public double ownershipDensity;
+
+    private BoardGame game;
+    private List<Player> players;
+    private PropertyTile[] ownedProperties;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        EngineFixtures.Fixture fixture = EngineFixtures.newGame(playerCount);
+        EngineFixtures.distributeOwnership(fixture, ownershipDensity, 42);
+        game = fixture.game();
+        players = game.getPlayers();
+        ownedProperties = players.stream()
+            .flatMap(p -> p.getOwnedProperties().stream())
+            .toArray(PropertyTile[]::new);
+    }
+
+    private Player nextPlayer() {
+        next = (next + 1) % players.size();
+        return players.get(next);
+    }
+
+    @Benchmark
+    public int propertyRent() {
+        if (ownedProperties.length == 0) {
+            return 0;
+        }
+        next = (next + 1) % ownedProperties.length;
+        return ownedProperties[next].getRent(game);
+    }
+
+    @Benchmark
+    public void hasMonopoly(Blackhole bh) {
+        Player player = nextPlayer();
+        for (PropertyColor color : COLORS) {
+            bh.consume(player.hasMonopoly(color));
+        }
+    }
+
+    @Benchmark
+    public int ownedRailroads() {
+        return nextPlayer().getOwnedRailroads().size();
+    }
+
+    @Benchmark
+    public int ownedUtilities() {
+        return nextPlayer().getOwnedUtilities().size();
+    }
+}
@@ -0,0 +1,58 @@
+package no.ntnu.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import no.ntnu.simulation.PurchasePolicy;
+import no.ntnu.simulation.Replay;
+import no.ntnu.simulation.ReplayResult;
+import no.ntnu.simulation.ReplayVerifier;
+import no.ntnu.simulation.Replayer;
+
+/**
+ * Verification of recorded games, one at a time and as a parallel batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+    private static final int BATCH = 1000;
+
+    private final Replayer replayer = new Replayer();
+    private final List<Replay> replays = new ArrayList<>();
+    private ReplayVerifier verifier;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> names = List.of("Player 1", "Player 2", "Player 3", "Player 4");
+        for (int seed = 0; seed < BATCH; seed++) {
+            replays.add(replayer.record(seed, names, PurchasePolicy.withReserve(150), 1000));
+        }
+        verifier = new ReplayVerifier(replayer);
+    }
+
+    @Benchmark
+    public ReplayResult verifyOne() throws Exception {
+        return replayer.verify(replays.get(0));
+    }
+
+    @Benchmark
+    public ReplayVerifier.Report verifyBatch() {
+        return verifier.verifyAll(replays);
+    }
+}
@@ -1,15 +1,32 @@
 package no.ntnu;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
 import no.ntnu.tile.Tile;
 
 /**
  * Represents the game board containing all tiles in a circular linked structure.
+ * <p>
+ * Tiles are looked up by ID in an array. Once the tiles are linked,
+ * {@link #buildIndex()} records the position of every tile on the loop so
+ * movement can be computed without walking the links.
+ * <p>
+ * Boards built from a {@link BoardDefinition} keep a reference to it, so the
+ * immutable description can be shared instead of rebuilt from the tiles.
  */
 public class Board {
+    private static final int INITIAL_CAPACITY = 41;
+
     private Tile firstTile;
-    private final Map<Integer, Tile> tileMap = new HashMap<>();
+    private Tile[] tilesById = new Tile[INITIAL_CAPACITY];
+    private int tileCount = 0;
+    private Tile[] tilesByPosition;
+    private int[] positionById;
+    private BoardDefinition definition;
 
     /**
      * Gets the first tile on the board (typically "GO").
@@ -27,25 +44,59 @@ public class Board {
      */
     public void setFirstTile(Tile tile) {
         this.firstTile = tile;
+        this.tilesByPosition = null;
+        this.definition = null;
         if (tile != null) {
-            tileMap.put(tile.getId(), tile);
+            registerTile(tile);
         }
     }
 
     /**
-     * Registers a tile in the board's lookup map.
+     * Registers a tile in the board's lookup table.
+     * Registering a second tile with an existing ID is ignored.
      * 
      * @param tile the tile to register
-     * @throws IllegalArgumentException if tile is null or ID already exists
+     * @throws IllegalArgumentException if tile is null or has a negative ID
      */
     public void registerTile(Tile tile) {
         if (tile == null) {
             throw new IllegalArgumentException("Cannot register null tile");
         }
-        if (tileMap.containsKey(tile.getId())) {
+        int id = tile.getId();
+        if (id < 0) {
+            throw new IllegalArgumentException("Tile ID cannot be negative: " + id);
+        }
+        if (id >= tilesById.length) {
+            Tile[] grown = new Tile[Math.max(id + 1, tilesById.length * 2)];
+            System.arraycopy(tilesById, 0, grown, 0, tilesById.length);
+            tilesById = grown;
+        }
+        if (tilesById[id] != null) {
             return;
         }
-        tileMap.put(tile.getId(), tile);
+        tilesById[id] = tile;
+        tileCount++;
+        tilesByPosition = null;
+        definition = null;
+    }
+
+    /**
+     * Gets the definition this board was built from.
+     * 
+     * @return the definition, or null if the board was assembled by hand or changed since
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Records the definition this board was built from.
+     * Linking or registering further tiles drops it again.
+     * 
+     * @param definition the definition matching the board's tiles
+     */
+    public void setDefinition(BoardDefinition definition) {
+        this.definition = definition;
     }
 
     /**
@@ -55,7 +106,7 @@ public class Board {
      * @return the tile with the given ID, or null if not found
      */
     public Tile getTileById(int id) {
-        return tileMap.get(id);
+        return id >= 0 && id < tilesById.length ? tilesById[id] : null;
     }
 
     /**
@@ -64,7 +115,116 @@ public class Board {
      * @return the number of registered tiles
      */
     public int getTileCount() {
-        return tileMap.size();
+        return tileCount;
+    }
+
+    /**
+     * Records the position of every tile by following the links from the first tile.
+     * <p>
+     * The index is only built when the links form a closed loop back to the
+     * first tile. It is dropped when tiles are registered, and must be rebuilt
+     * if tiles are relinked afterwards.
+     * 
+     * @return true if the board is now indexed
+     */
+    public boolean buildIndex() {
+        tilesByPosition = null;
+        if (firstTile == null) {
+            return false;
+        }
+
+        Tile[] ring = new Tile[tileCount];
+        int size = 0;
+        Tile current = firstTile;
+        do {
+            if (size == ring.length || getTileById(current.getId()) != current) {
+                return false;
+            }
+            ring[size++] = current;
+            current = current.getNextTile();
+        } while (current != null && current != firstTile);
+        if (current == null) {
+            return false;
+        }
+
+        int[] positions = new int[tilesById.length];
+        Arrays.fill(positions, -1);
+        for (int position = 0; position < size; position++) {
+            positions[ring[position].getId()] = position;
+        }
+        positionById = positions;
+        tilesByPosition = size == ring.length ? ring : Arrays.copyOf(ring, size);
+        return true;
+    }
+
+    /**
+     * Checks if the board has a position index.
+     * 
+     * @return true if {@link #buildIndex()} succeeded and nothing has changed since
+     */
+    public boolean isIndexed() {
+        return tilesByPosition != null;
+    }
+
+    /**
+     * Gets the number of tiles on the indexed loop.
+     * 
+     * @return loop length, or 0 if the board is not indexed
+     */
+    public int getLoopLength() {
+        return tilesByPosition != null ? tilesByPosition.length : 0;
+    }
+
+    /**
+     * Gets the position of a tile on the loop, counted from the first tile.
+     * 
+     * @param tile the tile to look up
+     * @return the position, or -1 if the board is not indexed or the tile is not on it
+     */
+    public int getPosition(Tile tile) {
+        Tile[] ring = tilesByPosition;
+        if (ring == null || tile == null) {
+            return -1;
+        }
+        int id = tile.getId();
+        if (id < 0 || id >= positionById.length) {
+            return -1;
+        }
+        int position = positionById[id];
+        return position >= 0 && ring[position] == tile ? position : -1;
+    }
+
+    /**
+     * Gets the tile at a position on the loop.
+     * 
+     * @param position the position, counted from the first tile
+     * @return the tile at that position
+     * @throws IllegalStateException if the board is not indexed
+     */
+    public Tile getTileAt(int position) {
+        if (tilesByPosition == null) {
+            throw new IllegalStateException("Board has no position index");
+        }
+        return tilesByPosition[position];
+    }
+
+    /**
+     * Gets the properties of one colour group in loop order.
+     * 
+     * @param color the group colour
+     * @return a new list of the group's properties, empty if the board is not indexed
+     */
+    public List<PropertyTile> getGroup(PropertyColor color) {
+        List<PropertyTile> group = new ArrayList<>();
+        Tile[] ring = tilesByPosition;
+        if (ring != null) {
+            for (Tile tile : ring) {
+                if (tile instanceof PropertyTile pt && pt.getColor() == color) {
+                    group.add(pt);
+                }
+            }
+        }
+        return group;
     }
 
     /**
@@ -76,8 +236,8 @@ public class Board {
         if (firstTile == null) {
             throw new IllegalStateException("Board has no first tile");
         }
-        if (tileMap.size() != 40) {
-            throw new IllegalStateException("Board should have exactly 40 tiles, but has " + tileMap.size());
+        if (tileCount != 40) {
+            throw new IllegalStateException("Board should have exactly 40 tiles, but has " + tileCount);
         }
         
         Tile current = firstTile;
@@ -94,4 +254,4 @@ public class Board {
             throw new IllegalStateException("Board circularity issue - counted " + count + " tiles");
         }
     }
-}
\ No newline at end of file
+}
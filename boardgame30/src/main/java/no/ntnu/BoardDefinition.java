@@ -0,0 +1,344 @@
+package no.ntnu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import no.ntnu.action.ChanceAction;
+import no.ntnu.action.ChestAction;
+import no.ntnu.action.GoAction;
+import no.ntnu.action.GoToJailAction;
+import no.ntnu.action.PropertyAction;
+import no.ntnu.action.RailroadAction;
+import no.ntnu.action.SkipTurnAction;
+import no.ntnu.action.TaxAction;
+import no.ntnu.action.TileAction;
+import no.ntnu.action.UtilityAction;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.RentTable;
+import no.ntnu.tile.Tile;
+import no.ntnu.tile.TileKind;
+import no.ntnu.tile.UtilityTile;
+
+/**
+ * Immutable description of a board: tile names, prices, rents, actions and
+ * their order on the loop.
+ * <p>
+ * A definition holds no game state, so one instance can be shared by any
+ * number of games on any number of threads. Ownership and buildings of a
+ * running game are kept separately, see {@link BoardState}. Tiles are
+ * addressed by position, 0 being the first tile.
+ */
+public final class BoardDefinition {
+    private final int[] tileIds;
+    private final String[] names;
+    private final TileKind[] kinds;
+    private final int[] prices;
+    private final int[] housePrices;
+    private final PropertyColor[] colors;
+    private final RentTable[] rents;
+    /** GO salary, tax amount or jail position, depending on the kind. */
+    private final int[] amounts;
+    private final int[] positionById;
+
+    private BoardDefinition(List<Space> spaces) {
+        int size = spaces.size();
+        tileIds = new int[size];
+        names = new String[size];
+        kinds = new TileKind[size];
+        prices = new int[size];
+        housePrices = new int[size];
+        colors = new PropertyColor[size];
+        rents = new RentTable[size];
+        amounts = new int[size];
+
+        int maxId = 0;
+        for (Space space : spaces) {
+            maxId = Math.max(maxId, space.id);
+        }
+        positionById = new int[maxId + 1];
+        Arrays.fill(positionById, -1);
+
+        for (int position = 0; position < size; position++) {
+            Space space = spaces.get(position);
+            if (positionById[space.id] >= 0) {
+                throw new IllegalArgumentException("Duplicate tile ID " + space.id);
+            }
+            positionById[space.id] = position;
+            tileIds[position] = space.id;
+            names[position] = space.name;
+            kinds[position] = space.kind;
+            prices[position] = space.price;
+            housePrices[position] = space.housePrice;
+            colors[position] = space.color;
+            rents[position] = space.rents;
+            amounts[position] = space.amount;
+        }
+        for (int position = 0; position < size; position++) {
+            if (kinds[position] == TileKind.GO_TO_JAIL) {
+                int jailPosition = getPosition(amounts[position]);
+                if (jailPosition < 0) {
+                    throw new IllegalArgumentException("Jail tile #" + amounts[position] + " is not on the board");
+                }
+                amounts[position] = jailPosition;
+            }
+        }
+    }
+
+    /**
+     * Starts a new definition. Tiles are placed on the loop in the order they are added.
+     * 
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Describes an existing board from its tiles and actions.
+     * Boards built by MonopolyBoardFactory already carry their definition.
+     * 
+     * @param board the board, after {@link Board#buildIndex()}
+     * @return the definition
+     * @throws IllegalArgumentException if the board is not indexed or uses an unknown action
+     */
+    public static BoardDefinition of(Board board) {
+        if (board.getDefinition() != null) {
+            return board.getDefinition();
+        }
+        if (!board.isIndexed()) {
+            throw new IllegalArgumentException("Board must be indexed");
+        }
+        Builder builder = builder();
+        for (int position = 0; position < board.getLoopLength(); position++) {
+            Tile tile = board.getTileAt(position);
+            describe(builder, tile, tile.getAction());
+        }
+        return builder.build();
+    }
+
+    private static void describe(Builder builder, Tile tile, TileAction action) {
+        int id = tile.getId();
+        String name = tile.getName();
+        if (action == null) {
+            builder.addSpace(id, name, TileKind.PLAIN);
+        } else if (action instanceof GoAction go) {
+            builder.addGo(id, name, go.getAmount());
+        } else if (action instanceof PropertyAction && tile instanceof PropertyTile pt) {
+            builder.addProperty(id, name, pt.getColor(), pt.getPrice(), pt.getHousePrice(), pt.getRentTable());
+        } else if (action instanceof RailroadAction && tile instanceof RailroadTile rt) {
+            builder.addRailroad(id, name, rt.getPrice(), rt.getRentTable());
+        } else if (action instanceof UtilityAction && tile instanceof UtilityTile ut) {
+            builder.addUtility(id, name, ut.getPrice(), ut.getRentTable());
+        } else if (action instanceof TaxAction tax) {
+            builder.addTax(id, name, tax.getAmount());
+        } else if (action instanceof ChanceAction) {
+            builder.addSpace(id, name, TileKind.CHANCE);
+        } else if (action instanceof ChestAction) {
+            builder.addSpace(id, name, TileKind.CHEST);
+        } else if (action instanceof GoToJailAction jail) {
+            builder.addGoToJail(id, name, jail.getJailTile().getId());
+        } else if (action instanceof SkipTurnAction) {
+            builder.addSpace(id, name, TileKind.SKIP_TURN);
+        } else {
+            throw new IllegalArgumentException("Unsupported action on tile #" + id
+                + ": " + action.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Gets the number of tiles on the loop.
+     * 
+     * @return board size
+     */
+    public int getSize() {
+        return kinds.length;
+    }
+
+    /**
+     * Gets the position of a tile.
+     * 
+     * @param tileId the tile ID
+     * @return the position, or -1 if no tile has that ID
+     */
+    public int getPosition(int tileId) {
+        return tileId >= 0 && tileId < positionById.length ? positionById[tileId] : -1;
+    }
+
+    public int getTileId(int position) {
+        return tileIds[position];
+    }
+
+    public String getName(int position) {
+        return names[position];
+    }
+
+    public TileKind getKind(int position) {
+        return kinds[position];
+    }
+
+    /**
+     * Gets the purchase price of a tile.
+     * 
+     * @param position the tile position
+     * @return the price, 0 for tiles that cannot be bought
+     */
+    public int getPrice(int position) {
+        return prices[position];
+    }
+
+    public int getHousePrice(int position) {
+        return housePrices[position];
+    }
+
+    /**
+     * Gets the color group of a property.
+     * 
+     * @param position the tile position
+     * @return the color, or null for other tiles
+     */
+    public PropertyColor getColor(int position) {
+        return colors[position];
+    }
+
+    /**
+     * Gets the rent table of an ownable tile.
+     * 
+     * @param position the tile position
+     * @return the rent table, or null for other tiles
+     */
+    public RentTable getRentTable(int position) {
+        return rents[position];
+    }
+
+    /**
+     * Gets the amount paid on a GO or tax tile.
+     * 
+     * @param position the tile position
+     * @return the amount
+     */
+    public int getAmount(int position) {
+        return amounts[position];
+    }
+
+    /**
+     * Gets where a go-to-jail tile sends the player.
+     * 
+     * @param position the position of a go-to-jail tile
+     * @return the jail position
+     */
+    public int getJailPosition(int position) {
+        return amounts[position];
+    }
+
+    /**
+     * Computes a hash of everything that affects play: topology, kinds, prices,
+     * rents and amounts. Names are left out. Two definitions with the same
+     * fingerprint play the same game for the same dice.
+     *
+     * @return the fingerprint
+     */
+    public long fingerprint() {
+        long hash = 0xCBF29CE484222325L;
+        for (int position = 0; position < kinds.length; position++) {
+            hash = mix(hash, tileIds[position]);
+            hash = mix(hash, kinds[position].ordinal());
+            hash = mix(hash, prices[position]);
+            hash = mix(hash, housePrices[position]);
+            hash = mix(hash, colors[position] != null ? colors[position].ordinal() + 1 : 0);
+            hash = mix(hash, amounts[position]);
+            RentTable table = rents[position];
+            int levels = table != null ? table.size() : 0;
+            hash = mix(hash, levels);
+            for (int level = 0; level < levels; level++) {
+                hash = mix(hash, table.get(level));
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001B3L;
+    }
+
+    /**
+     * Collects the tiles of a definition in loop order.
+     */
+    public static final class Builder {
+        private final List<Space> spaces = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Adds a tile without a purchase or rent, such as chance, chest, jail or free parking.
+         */
+        public Builder addSpace(int id, String name, TileKind kind) {
+            if (kind.isOwnable() || kind == TileKind.GO || kind == TileKind.TAX || kind == TileKind.GO_TO_JAIL) {
+                throw new IllegalArgumentException(kind + " needs its own builder method");
+            }
+            return add(new Space(id, name, kind, null, 0, 0, null, 0));
+        }
+
+        public Builder addGo(int id, String name, int salary) {
+            return add(new Space(id, name, TileKind.GO, null, 0, 0, null, salary));
+        }
+
+        public Builder addProperty(int id, String name, PropertyColor color, int price, int housePrice,
+                                   RentTable rents) {
+            return add(new Space(id, name, TileKind.PROPERTY, color, price, housePrice, rents, 0));
+        }
+
+        public Builder addRailroad(int id, String name, int price, RentTable rents) {
+            return add(new Space(id, name, TileKind.RAILROAD, null, price, 0, rents, 0));
+        }
+
+        public Builder addUtility(int id, String name, int price, RentTable rents) {
+            return add(new Space(id, name, TileKind.UTILITY, null, price, 0, rents, 0));
+        }
+
+        public Builder addTax(int id, String name, int amount) {
+            return add(new Space(id, name, TileKind.TAX, null, 0, 0, null, amount));
+        }
+
+        /**
+         * Adds a tile that sends the player to the jail tile with the given ID.
+         */
+        public Builder addGoToJail(int id, String name, int jailTileId) {
+            return add(new Space(id, name, TileKind.GO_TO_JAIL, null, 0, 0, null, jailTileId));
+        }
+
+        private Builder add(Space space) {
+            if (space.id < 0) {
+                throw new IllegalArgumentException("Tile ID cannot be negative: " + space.id);
+            }
+            spaces.add(space);
+            return this;
+        }
+
+        /**
+         * Creates the definition.
+         * 
+         * @return the immutable definition
+         * @throws IllegalArgumentException if IDs repeat or a jail tile is missing
+         */
+        public BoardDefinition build() {
+            if (spaces.isEmpty()) {
+                throw new IllegalArgumentException("Board has no tiles");
+            }
+            return new BoardDefinition(spaces);
+        }
+    }
+
+    private record Space(
+        int id,
+        String name,
+        TileKind kind,
+        PropertyColor color,
+        int price,
+        int housePrice,
+        RentTable rents,
+        int amount
+    ) {}
+}
@@ -1,36 +1,316 @@
 package no.ntnu;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.random.RandomGenerator;
+import no.ntnu.observer.DispatchProfiler;
+import no.ntnu.observer.GameEventKind;
 import no.ntnu.observer.GameObserver;
+import no.ntnu.observer.ObserverStats;
+import no.ntnu.observer.TurnBatchObserver;
+import no.ntnu.observer.TurnEventRecorder;
+import no.ntnu.profiling.AllocationProfiler;
+import no.ntnu.profiling.TurnPhase;
 import no.ntnu.tile.Tile;
 import no.ntnu.tile.UtilityTile;
 import no.ntnu.tile.PropertyTile;
 import no.ntnu.tile.RailroadTile;
 import no.ntnu.action.TileAction;
+import no.ntnu.jfr.BankruptcyEvent;
+import no.ntnu.jfr.EngineEvents;
+import no.ntnu.jfr.TileActionEvent;
+import no.ntnu.jfr.TurnEvent;
 
 /**
  * Central class controlling Monopoly gameplay.
+ * <p>
+ * Observers are kept in one array per event kind, holding those that declared
+ * an interest in it, so events nobody wants cost no work. The arrays are
+ * replaced, never changed, when observers are added or removed, so this can
+ * happen during dispatch or from another thread: an event being delivered
+ * still goes to the observers registered when it started. With a
+ * {@link DispatchProfiler} installed, the arrays hold timing wrappers instead.
+ * Turns, rolls, actions, rents, purchases and bankruptcies are also reported
+ * as Flight Recorder events, see {@link EngineEvents}, and allocation per
+ * turn can be measured with an {@link AllocationProfiler}.
+ * <p>
+ * Players with a {@link PlayerStrategy} make their own decisions inside
+ * {@link #playTurn()}, so games of such players run without a controller.
+ * Searches can recognise positions they have seen before by their
+ * {@link #getPositionHash(int) hash}, which the game updates incrementally.
+ * <p>
+ * On a board with a position index, who owns each tile and what is built on
+ * it is kept in a {@link BoardState} of this game, by board position and
+ * seat, rather than in the tiles, so games on the same definition share one
+ * board of tiles and actions. Boards assembled by hand without an index keep
+ * that state in their tiles, as they always have.
  */
 public class BoardGame {
+    /** Amount a jailed player pays to get out. */
+    public static final int JAIL_FINE = 50;
+    /** Most buildings a strategy can put up in one turn. */
+    public static final int MAX_BUILDS_PER_TURN = 64;
+
+    private static final GameEventKind[] EVENT_KINDS = GameEventKind.values();
+    private static final GameObserver[] NO_OBSERVERS = new GameObserver[0];
+
     private final Dice dice;
+    private final RandomGenerator random;
     private Board board;
+    /** Owners by seat and buildings by board position, created on the first change. */
+    private BoardState state;
+    /** Set while the state may be shared with a fork; copied before the next write. */
+    private boolean stateShared;
     private final List<Player> players = new ArrayList<>();
+    /** Registered observers, weakly held ones wrapped in a {@link WeakObserver}. Guarded by itself. */
     private final List<GameObserver> observers = new ArrayList<>();
+    private volatile GameObserver[][] observersByKind = subscribersByKind(List.of(), null);
+    private volatile boolean observersCleared = false;
+    private volatile TurnEventRecorder turnRecorder;
+    private DispatchProfiler profiler;
+    private AllocationProfiler allocationProfiler;
     private int currentPlayerIndex = 0;
     private boolean finished = false;
     private Player winner = null;
     private int lastRoll;
+    private int turnCount = 0;
+    private Player offeredTo;
+    private Tile offeredTile;
+    /** XOR of the {@link ZobristKeys} of player positions, owners and buildings. */
+    private long zobrist;
 
     public BoardGame(Dice dice) {
+        this(dice, new SplittableRandom());
+    }
+
+    /**
+     * Creates a game where two six-sided dice and all cards draw from one
+     * random source, so the same seed replays the same game.
+     * 
+     * @param random the random source for the game
+     */
+    public BoardGame(RandomGenerator random) {
+        this(new Dice(2, random), random);
+    }
+
+    /**
+     * Creates a game with given dice and a random source for cards.
+     * 
+     * @param dice the dice to roll
+     * @param random the random source for card actions
+     */
+    public BoardGame(Dice dice, RandomGenerator random) {
         this.dice = dice;
+        this.random = random;
     }
 
     public void setBoard(Board board) {
         this.board = board;
+        this.state = null;
+        this.stateShared = false;
+        rehash();
+    }
+
+    public Board getBoard() {
+        return board;
     }
 
+    /**
+     * Registers an observer for the event kinds it is interested in.
+     * 
+     * @param observer the observer, whose interests are read once here
+     */
     public void addObserver(GameObserver observer) {
-        observers.add(observer);
+        synchronized (observers) {
+            observers.add(observer);
+            rebuildObservers();
+        }
+    }
+
+    /**
+     * Registers an observer without keeping it reachable. Once the observer is
+     * garbage collected it stops receiving events and its registration is
+     * dropped at the start of a later turn, so hosts can attach short-lived
+     * views without removing them.
+     * 
+     * @param observer the observer, whose interests are read once here
+     */
+    public void addWeakObserver(GameObserver observer) {
+        synchronized (observers) {
+            observers.add(new WeakObserver(observer, this));
+            rebuildObservers();
+        }
+    }
+
+    /**
+     * Unregisters an observer, whether it was added strongly or weakly.
+     * It gets no events that start after this returns.
+     * 
+     * @param observer the observer to remove
+     * @return true if the observer was registered
+     */
+    public boolean removeObserver(GameObserver observer) {
+        synchronized (observers) {
+            boolean removed = observers.removeIf(registered -> registered == observer
+                || registered instanceof WeakObserver weak && weak.get() == observer);
+            if (removed) {
+                rebuildObservers();
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Gets the number of registered observers, counting weakly held ones that
+     * have not been collected yet. All turn observers together count as one.
+     * 
+     * @return the observer count
+     */
+    public int getObserverCount() {
+        synchronized (observers) {
+            int count = 0;
+            for (GameObserver observer : observers) {
+                if (!(observer instanceof WeakObserver weak) || weak.get() != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Drops the registrations of weakly held observers that have been collected.
+     */
+    private void purgeObservers() {
+        synchronized (observers) {
+            observersCleared = false;
+            if (observers.removeIf(registered -> registered instanceof WeakObserver weak && weak.get() == null)) {
+                rebuildObservers();
+            }
+        }
+    }
+
+    private void rebuildObservers() {
+        observersByKind = subscribersByKind(observers, profiler);
+    }
+
+    /**
+     * Registers an observer that receives each turn's events as one batch
+     * once the turn is over.
+     * 
+     * @param observer the observer, whose interests are read once here
+     */
+    public void addTurnObserver(TurnBatchObserver observer) {
+        synchronized (observers) {
+            if (turnRecorder == null) {
+                turnRecorder = new TurnEventRecorder();
+                observers.add(turnRecorder);
+            }
+            turnRecorder.add(observer);
+            rebuildObservers();
+        }
+    }
+
+    /**
+     * Unregisters a turn observer.
+     * 
+     * @param observer the observer to remove
+     * @return true if the observer was registered
+     */
+    public boolean removeTurnObserver(TurnBatchObserver observer) {
+        synchronized (observers) {
+            if (turnRecorder == null || !turnRecorder.remove(observer)) {
+                return false;
+            }
+            if (turnRecorder.isEmpty()) {
+                observers.remove(turnRecorder);
+                turnRecorder = null;
+            }
+            rebuildObservers();
+            return true;
+        }
+    }
+
+    /**
+     * Times every observer call from now on, including calls into observers
+     * that are already registered.
+     * 
+     * @param profiler the profiler, or null to stop timing
+     */
+    public void setDispatchProfiler(DispatchProfiler profiler) {
+        synchronized (observers) {
+            this.profiler = profiler;
+            rebuildObservers();
+        }
+    }
+
+    public DispatchProfiler getDispatchProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Measures allocation of every following {@link #playTurn()} by phase.
+     * 
+     * @param profiler the profiler, or null to stop measuring
+     */
+    public void setAllocationProfiler(AllocationProfiler profiler) {
+        this.allocationProfiler = profiler;
+    }
+
+    public AllocationProfiler getAllocationProfiler() {
+        return allocationProfiler;
+    }
+
+    /**
+     * Hands the events of the turn that just ended to the turn observers.
+     */
+    private void endTurnBatch() {
+        TurnEventRecorder recorder = turnRecorder;
+        if (recorder != null) {
+            recorder.endTurn(turnCount);
+        }
+    }
+
+    /**
+     * Checks if any observer wants events of a kind, so callers can skip
+     * preparing an event nobody receives.
+     * 
+     * @param kind the event kind
+     * @return true if at least one observer is interested
+     */
+    public boolean hasObservers(GameEventKind kind) {
+        return observersByKind[kind.ordinal()].length > 0;
+    }
+
+    private static GameObserver[][] subscribersByKind(List<GameObserver> observers, DispatchProfiler profiler) {
+        List<GameObserver> targets = observers;
+        if (profiler != null) {
+            targets = new ArrayList<>(observers.size());
+            for (GameObserver observer : observers) {
+                targets.add(observer instanceof WeakObserver weak
+                    ? weak.timedBy(profiler) : profiler.instrument(observer));
+            }
+        }
+        GameObserver[][] byKind = new GameObserver[EVENT_KINDS.length][];
+        for (GameEventKind kind : EVENT_KINDS) {
+            List<GameObserver> subscribers = new ArrayList<>();
+            for (GameObserver observer : targets) {
+                if (observer.getInterests().contains(kind)) {
+                    subscribers.add(observer);
+                }
+            }
+            byKind[kind.ordinal()] = subscribers.isEmpty() ? NO_OBSERVERS : subscribers.toArray(NO_OBSERVERS);
+        }
+        return byKind;
+    }
+
+    /**
+     * Gets the random source that card actions on this game's board draw from.
+     * 
+     * @return the random source
+     */
+    public RandomGenerator getRandom() {
+        return random;
     }
 
     public List<Player> getPlayers() {
@@ -49,15 +329,182 @@ public class BoardGame {
         return currentPlayerIndex;
     }
 
+    /**
+     * Checks if the game has ended.
+     * 
+     * @return true if only one player remains
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the winner of the game.
+     * 
+     * @return the winning player, or null while the game is running
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of turns played so far, including skipped turns.
+     * 
+     * @return the turn count
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Creates an independent copy of this game for what-if analysis, drawing
+     * dice and cards from a generator split off this game's random source.
+     * Splitting advances this game's source, see {@link #fork(RandomGenerator)}
+     * to leave it untouched.
+     * 
+     * @return the fork
+     * @throws IllegalStateException if the random source cannot be split or the game cannot be forked
+     */
+    public BoardGame fork() {
+        if (!(random instanceof RandomGenerator.SplittableGenerator splittable)) {
+            throw new IllegalStateException("Random source cannot be split: " + random.getClass().getSimpleName());
+        }
+        return fork(splittable.split());
+    }
+
+    /**
+     * Creates an independent copy of this game for what-if analysis.
+     * <p>
+     * The fork plays on the same board of tiles and actions as this game and
+     * gets its own players. Ownership and buildings are shared copy-on-write,
+     * so a fork that only moves players costs the player copies. Observers are
+     * not copied. The fork can be played on another thread while this game
+     * continues; call this method from the thread that plays this game.
+     * 
+     * @param forkRandom random source for the fork's two six-sided dice and cards
+     * @return the fork
+     * @throws IllegalStateException if the board is not indexed or a player is not on it
+     */
+    public BoardGame fork(RandomGenerator forkRandom) {
+        if (!usesState()) {
+            throw new IllegalStateException("Only games on an indexed board can be forked");
+        }
+        BoardGame copy = new BoardGame(new Dice(2, forkRandom), forkRandom);
+        copy.board = board;
+        for (Player player : players) {
+            if (board.getPosition(player.getCurrentTile()) < 0) {
+                throw new IllegalStateException(player.getName() + " is not on the board");
+            }
+            copy.players.add(player.copy());
+        }
+        BoardState current = readableState();
+        if (current != null) {
+            copy.state = current;
+            copy.stateShared = true;
+            stateShared = true;
+        }
+
+        copy.currentPlayerIndex = currentPlayerIndex;
+        copy.finished = finished;
+        copy.winner = winner != null ? copy.players.get(players.indexOf(winner)) : null;
+        copy.lastRoll = lastRoll;
+        copy.turnCount = turnCount;
+        copy.zobrist = zobrist;
+        return copy;
+    }
+
     public void addPlayer(Player player) {
         player.setCurrentTile(board.getFirstTile());
         players.add(player);
+        zobrist ^= ZobristKeys.playerPosition(players.size() - 1, board.getPosition(board.getFirstTile()));
+    }
+
+    /**
+     * Gets the Zobrist hash of where the players stand, who owns what and
+     * what is built. The game keeps it up to date as players move, buy, build
+     * and go bankrupt, so reading it is free.
+     * 
+     * @return the hash
+     */
+    public long getZobristHash() {
+        return zobrist;
+    }
+
+    /**
+     * Gets a hash of the whole position for transposition tables: the
+     * {@link #getZobristHash() Zobrist hash} together with whose turn it is,
+     * who is in jail or misses a turn, and every balance rounded down to a
+     * bucket, so positions that differ by small change hash the same.
+     * 
+     * @param balanceBucket size of the balance buckets, 1 to tell every balance apart
+     * @return the hash
+     * @throws IllegalArgumentException if the bucket size is not positive
+     */
+    public long getPositionHash(int balanceBucket) {
+        if (balanceBucket <= 0) {
+            throw new IllegalArgumentException("Balance bucket must be positive, got " + balanceBucket);
+        }
+        long hash = zobrist ^ ZobristKeys.currentPlayer(currentPlayerIndex);
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            hash ^= ZobristKeys.balance(seat, Math.floorDiv(player.getBalance(), balanceBucket));
+            if (player.isInJail()) {
+                hash ^= ZobristKeys.jail(seat, player.getJailTurns());
+            }
+            if (player.isSkipNextTurn()) {
+                hash ^= ZobristKeys.skipNextTurn(seat);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Recomputes the {@link #getZobristHash() Zobrist hash} from scratch.
+     * Needed only after players or tiles were changed directly rather than
+     * through this game, such as when setting up a position by hand.
+     */
+    public void rehash() {
+        long hash = 0;
+        if (board != null) {
+            for (int seat = 0; seat < players.size(); seat++) {
+                hash ^= ZobristKeys.playerPosition(seat, board.getPosition(players.get(seat).getCurrentTile()));
+            }
+            BoardState current = readableState();
+            for (int position = 0; board.isIndexed() && position < board.getLoopLength(); position++) {
+                int seat = current != null ? current.getOwner(position) : -1;
+                if (seat >= 0) {
+                    hash ^= ZobristKeys.owner(position, seat);
+                }
+                if (board.getTileAt(position) instanceof PropertyTile) {
+                    hash ^= ZobristKeys.buildings(position, current != null ? current.getBuildings(position) : 0);
+                }
+            }
+        }
+        zobrist = hash;
+    }
+
+    /**
+     * Gets the index of a player, looking at the current player first.
+     */
+    private int seatOf(Player player) {
+        int current = currentPlayerIndex;
+        return current < players.size() && players.get(current) == player ? current : players.indexOf(player);
+    }
+
+    /**
+     * Updates the hash for a player who moved from one tile to another.
+     */
+    private void hashMove(Player player, Tile from, Tile to) {
+        int seat = seatOf(player);
+        zobrist ^= ZobristKeys.playerPosition(seat, board.getPosition(from))
+            ^ ZobristKeys.playerPosition(seat, board.getPosition(to));
     }
 
     /**
      * Ends current turn and advances to next, handling skips.
      */
     public void nextTurn() {
+        endTurnBatch();
         currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
         Player next = players.get(currentPlayerIndex);
         if (next.isSkipNextTurn()) {
@@ -67,11 +514,196 @@ public class BoardGame {
         }
     }
 
+    /**
+     * Checks if the current board keeps owners and buildings in this game
+     * rather than in its tiles.
+     */
+    private boolean usesState() {
+        return board != null && board.isIndexed();
+    }
+
+    /**
+     * Gets the state of the current board, or null while nothing on it has been owned.
+     */
+    private BoardState readableState() {
+        BoardState current = state;
+        return current != null && current.getSize() == board.getLoopLength() ? current : null;
+    }
+
+    /**
+     * Gets the state of the current board to change it, creating it on first
+     * use and copying it first if a fork shares it.
+     */
+    private BoardState writableState() {
+        if (readableState() == null) {
+            state = new BoardState(board.getLoopLength());
+            stateShared = false;
+        } else if (stateShared) {
+            state = state.copy();
+            stateShared = false;
+        }
+        return state;
+    }
+
+    /**
+     * Gets the owner of a tile in this game.
+     * 
+     * @param tile the tile
+     * @return the owner, or null if the tile is unowned, cannot be owned or is not on the indexed board
+     */
+    public Player getOwner(Tile tile) {
+        if (!usesState()) {
+            return ownerInTile(tile);
+        }
+        int position = board.getPosition(tile);
+        BoardState current = position >= 0 ? readableState() : null;
+        int seat = current != null ? current.getOwner(position) : -1;
+        return seat >= 0 ? players.get(seat) : null;
+    }
+
+    /**
+     * Gets what is built on a property in this game.
+     * 
+     * @param property the property
+     * @return the number of houses, or {@link BoardState#HOTEL} for a hotel
+     */
+    public int getBuildings(PropertyTile property) {
+        if (!usesState()) {
+            return buildingsInTile(property);
+        }
+        int position = board.getPosition(property);
+        BoardState current = position >= 0 ? readableState() : null;
+        return current != null ? current.getBuildings(position) : 0;
+    }
+
+    /**
+     * Gives a tile to a player, or back to the bank, without paying and
+     * without events. Buildings stay unless the tile goes back to the bank.
+     * Used to set up a position by hand.
+     * 
+     * @param tile an ownable tile on the board
+     * @param owner a player in this game, or null for the bank
+     * @throws IllegalArgumentException if the tile cannot be owned here or the owner is not playing
+     */
+    public void setOwner(Tile tile, Player owner) {
+        int position = usesState() ? board.getPosition(tile) : 0;
+        if (position < 0 || !isOwnable(tile)) {
+            throw new IllegalArgumentException(tile.getName() + " cannot be owned on this board");
+        }
+        int seat = owner != null ? seatOf(owner) : -1;
+        if (owner != null && seat < 0) {
+            throw new IllegalArgumentException(owner.getName() + " is not in the game");
+        }
+        Player previous = getOwner(tile);
+        if (previous == owner) {
+            return;
+        }
+        if (previous != null) {
+            previous.removeOwned(tile);
+        }
+        if (usesState()) {
+            writableState().setOwner(position, seat);
+            if (owner == null) {
+                state.setBuildings(position, 0);
+            }
+        } else {
+            setOwnerInTile(tile, owner);
+            if (owner == null && tile instanceof PropertyTile property) {
+                setBuildingsInTile(property, 0);
+            }
+        }
+        if (owner != null) {
+            owner.addOwned(tile);
+        }
+        rehash();
+    }
+
+    /**
+     * Puts buildings on a property without paying and without events. Used to
+     * set up a position by hand.
+     * 
+     * @param property a property on the board
+     * @param level number of houses, or {@link BoardState#HOTEL} for a hotel
+     * @throws IllegalArgumentException if the property is not on the board or the level is out of range
+     */
+    public void setBuildings(PropertyTile property, int level) {
+        if (level < 0 || level > BoardState.HOTEL) {
+            throw new IllegalArgumentException("Building level out of range: " + level);
+        }
+        if (!usesState()) {
+            setBuildingsInTile(property, level);
+            return;
+        }
+        int position = board.getPosition(property);
+        if (position < 0) {
+            throw new IllegalArgumentException(property.getName() + " is not on this board");
+        }
+        writableState().setBuildings(position, level);
+        rehash();
+    }
+
+    private static boolean isOwnable(Tile tile) {
+        return tile instanceof PropertyTile || tile instanceof RailroadTile || tile instanceof UtilityTile;
+    }
+
+    /**
+     * Gets the owner kept in a tile of a board without a position index.
+     */
+    @SuppressWarnings("deprecation")
+    private static Player ownerInTile(Tile tile) {
+        if (tile instanceof PropertyTile pt) {
+            return pt.getOwner();
+        } else if (tile instanceof RailroadTile rt) {
+            return rt.getOwner();
+        } else if (tile instanceof UtilityTile ut) {
+            return ut.getOwner();
+        }
+        return null;
+    }
+
+    /**
+     * Sets the owner kept in a tile of a board without a position index.
+     */
+    @SuppressWarnings("deprecation")
+    private static void setOwnerInTile(Tile tile, Player owner) {
+        if (tile instanceof PropertyTile pt) {
+            pt.setOwner(owner);
+        } else if (tile instanceof RailroadTile rt) {
+            rt.setOwner(owner);
+        } else if (tile instanceof UtilityTile ut) {
+            ut.setOwner(owner);
+        }
+    }
+
+    /**
+     * Gets the buildings kept in a property of a board without a position index.
+     */
+    @SuppressWarnings("deprecation")
+    private static int buildingsInTile(PropertyTile property) {
+        return property.hasHotel() ? BoardState.HOTEL : property.getHouseCount();
+    }
+
+    /**
+     * Sets the buildings kept in a property of a board without a position index.
+     */
+    @SuppressWarnings("deprecation")
+    private static void setBuildingsInTile(PropertyTile property, int level) {
+        property.clearBuildings();
+        for (int houses = 0; houses < Math.min(level, 4); houses++) {
+            property.addHouse();
+        }
+        if (level == BoardState.HOTEL) {
+            property.buildHotel();
+        }
+    }
+
     /**
      * Attempt to purchase a tile for current player.
+     * Tiles that are already owned cannot be bought.
      */
     public void buyProperty(Player player, Tile tile) {
-        if (player != getCurrentPlayer()) {
+        int position = usesState() ? board.getPosition(tile) : 0;
+        if (player != getCurrentPlayer() || position < 0 || !isOwnable(tile) || getOwner(tile) != null) {
             return;
         }
         int price = tile.getPrice();
@@ -79,45 +711,170 @@ public class BoardGame {
             return;
         }
         player.adjustBalance(-price);
-        if (tile instanceof PropertyTile pt) {
-            pt.setOwner(player);
-        } else if (tile instanceof RailroadTile rt) {
-            rt.setOwner(player);
-        } else if (tile instanceof UtilityTile ut) {
-            ut.setOwner(player);
+        if (usesState()) {
+            int seat = seatOf(player);
+            writableState().setOwner(position, seat);
+            zobrist ^= ZobristKeys.owner(position, seat);
         } else {
-            return;
+            setOwnerInTile(tile, player);
         }
         player.addOwned(tile);
+        EngineEvents.purchased(player, tile, price);
         notifyTileAction(player, "PurchaseAction", tile);
     }
 
+    /**
+     * Builds a house on a property, paying the house price.
+     * The player must own the whole color group.
+     * 
+     * @param player the owner
+     * @param property the property to build on
+     * @return true if the house was built
+     */
+    public boolean buildHouse(Player player, PropertyTile property) {
+        if (getOwner(property) != player || !property.canBuildHouse(this)) {
+            return false;
+        }
+        player.adjustBalance(-property.getHousePrice());
+        int houses = getBuildings(property);
+        if (usesState()) {
+            int position = board.getPosition(property);
+            writableState().setBuildings(position, houses + 1);
+            zobrist ^= ZobristKeys.buildings(position, houses) ^ ZobristKeys.buildings(position, houses + 1);
+        } else {
+            setBuildingsInTile(property, houses + 1);
+        }
+        notifyTileAction(player, "BuildHouseAction", property);
+        return true;
+    }
+
+    /**
+     * Replaces the four houses of a property with a hotel, paying the house price.
+     * 
+     * @param player the owner
+     * @param property the property to build on
+     * @return true if the hotel was built
+     */
+    public boolean buildHotel(Player player, PropertyTile property) {
+        if (getOwner(property) != player || !property.canBuildHotel(this)) {
+            return false;
+        }
+        player.adjustBalance(-property.getHousePrice());
+        if (usesState()) {
+            int position = board.getPosition(property);
+            writableState().setBuildings(position, BoardState.HOTEL);
+            zobrist ^= ZobristKeys.buildings(position, 4) ^ ZobristKeys.buildings(position, BoardState.HOTEL);
+        } else {
+            setBuildingsInTile(property, BoardState.HOTEL);
+        }
+        notifyTileAction(player, "BuildHotelAction", property);
+        return true;
+    }
+
+    /**
+     * Builds the next building on the property at a board position: a house,
+     * or a hotel once there are four houses.
+     * 
+     * @param player the owner
+     * @param position the board position of the property
+     * @return true if something was built
+     */
+    public boolean build(Player player, int position) {
+        if (position < 0 || position >= board.getLoopLength()
+            || !(board.getTileAt(position) instanceof PropertyTile property)) {
+            return false;
+        }
+        return getBuildings(property) == 4 ? buildHotel(player, property) : buildHouse(player, property);
+    }
+
+    /**
+     * Lets the current player's strategy buy the tile it was offered this turn and build.
+     */
+    private void applyStrategy(Player player, PlayerStrategy strategy) {
+        Tile offered = offeredTile;
+        if (offered != null && offeredTo == player && getOwner(offered) == null
+            && strategy.shouldBuy(this, player, offered)) {
+            buyProperty(player, offered);
+        }
+        offeredTo = null;
+        offeredTile = null;
+        for (int i = 0; i < MAX_BUILDS_PER_TURN; i++) {
+            int position = strategy.chooseBuild(this, player);
+            if (position == PlayerStrategy.NO_BUILD || !build(player, position)) {
+                break;
+            }
+        }
+    }
+
     public void playTurn() {
         if (finished) return;
+        AllocationProfiler alloc = allocationProfiler;
+        if (alloc != null) {
+            alloc.beginTurn();
+        }
+        if (observersCleared) {
+            purgeObservers();
+        }
+        // Events left over from a turn that ended without nextTurn, such as a bankruptcy
+        endTurnBatch();
         Player player = getCurrentPlayer();
+        turnCount++;
+        TurnEvent turnEvent = EngineEvents.beginTurn(player, turnCount);
+        PlayerStrategy strategy = player.getStrategy();
+        offeredTo = null;
+        offeredTile = null;
         
         if (player.isSkipNextTurn()) {
             player.setSkipNextTurn(false);
             notifyPlayerSkipped(player);
             nextTurn();
+            EngineEvents.commitTurn(turnEvent, player, 0);
+            if (alloc != null) {
+                alloc.endTurn();
+            }
             return;
         }
         
+        if (strategy != null && player.isInJail() && strategy.shouldPayJailFine(this, player)) {
+            payJailFine(player);
+        }
+        
         int die1 = dice.getDice().get(0).roll();
         int die2 = dice.getDice().get(1).roll();
         lastRoll = die1 + die2;
+        EngineEvents.diceRolled(player, die1, die2);
         notifyDiceRoll(player, die1, die2);
         
         if (player.isInJail()) {
             if (!handleJailTurn(player, die1, die2)) {
+                if (strategy != null) {
+                    applyStrategy(player, strategy);
+                }
+                EngineEvents.commitTurn(turnEvent, player, lastRoll);
+                if (alloc != null) {
+                    alloc.endTurn();
+                }
                 return;
             }
         }
         
+        if (alloc != null) {
+            alloc.enter(TurnPhase.MOVE);
+        }
         Tile from = player.getCurrentTile();
         Tile to = movePlayer(player, lastRoll);
         notifyPlayerMoved(player, from, to, lastRoll);
+        if (alloc != null) {
+            alloc.enter(TurnPhase.ACTIONS);
+        }
         processActions(player);
+        if (strategy != null) {
+            applyStrategy(player, strategy);
+        }
+        EngineEvents.commitTurn(turnEvent, player, lastRoll);
+        if (alloc != null) {
+            alloc.endTurn();
+        }
         
         if (die1 == die2 && !player.isInJail()) {
         }
@@ -127,11 +884,15 @@ public class BoardGame {
         Tile current = player.getCurrentTile();
         while (current.getAction() != null) {
             TileAction action = current.getAction();
-            String name = action.getClass().getSimpleName();
+            TileActionEvent actionEvent = EngineEvents.beginTileAction();
             action.execute(player, this);
-            notifyTileAction(player, name, current);
+            EngineEvents.commitTileAction(actionEvent, player, action, current);
+            if (hasObservers(GameEventKind.TILE_ACTION)) {
+                notifyTileAction(player, action.getClass().getSimpleName(), current);
+            }
             Tile newTile = player.getCurrentTile();
             if (newTile == current) break;
+            hashMove(player, current, newTile);
             notifyPlayerMoved(player, current, newTile, 0);
             current = newTile;
         }
@@ -157,22 +918,37 @@ public class BoardGame {
      * @param bankruptPlayer the player who is bankrupt
      */
     private void handleBankruptcy(Player bankruptPlayer) {
+        BankruptcyEvent bankruptcyEvent = EngineEvents.beginBankruptcy(bankruptPlayer, turnCount);
         // Transfer all properties to the bank (make them available again)
-        for (PropertyTile property : bankruptPlayer.getOwnedProperties()) {
-            property.setOwner(null);
-        }
-        for (RailroadTile railroad : bankruptPlayer.getOwnedRailroads()) {
-            railroad.setOwner(null);
-        }
-        for (UtilityTile utility : bankruptPlayer.getOwnedUtilities()) {
-            utility.setOwner(null);
+        int seat = players.indexOf(bankruptPlayer);
+        if (usesState()) {
+            if (seat >= 0 && readableState() != null) {
+                writableState().removeSeat(seat);
+            }
+        } else {
+            for (PropertyTile property : bankruptPlayer.getOwnedProperties()) {
+                setOwnerInTile(property, null);
+                setBuildingsInTile(property, 0);
+            }
+            for (RailroadTile railroad : bankruptPlayer.getOwnedRailroads()) {
+                setOwnerInTile(railroad, null);
+            }
+            for (UtilityTile utility : bankruptPlayer.getOwnedUtilities()) {
+                setOwnerInTile(utility, null);
+            }
         }
+        bankruptPlayer.clearOwnedProperties();
         
-        players.remove(bankruptPlayer);
+        if (seat >= 0) {
+            players.remove(seat);
+        }
         
         if (currentPlayerIndex >= players.size()) {
             currentPlayerIndex = 0;
         }
+        // Everyone after the bankrupt player changed seat
+        rehash();
+        EngineEvents.commitBankruptcy(bankruptcyEvent, players.size());
         
         checkGameEnd();
     }
@@ -185,6 +961,7 @@ public class BoardGame {
             finished = true;
             winner = players.get(0);
             notifyGameEnd(winner);
+            endTurnBatch();
         }
     }
 
@@ -218,8 +995,8 @@ public class BoardGame {
             return false;
         }
         
-        if (player.getBalance() >= 50) {
-            player.adjustBalance(-50);
+        if (player.getBalance() >= JAIL_FINE) {
+            player.adjustBalance(-JAIL_FINE);
             player.releaseFromJail();
             return true;
         }
@@ -243,8 +1020,8 @@ public class BoardGame {
         }
         
         if (player.getJailTurns() >= 3) {
-            if (player.getBalance() >= 50) {
-                player.adjustBalance(-50);
+            if (player.getBalance() >= JAIL_FINE) {
+                player.adjustBalance(-JAIL_FINE);
             }
             player.releaseFromJail();
             return true;
@@ -253,7 +1030,38 @@ public class BoardGame {
         return false;
     }
 
+    /**
+     * Moves a player forward, paying the GO salary for every pass of the first tile.
+     * Uses the board's position index when available.
+     * 
+     * @param player the player to move
+     * @param steps number of tiles to move
+     * @return the destination tile
+     */
     private Tile movePlayer(Player player, int steps) {
+        int from = board.getPosition(player.getCurrentTile());
+        if (from < 0) {
+            return walkPlayer(player, steps);
+        }
+        int target = from + steps;
+        int loopLength = board.getLoopLength();
+        if (target >= loopLength) {
+            for (int laps = target / loopLength; laps > 0; laps--) {
+                player.adjustBalance(200);
+                notifyTileAction(player, "GoAction", board.getFirstTile());
+            }
+            target %= loopLength;
+        }
+        Tile destination = board.getTileAt(target);
+        hashMove(player, player.getCurrentTile(), destination);
+        player.setCurrentTile(destination);
+        return destination;
+    }
+
+    /**
+     * Moves a player by following tile links, for boards without a position index.
+     */
+    private Tile walkPlayer(Player player, int steps) {
         Tile current = player.getCurrentTile();
         for (int i = 0; i < steps; i++) {
             Tile next = current.getNextTile();
@@ -269,25 +1077,190 @@ public class BoardGame {
     }
 
     // Notifications
+    private TurnPhase beginNotify() {
+        return allocationProfiler != null ? allocationProfiler.enter(TurnPhase.NOTIFY) : null;
+    }
+    private void endNotify(TurnPhase previous) {
+        if (previous != null) {
+            allocationProfiler.enter(previous);
+        }
+    }
     private void notifyDiceRoll(Player p, int d1, int d2) {
-        observers.forEach(o -> o.onDiceRoll(p, d1, d2));
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.DICE_ROLL.ordinal()]) {
+            o.onDiceRoll(p, d1, d2);
+        }
+        endNotify(phase);
     }
     private void notifyPlayerMoved(Player p, Tile f, Tile t, int s) {
-        observers.forEach(o -> o.onPlayerMoved(p, f, t, s));
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.PLAYER_MOVED.ordinal()]) {
+            o.onPlayerMoved(p, f, t, s);
+        }
+        endNotify(phase);
     }
     private void notifyTileAction(Player p, String n, Tile t) {
-        observers.forEach(o -> o.onTileAction(p, n, t));
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.TILE_ACTION.ordinal()]) {
+            o.onTileAction(p, n, t);
+        }
+        endNotify(phase);
     }
     public void notifyPropertyAvailable(Player p, Tile t) {
-        observers.forEach(o -> o.onPropertyAvailable(p, t));
+        offeredTo = p;
+        offeredTile = t;
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.PROPERTY_AVAILABLE.ordinal()]) {
+            o.onPropertyAvailable(p, t);
+        }
+        endNotify(phase);
     }
     public void notifyRentPaid(Player payer, Player owner, Tile t, int amt) {
-        observers.forEach(o -> o.onRentPaid(payer, owner, t, amt));
+        EngineEvents.rentPaid(payer, owner, t, amt);
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.RENT_PAID.ordinal()]) {
+            o.onRentPaid(payer, owner, t, amt);
+        }
+        endNotify(phase);
     }
     private void notifyPlayerSkipped(Player p) {
-        observers.forEach(o -> o.onPlayerSkipped(p));
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.PLAYER_SKIPPED.ordinal()]) {
+            o.onPlayerSkipped(p);
+        }
+        endNotify(phase);
     }
     private void notifyGameEnd(Player w) {
-        observers.forEach(o -> o.onGameEnd(w));
+        TurnPhase phase = beginNotify();
+        for (GameObserver o : observersByKind[GameEventKind.GAME_END.ordinal()]) {
+            o.onGameEnd(w);
+        }
+        endNotify(phase);
+    }
+
+    /**
+     * Forwards events to an observer held by a weak reference. When the
+     * observer is gone, the game is told to drop the registration. With a
+     * dispatch profiler the calls are timed here, so the profiler sees the
+     * observer itself and the observer stays weakly held.
+     */
+    private static final class WeakObserver extends WeakReference<GameObserver> implements GameObserver {
+        private final Set<GameEventKind> interests;
+        private final BoardGame game;
+        private final DispatchProfiler profiler;
+        private final ObserverStats stats;
+
+        WeakObserver(GameObserver observer, BoardGame game) {
+            this(observer, game, null);
+        }
+
+        private WeakObserver(GameObserver observer, BoardGame game, DispatchProfiler profiler) {
+            super(observer);
+            this.interests = observer.getInterests();
+            this.game = game;
+            this.profiler = profiler;
+            this.stats = profiler != null ? profiler.statsFor(observer) : null;
+        }
+
+        /**
+         * Gets a registration for the same observer whose calls the profiler times.
+         */
+        GameObserver timedBy(DispatchProfiler profiler) {
+            GameObserver observer = get();
+            return observer != null ? new WeakObserver(observer, game, profiler) : this;
+        }
+
+        private GameObserver target() {
+            GameObserver observer = get();
+            if (observer == null) {
+                game.observersCleared = true;
+            }
+            return observer;
+        }
+
+        private long start() {
+            return profiler != null ? System.nanoTime() : 0;
+        }
+
+        private void done(GameEventKind kind, long start) {
+            if (profiler != null) {
+                profiler.record(stats, kind, start);
+            }
+        }
+
+        @Override
+        public Set<GameEventKind> getInterests() {
+            return interests;
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onDiceRoll(player, die1, die2);
+                done(GameEventKind.DICE_ROLL, start);
+            }
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onPlayerMoved(player, from, to, steps);
+                done(GameEventKind.PLAYER_MOVED, start);
+            }
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onTileAction(player, actionName, tile);
+                done(GameEventKind.TILE_ACTION, start);
+            }
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onPropertyAvailable(player, property);
+                done(GameEventKind.PROPERTY_AVAILABLE, start);
+            }
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onRentPaid(payer, owner, property, amount);
+                done(GameEventKind.RENT_PAID, start);
+            }
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onPlayerSkipped(player);
+                done(GameEventKind.PLAYER_SKIPPED, start);
+            }
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            GameObserver observer = target();
+            if (observer != null) {
+                long start = start();
+                observer.onGameEnd(winner);
+                done(GameEventKind.GAME_END, start);
+            }
+        }
     }
 }
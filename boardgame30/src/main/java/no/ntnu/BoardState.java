@@ -0,0 +1,173 @@
+package no.ntnu;
+
+import java.util.Arrays;
+
+/**
+ * Mutable per-game state of the tiles on a {@link BoardDefinition}: who owns
+ * each tile and what is built on it.
+ * <p>
+ * Two bytes per tile, so many concurrent games can share one definition
+ * and only pay for this state. Owners are seat numbers, -1 for unowned.
+ */
+public final class BoardState {
+    /** Highest seat number that fits in the state. */
+    public static final int MAX_SEAT = Byte.MAX_VALUE;
+    /** Building level of a tile with a hotel. */
+    public static final int HOTEL = 5;
+
+    private final byte[] owner;
+    private final byte[] buildings;
+
+    /**
+     * Creates an empty state for a board.
+     * 
+     * @param definition the board definition
+     */
+    public BoardState(BoardDefinition definition) {
+        this(definition.getSize());
+    }
+
+    /**
+     * Creates an empty state for a board that has no definition, such as one
+     * assembled by hand.
+     * 
+     * @param size number of tiles on the board
+     */
+    public BoardState(int size) {
+        owner = new byte[size];
+        buildings = new byte[size];
+        clear();
+    }
+
+    /**
+     * Gets the number of tiles in the state.
+     * 
+     * @return board size
+     */
+    public int getSize() {
+        return owner.length;
+    }
+
+    /**
+     * Removes every owner and building.
+     */
+    public void clear() {
+        Arrays.fill(owner, (byte) -1);
+        Arrays.fill(buildings, (byte) 0);
+    }
+
+    /**
+     * Gets the owner of the tile at a position.
+     * 
+     * @param position the tile position
+     * @return the owner's seat, or -1 if unowned
+     */
+    public int getOwner(int position) {
+        return owner[position];
+    }
+
+    /**
+     * Sets the owner of the tile at a position.
+     * 
+     * @param position the tile position
+     * @param seat the owner's seat, or -1 to release the tile
+     * @throws IllegalArgumentException if the seat is out of range
+     */
+    public void setOwner(int position, int seat) {
+        if (seat < -1 || seat > MAX_SEAT) {
+            throw new IllegalArgumentException("Seat out of range: " + seat);
+        }
+        owner[position] = (byte) seat;
+    }
+
+    /**
+     * Gets the building level of a tile: the number of houses, or {@link #HOTEL}.
+     * 
+     * @param position the tile position
+     * @return the building level
+     */
+    public int getBuildings(int position) {
+        return buildings[position];
+    }
+
+    /**
+     * Sets the building level of a tile.
+     * 
+     * @param position the tile position
+     * @param level number of houses, or {@link #HOTEL}
+     * @throws IllegalArgumentException if the level is out of range
+     */
+    public void setBuildings(int position, int level) {
+        if (level < 0 || level > HOTEL) {
+            throw new IllegalArgumentException("Building level out of range: " + level);
+        }
+        buildings[position] = (byte) level;
+    }
+
+    /**
+     * Gets the number of houses on a tile, not counting a hotel.
+     * 
+     * @param position the tile position
+     * @return house count
+     */
+    public int getHouses(int position) {
+        int level = buildings[position];
+        return level == HOTEL ? 0 : level;
+    }
+
+    public boolean hasHotel(int position) {
+        return buildings[position] == HOTEL;
+    }
+
+    /**
+     * Releases every tile owned by a seat, as when the player goes bankrupt.
+     * Their buildings go back to the bank too.
+     * 
+     * @param seat the seat
+     */
+    public void releaseAll(int seat) {
+        for (int position = 0; position < owner.length; position++) {
+            if (owner[position] == seat) {
+                owner[position] = -1;
+                buildings[position] = 0;
+            }
+        }
+    }
+
+    /**
+     * Releases every tile owned by a seat and moves every later seat down by
+     * one, as when a game that numbers its players by their place in turn
+     * order loses a player.
+     * 
+     * @param seat the seat that leaves
+     */
+    public void removeSeat(int seat) {
+        releaseAll(seat);
+        for (int position = 0; position < owner.length; position++) {
+            if (owner[position] > seat) {
+                owner[position]--;
+            }
+        }
+    }
+
+    /**
+     * Copies another state over this one.
+     * 
+     * @param other a state for the same definition
+     */
+    public void copyFrom(BoardState other) {
+        System.arraycopy(other.owner, 0, owner, 0, owner.length);
+        System.arraycopy(other.buildings, 0, buildings, 0, buildings.length);
+    }
+
+    /**
+     * Creates an independent copy of this state.
+     * 
+     * @return the copy
+     */
+    public BoardState copy() {
+        BoardState copy = new BoardState(owner.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+}
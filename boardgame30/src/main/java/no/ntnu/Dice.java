@@ -2,6 +2,7 @@ package no.ntnu;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a collection of dice (two 6-sided dice).
@@ -16,6 +17,19 @@ public class Dice {
         }
     }
 
+    /**
+     * Creates six-sided dice that all roll with the same random source.
+     * 
+     * @param numberOfDice number of dice
+     * @param random the shared random source
+     */
+    public Dice(int numberOfDice, RandomGenerator random) {
+        dice = new ArrayList<>();
+        for (int i = 0; i < numberOfDice; i++) {
+            dice.add(new Die(6, random));
+        }
+    }
+
     /**
      * Rolls all dice and returns the total sum of faces.
      */
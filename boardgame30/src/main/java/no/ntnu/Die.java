@@ -1,20 +1,31 @@
 package no.ntnu;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a single die with a configurable number of faces (default 6).
  */
 public class Die {
     private final int faces;
-    private final Random random;
+    private final RandomGenerator random;
 
     public Die() {
         this(6);
     }
 
     public Die(int faces) {
+        this(faces, new Random());
+    }
+
+    /**
+     * Creates a die rolling with the given random source.
+     * 
+     * @param faces number of faces
+     * @param random the random source, may be shared with other dice
+     */
+    public Die(int faces, RandomGenerator random) {
         this.faces = faces;
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -1,8 +1,9 @@
 package no.ntnu;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import no.ntnu.tile.PropertyColor;
 import no.ntnu.tile.PropertyTile;
@@ -21,9 +22,16 @@ public class Player {
     private Tile currentTile;
     private boolean skipNextTurn = false;
     private int balance = 1500;
-    private final List<Tile> owned = new ArrayList<>();
+    private final List<PropertyTile> ownedProperties = new ArrayList<>();
+    private final List<RailroadTile> ownedRailroads = new ArrayList<>();
+    private final List<UtilityTile> ownedUtilities = new ArrayList<>();
+    private final List<PropertyTile> ownedPropertiesView = Collections.unmodifiableList(ownedProperties);
+    private final List<RailroadTile> ownedRailroadsView = Collections.unmodifiableList(ownedRailroads);
+    private final List<UtilityTile> ownedUtilitiesView = Collections.unmodifiableList(ownedUtilities);
+    private final int[] ownedByColor = new int[PropertyColor.values().length];
     private boolean inJail = false;
     private int jailTurns = 0;
+    private PlayerStrategy strategy;
 
     /** Backwards compatability constructor */
     public Player(String name) {
@@ -44,6 +52,24 @@ public class Player {
         return token;
     }
 
+    /**
+     * Gets the strategy that makes this player's decisions.
+     * 
+     * @return the strategy, or null if decisions are made by the caller
+     */
+    public PlayerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Lets a strategy make this player's decisions during {@link BoardGame#playTurn()}.
+     * 
+     * @param strategy the strategy, or null to make decisions outside the game
+     */
+    public void setStrategy(PlayerStrategy strategy) {
+        this.strategy = strategy;
+    }
+
     public Tile getCurrentTile() {
         return currentTile;
     }
@@ -113,48 +139,118 @@ public class Player {
         this.jailTurns++;
     }
 
+    /**
+     * Creates a player with the same name, token, position, balance, owned
+     * tiles, jail and skip state and strategy. The tiles themselves are
+     * shared. Used to fork a game.
+     * 
+     * @return the copy
+     */
+    Player copy() {
+        Player copy = new Player(name, token);
+        copy.currentTile = currentTile;
+        copy.balance = balance;
+        copy.ownedProperties.addAll(ownedProperties);
+        copy.ownedRailroads.addAll(ownedRailroads);
+        copy.ownedUtilities.addAll(ownedUtilities);
+        System.arraycopy(ownedByColor, 0, copy.ownedByColor, 0, ownedByColor.length);
+        copy.skipNextTurn = skipNextTurn;
+        copy.inJail = inJail;
+        copy.jailTurns = jailTurns;
+        copy.strategy = strategy;
+        return copy;
+    }
+
     /**
      * Record ownership of any asset (PropertyTile, RailroadTile, UtilityTile).
+     * Other tiles cannot be owned and are ignored.
      */
     public void addOwned(Tile tile) {
-        owned.add(tile);
+        if (tile instanceof PropertyTile pt) {
+            ownedProperties.add(pt);
+            if (pt.getColor() != null) {
+                ownedByColor[pt.getColor().ordinal()]++;
+            }
+        } else if (tile instanceof RailroadTile rt) {
+            ownedRailroads.add(rt);
+        } else if (tile instanceof UtilityTile ut) {
+            ownedUtilities.add(ut);
+        }
     }
 
     /**
-     * All owned ordinary properties.
+     * Drop ownership of an asset recorded with {@link #addOwned(Tile)}.
+     * Tiles the player does not own are ignored.
+     */
+    public void removeOwned(Tile tile) {
+        if (tile instanceof PropertyTile pt) {
+            if (ownedProperties.remove(pt) && pt.getColor() != null) {
+                ownedByColor[pt.getColor().ordinal()]--;
+            }
+        } else if (tile instanceof RailroadTile rt) {
+            ownedRailroads.remove(rt);
+        } else if (tile instanceof UtilityTile ut) {
+            ownedUtilities.remove(ut);
+        }
+    }
+
+    /**
+     * All owned ordinary properties, as a read-only view.
      */
     public List<PropertyTile> getOwnedProperties() {
-        return owned.stream()
-            .filter(t -> t instanceof PropertyTile)
-            .map(t -> (PropertyTile)t)
-            .collect(Collectors.toUnmodifiableList());
+        return ownedPropertiesView;
     }
 
     /**
-     * All owned railroads.
+     * All owned railroads, as a read-only view.
      */
     public List<RailroadTile> getOwnedRailroads() {
-        return owned.stream()
-            .filter(t -> t instanceof RailroadTile)
-            .map(t -> (RailroadTile)t)
-            .collect(Collectors.toUnmodifiableList());
+        return ownedRailroadsView;
     }
 
     /**
-     * All owned utilities.
+     * All owned utilities, as a read-only view.
      */
     public List<UtilityTile> getOwnedUtilities() {
-        return owned.stream()
-            .filter(t -> t instanceof UtilityTile)
-            .map(t -> (UtilityTile)t)
-            .collect(Collectors.toUnmodifiableList());
+        return ownedUtilitiesView;
+    }
+
+    /**
+     * Gets the number of owned railroads.
+     * 
+     * @return railroad count
+     */
+    public int getOwnedRailroadCount() {
+        return ownedRailroads.size();
+    }
+
+    /**
+     * Gets the number of owned utilities.
+     * 
+     * @return utility count
+     */
+    public int getOwnedUtilityCount() {
+        return ownedUtilities.size();
+    }
+
+    /**
+     * Gets the number of owned properties in a color group.
+     * 
+     * @param color the color group
+     * @return property count, 0 for a null color
+     */
+    public int getOwnedCount(PropertyColor color) {
+        return color != null ? ownedByColor[color.ordinal()] : 0;
     }
 
     /**
      * Clears all owned properties (used during bankruptcy).
      */
     public void clearOwnedProperties() {
-        owned.clear();
+        ownedProperties.clear();
+        ownedRailroads.clear();
+        ownedUtilities.clear();
+        Arrays.fill(ownedByColor, 0);
     }
 
     /**
@@ -165,11 +261,6 @@ public class Player {
      */
     public boolean hasMonopoly(PropertyColor color) {
         if (color == null) return false;
-        
-        List<PropertyTile> colorProperties = getOwnedProperties().stream()
-            .filter(p -> p.getColor() == color)
-            .collect(Collectors.toList());
-        
-        return colorProperties.size() == color.getGroupSize();
-    }
-}
+        return ownedByColor[color.ordinal()] == color.getGroupSize();
+    }
+}
\ No newline at end of file
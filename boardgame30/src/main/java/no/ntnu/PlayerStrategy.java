@@ -0,0 +1,96 @@
+package no.ntnu;
+
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.Tile;
+
+/**
+ * Makes a player's decisions without a user interface.
+ * <p>
+ * When the current player has a strategy, see {@link Player#setStrategy},
+ * {@link BoardGame#playTurn()} asks it on the game thread: whether to pay the
+ * jail fine instead of rolling for doubles, whether to buy the tile it was
+ * offered, and where to build before the turn ends. Answers are booleans and
+ * board positions, so a strategy can decide without allocating. A strategy
+ * should not change the game itself; the game acts on its answers.
+ */
+public interface PlayerStrategy {
+    /** Answer of {@link #chooseBuild} when the player does not want to build. */
+    int NO_BUILD = -1;
+
+    /**
+     * Decides whether to buy a tile the player has landed on.
+     *
+     * @param game the game in progress
+     * @param player the player being offered the tile
+     * @param tile the unowned tile
+     * @return true to buy the tile
+     */
+    boolean shouldBuy(BoardGame game, Player player, Tile tile);
+
+    /**
+     * Decides, before rolling, whether a jailed player pays the fine and
+     * moves normally or rolls for doubles. Rolls by default.
+     *
+     * @param game the game in progress
+     * @param player the jailed player
+     * @return true to pay {@link BoardGame#JAIL_FINE}
+     */
+    default boolean shouldPayJailFine(BoardGame game, Player player) {
+        return false;
+    }
+
+    /**
+     * Chooses where to build next. Called at the end of the player's turn
+     * until it returns {@link #NO_BUILD} or names a position where nothing can
+     * be built, see {@link BoardGame#build(Player, int)}. Never builds by default.
+     *
+     * @param game the game in progress
+     * @param player the player whose turn is ending
+     * @return the board position of a property to build a house or hotel on, or {@link #NO_BUILD}
+     */
+    default int chooseBuild(BoardGame game, Player player) {
+        return NO_BUILD;
+    }
+
+    /**
+     * Buys, builds and pays the jail fine whenever the player keeps at least the
+     * given amount afterwards. Builds evenly, on the property with the fewest
+     * buildings first.
+     *
+     * @param reserve the balance to keep after paying
+     * @return the strategy
+     */
+    static PlayerStrategy withReserve(int reserve) {
+        return new PlayerStrategy() {
+            @Override
+            public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+                return player.getBalance() - tile.getPrice() >= reserve;
+            }
+
+            @Override
+            public boolean shouldPayJailFine(BoardGame game, Player player) {
+                return player.getBalance() - BoardGame.JAIL_FINE >= reserve;
+            }
+
+            @Override
+            public int chooseBuild(BoardGame game, Player player) {
+                Board board = game.getBoard();
+                int best = NO_BUILD;
+                int fewest = Integer.MAX_VALUE;
+                for (int position = 0; position < board.getLoopLength(); position++) {
+                    if (board.getTileAt(position) instanceof PropertyTile pt
+                        && game.getOwner(pt) == player
+                        && player.getBalance() - pt.getHousePrice() >= reserve
+                        && (pt.canBuildHouse(game) || pt.canBuildHotel(game))) {
+                        int buildings = game.getBuildings(pt);
+                        if (buildings < fewest) {
+                            best = position;
+                            fewest = buildings;
+                        }
+                    }
+                }
+                return best;
+            }
+        };
+    }
+}
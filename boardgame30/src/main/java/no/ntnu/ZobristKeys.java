@@ -0,0 +1,110 @@
+package no.ntnu;
+
+/**
+ * Pseudo-random keys for Zobrist hashing of game positions.
+ * <p>
+ * Every feature of a position, such as "the player in seat 2 stands on
+ * position 17" or "position 39 has 3 buildings", has its own 64-bit key, and
+ * the hash of a position is the XOR of the keys of its features. Changing one
+ * feature then means XOR-ing out the old key and XOR-ing in the new one.
+ * Keys are derived from the feature by a fixed mixing function rather than
+ * looked up in tables, so there is no limit on seats or board size and the
+ * same position hashes the same in every run.
+ */
+public final class ZobristKeys {
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final long PLAYER_POSITION = 1;
+    private static final long OWNER = 2;
+    private static final long BUILDINGS = 3;
+    private static final long CURRENT_PLAYER = 4;
+    private static final long JAIL = 5;
+    private static final long BALANCE = 6;
+    private static final long SKIP = 7;
+
+    private ZobristKeys() {}
+
+    /**
+     * Key for a player standing on a board position.
+     *
+     * @param seat the player's index in the game
+     * @param position the board position, -1 if not on the loop
+     * @return the key
+     */
+    public static long playerPosition(int seat, int position) {
+        return key(PLAYER_POSITION, seat, position);
+    }
+
+    /**
+     * Key for an ownable tile owned by a player.
+     *
+     * @param position the board position of the tile
+     * @param seat the owner's index in the game
+     * @return the key
+     */
+    public static long owner(int position, int seat) {
+        return key(OWNER, position, seat);
+    }
+
+    /**
+     * Key for the buildings on a property. No buildings have no key.
+     *
+     * @param position the board position of the property
+     * @param buildings number of houses, or 5 for a hotel
+     * @return the key, 0 without buildings
+     */
+    public static long buildings(int position, int buildings) {
+        return buildings == 0 ? 0 : key(BUILDINGS, position, buildings);
+    }
+
+    /**
+     * Key for whose turn it is.
+     *
+     * @param seat the current player's index
+     * @return the key
+     */
+    public static long currentPlayer(int seat) {
+        return key(CURRENT_PLAYER, seat, 0);
+    }
+
+    /**
+     * Key for a jailed player and the turns they have spent in jail.
+     *
+     * @param seat the player's index
+     * @param turns turns spent in jail so far
+     * @return the key
+     */
+    public static long jail(int seat, int turns) {
+        return key(JAIL, seat, turns);
+    }
+
+    /**
+     * Key for a player's balance rounded down to a bucket.
+     *
+     * @param seat the player's index
+     * @param bucket the balance divided by the bucket size
+     * @return the key
+     */
+    public static long balance(int seat, int bucket) {
+        return key(BALANCE, seat, bucket);
+    }
+
+    /**
+     * Key for a player who will miss their next turn.
+     *
+     * @param seat the player's index
+     * @return the key
+     */
+    public static long skipNextTurn(int seat) {
+        return key(SKIP, seat, 0);
+    }
+
+    /**
+     * Mixes a feature into a key with the SplitMix64 finalizer.
+     */
+    private static long key(long feature, int a, int b) {
+        long z = SEED + (feature << 58 ^ (long) a << 29 ^ (b & 0x1FFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
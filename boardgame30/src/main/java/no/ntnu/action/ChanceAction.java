@@ -1,6 +1,6 @@
 package no.ntnu.action;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import no.ntnu.BoardGame;
 import no.ntnu.Player;
 
@@ -8,11 +8,35 @@ import no.ntnu.Player;
  * Draws a Chance card: random small gain or loss.
  */
 public class ChanceAction implements TileAction {
-    private final Random rnd = new Random();
+    /** Amount won on a good card. */
+    public static final int GAIN = 150;
+    /** Amount lost on a bad card. */
+    public static final int LOSS = 75;
+
+    /** Source of cards, or null to draw from the game's own source. */
+    private final RandomGenerator rnd;
+
+    /**
+     * Creates an action drawing cards from the random source of the game it
+     * runs in, so one action can serve every game on a shared board.
+     */
+    public ChanceAction() {
+        this(null);
+    }
+
+    /**
+     * Creates a chance action drawing cards from the given source.
+     * 
+     * @param rnd the random source
+     */
+    public ChanceAction(RandomGenerator rnd) {
+        this.rnd = rnd;
+    }
 
     @Override
     public void execute(Player player, BoardGame game) {
-        int delta = rnd.nextBoolean() ? +150 : -75;
+        RandomGenerator source = rnd != null ? rnd : game.getRandom();
+        int delta = source.nextBoolean() ? +GAIN : -LOSS;
         player.adjustBalance(delta);
     }
 }
\ No newline at end of file
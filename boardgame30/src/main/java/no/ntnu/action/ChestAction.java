@@ -1,6 +1,6 @@
 package no.ntnu.action;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import no.ntnu.BoardGame;
 import no.ntnu.Player;
 
@@ -8,11 +8,35 @@ import no.ntnu.Player;
  * Draws a Community Chest card: random small gain or loss.
  */
 public class ChestAction implements TileAction {
-    private final Random rnd = new Random();
+    /** Amount won on a good card. */
+    public static final int GAIN = 100;
+    /** Amount lost on a bad card. */
+    public static final int LOSS = 50;
+
+    /** Source of cards, or null to draw from the game's own source. */
+    private final RandomGenerator rnd;
+
+    /**
+     * Creates an action drawing cards from the random source of the game it
+     * runs in, so one action can serve every game on a shared board.
+     */
+    public ChestAction() {
+        this(null);
+    }
+
+    /**
+     * Creates a community chest action drawing cards from the given source.
+     * 
+     * @param rnd the random source
+     */
+    public ChestAction(RandomGenerator rnd) {
+        this.rnd = rnd;
+    }
 
     @Override
     public void execute(Player player, BoardGame game) {
-        int delta = rnd.nextBoolean() ? +100 : -50;
+        RandomGenerator source = rnd != null ? rnd : game.getRandom();
+        int delta = source.nextBoolean() ? +GAIN : -LOSS;
         player.adjustBalance(delta);
     }
 }
\ No newline at end of file
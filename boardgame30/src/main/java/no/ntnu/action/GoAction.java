@@ -13,6 +13,15 @@ public class GoAction implements TileAction {
         this.amount = amount;
     }
 
+    /**
+     * Gets the amount collected.
+     * 
+     * @return the amount
+     */
+    public int getAmount() {
+        return amount;
+    }
+
     @Override
     public void execute(Player player, BoardGame game) {
         player.adjustBalance(amount);
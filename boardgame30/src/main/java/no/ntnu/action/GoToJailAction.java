@@ -19,6 +19,15 @@ public class GoToJailAction implements TileAction {
         this.jailTile = jailTile;
     }
 
+    /**
+     * Gets the tile players are sent to.
+     * 
+     * @return the jail tile
+     */
+    public Tile getJailTile() {
+        return jailTile;
+    }
+
     /**
      * Sends the player to jail without collecting GO salary.
      * 
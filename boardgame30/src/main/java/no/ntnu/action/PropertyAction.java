@@ -16,12 +16,12 @@ public class PropertyAction implements TileAction {
 
     @Override
     public void execute(Player player, BoardGame game) {
-        if (!property.isOwned()) {
+        Player owner = game.getOwner(property);
+        if (owner == null) {
             game.notifyPropertyAvailable(player, property);
-        } else if (property.getOwner() != player) {
-            int rent = property.getRent();
+        } else if (owner != player) {
+            int rent = property.getRent(game);
             player.adjustBalance(-rent);
-            Player owner = property.getOwner();
             owner.adjustBalance(rent);
             game.notifyRentPaid(player, owner, property, rent);
         }
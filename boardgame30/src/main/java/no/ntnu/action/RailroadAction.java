@@ -27,9 +27,9 @@ public class RailroadAction implements TileAction {
      */
     @Override
     public void execute(Player player, BoardGame game) {
-        if (tile.isOwned() && tile.getOwner() != player) {
-            Player owner = tile.getOwner();
-            int ownedCount = owner.getOwnedRailroads().size();
+        Player owner = game.getOwner(tile);
+        if (owner != null && owner != player) {
+            int ownedCount = owner.getOwnedRailroadCount();
             int rent = tile.calculateRent(ownedCount);
             
             if (player.getBalance() >= rent) {
@@ -41,7 +41,7 @@ public class RailroadAction implements TileAction {
                 owner.adjustBalance(player.getBalance());
                 game.notifyRentPaid(player, owner, tile, player.getBalance());
             }
-        } else if (!tile.isOwned()) {
+        } else if (owner == null) {
             game.notifyPropertyAvailable(player, tile);
         }
     }
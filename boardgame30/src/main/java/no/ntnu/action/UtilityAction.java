@@ -27,12 +27,11 @@ public class UtilityAction implements TileAction {
      */
     @Override
     public void execute(Player player, BoardGame game) {
-        if (tile.isOwned() && tile.getOwner() != player) {
-            Player owner = tile.getOwner();
-            int ownedCount = owner.getOwnedUtilities().size();
+        Player owner = game.getOwner(tile);
+        if (owner != null && owner != player) {
+            int ownedCount = owner.getOwnedUtilityCount();
             int lastRoll = game.getLastRoll();
-            tile.setRentContext(lastRoll, ownedCount);
-            int rent = tile.getRent();
+            int rent = tile.calculateRent(lastRoll, ownedCount);
             
             if (player.getBalance() >= rent) {
                 player.adjustBalance(-rent);
@@ -43,7 +42,7 @@ public class UtilityAction implements TileAction {
                 owner.adjustBalance(player.getBalance());
                 game.notifyRentPaid(player, owner, tile, player.getBalance());
             }
-        } else if (!tile.isOwned()) {
+        } else if (owner == null) {
             game.notifyPropertyAvailable(player, tile);
         }
     }
@@ -0,0 +1,69 @@
+package no.ntnu.analysis;
+
+/**
+ * Whether a jailed player should pay the fine or roll for doubles, as computed
+ * by {@link JailPolicySolver}, for every tile a player can be jailed on and
+ * every number of jail turns served.
+ * <p>
+ * Decisions are kept as one bit per jail turn and tile, so answering is a
+ * lookup. Instances are immutable and can be shared between threads.
+ */
+public final class JailPolicy {
+    private final byte[] payTurns;
+    private final double[] payAdvantage;
+    private final int turnsPerTile;
+    private final int iterations;
+
+    JailPolicy(double[] payAdvantage, int turnsPerTile, int iterations) {
+        this.payAdvantage = payAdvantage;
+        this.turnsPerTile = turnsPerTile;
+        this.iterations = iterations;
+        this.payTurns = new byte[payAdvantage.length / turnsPerTile];
+        for (int i = 0; i < payAdvantage.length; i++) {
+            if (payAdvantage[i] > 0) {
+                payTurns[i / turnsPerTile] |= (byte) (1 << (i % turnsPerTile));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tiles on the loop.
+     *
+     * @return board size
+     */
+    public int getSize() {
+        return payTurns.length;
+    }
+
+    /**
+     * Checks if paying the fine is worth more than rolling for doubles.
+     *
+     * @param position the tile the player is jailed on
+     * @param served jail turns served so far, see {@link no.ntnu.Player#getJailTurns()}
+     * @return true to pay, false to roll
+     */
+    public boolean shouldPay(int position, int served) {
+        return (payTurns[position] & 1 << Math.min(served, turnsPerTile - 1)) != 0;
+    }
+
+    /**
+     * Gets how much more paying the fine is worth than rolling for doubles,
+     * in discounted money, for hints that want to show the margin.
+     *
+     * @param position the tile the player is jailed on
+     * @param served jail turns served so far
+     * @return the expected gain from paying, negative when rolling is better
+     */
+    public double getPayAdvantage(int position, int served) {
+        return payAdvantage[position * turnsPerTile + Math.min(served, turnsPerTile - 1)];
+    }
+
+    /**
+     * Gets the number of value iterations the solver needed.
+     *
+     * @return iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+}
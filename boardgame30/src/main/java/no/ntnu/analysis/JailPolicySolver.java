@@ -0,0 +1,271 @@
+package no.ntnu.analysis;
+
+import static no.ntnu.analysis.LandingSolver.DOUBLES_PROBABILITY;
+import static no.ntnu.analysis.LandingSolver.MAX_JAIL_TURNS;
+import static no.ntnu.analysis.LandingSolver.NO_DOUBLES_PROBABILITY;
+import static no.ntnu.analysis.LandingSolver.SUM_PROBABILITY;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.action.ChanceAction;
+import no.ntnu.action.ChestAction;
+import no.ntnu.tile.Tile;
+import no.ntnu.tile.TileKind;
+
+/**
+ * Finds when a jailed player should pay the fine rather than roll for
+ * doubles, by value iteration over the same turn chain as
+ * {@link LandingSolver}.
+ * <p>
+ * A turn is worth the money it brings: the GO salary for every lap, GO and
+ * tax amounts, the average card and the rent of the tile landed on, which
+ * the {@link RentSummary} gives. Later turns are discounted, so a player
+ * values money now over money later, and paying the fine buys moving again
+ * sooner. Rent caps, bankruptcy and buying tiles are left out, and opponents
+ * stay as they are. Early on, when no rent is owed, paying mostly wins;
+ * once opponents have built around the board, sitting in jail is safer.
+ * <p>
+ * Policies depend only on the board and the rent summary, so
+ * {@link #forSummary} keeps them for each summary seen, and asking again is
+ * a map lookup. Boards are told apart by their
+ * {@link BoardDefinition#fingerprint() fingerprint}, so a board assembled by
+ * hand, whose definition is described afresh on every call, still finds its
+ * policies.
+ */
+public final class JailPolicySolver {
+    /** Discount per turn used by the cached policies. */
+    public static final double DEFAULT_DISCOUNT = 0.97;
+
+    private static final int GO_SALARY = 200;
+    private static final double TOLERANCE = 1e-9;
+    private static final int MAX_ITERATIONS = 100_000;
+    /** Policies kept per board before the cache starts over. */
+    private static final int CACHE_LIMIT = 4096;
+
+    private static final Map<Long, Map<RentSummary, JailPolicy>> CACHE = new ConcurrentHashMap<>();
+
+    private JailPolicySolver() {}
+
+    /**
+     * Gets the policy of a player in a running game, solving it on first use.
+     *
+     * @param game the game, with an indexed board
+     * @param player the player who may be jailed
+     * @return the shared policy for the player's rent summary
+     */
+    public static JailPolicy forGame(BoardGame game, Player player) {
+        return forSummary(BoardDefinition.of(game.getBoard()), RentSummary.of(game, player));
+    }
+
+    /**
+     * Gets the policy for a rent summary with the default discount, solving it on first use.
+     *
+     * @param definition the board definition
+     * @param summary the rent the jailed player faces
+     * @return the shared policy
+     */
+    public static JailPolicy forSummary(BoardDefinition definition, RentSummary summary) {
+        Map<RentSummary, JailPolicy> policies = CACHE.computeIfAbsent(definition.fingerprint(),
+            fingerprint -> new ConcurrentHashMap<>());
+        JailPolicy policy = policies.get(summary);
+        if (policy == null) {
+            if (policies.size() >= CACHE_LIMIT) {
+                policies.clear();
+            }
+            policy = solve(definition, summary, DEFAULT_DISCOUNT);
+            JailPolicy raced = policies.putIfAbsent(summary, policy);
+            if (raced != null) {
+                policy = raced;
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Checks if a player in a running game should pay the jail fine now.
+     *
+     * @param game the game
+     * @param player the player
+     * @return true if the player is in jail, can pay and paying is worth more
+     */
+    public static boolean shouldPayJailFine(BoardGame game, Player player) {
+        if (!player.isInJail() || player.getBalance() < BoardGame.JAIL_FINE) {
+            return false;
+        }
+        int position = game.getBoard().getPosition(player.getCurrentTile());
+        return position >= 0 && forGame(game, player).shouldPay(position, player.getJailTurns());
+    }
+
+    /**
+     * Wraps a strategy so it answers the jail question from the solved policy.
+     *
+     * @param strategy the strategy buying and building
+     * @return the strategy, paying the jail fine when {@link #shouldPayJailFine} says so
+     */
+    public static PlayerStrategy withSolvedJailPolicy(PlayerStrategy strategy) {
+        return new PlayerStrategy() {
+            @Override
+            public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+                return strategy.shouldBuy(game, player, tile);
+            }
+
+            @Override
+            public boolean shouldPayJailFine(BoardGame game, Player player) {
+                return JailPolicySolver.shouldPayJailFine(game, player);
+            }
+
+            @Override
+            public int chooseBuild(BoardGame game, Player player) {
+                return strategy.chooseBuild(game, player);
+            }
+        };
+    }
+
+    /**
+     * Solves a policy without consulting the cache.
+     *
+     * @param definition the board definition
+     * @param summary the rent the jailed player faces
+     * @param discount worth of money one turn later, between 0 and 1 exclusive
+     * @return the policy
+     * @throws IllegalArgumentException if the discount is out of range or the summary is for another size
+     * @throws IllegalStateException if the iteration does not converge
+     */
+    public static JailPolicy solve(BoardDefinition definition, RentSummary summary, double discount) {
+        if (!(discount > 0 && discount < 1)) {
+            throw new IllegalArgumentException("Discount must be between 0 and 1, got " + discount);
+        }
+        if (summary.getSize() != definition.getSize()) {
+            throw new IllegalArgumentException("Summary has " + summary.getSize()
+                + " tiles, board has " + definition.getSize());
+        }
+        Turns turns = new Turns(definition, summary, discount);
+        double[] current = new double[turns.stateCount];
+        double[] next = new double[turns.stateCount];
+
+        int iterations = 0;
+        double change;
+        do {
+            if (++iterations > MAX_ITERATIONS) {
+                throw new IllegalStateException("Jail policy did not converge");
+            }
+            turns.step(current, next, null);
+            change = 0.0;
+            for (int state = 0; state < turns.stateCount; state++) {
+                change = Math.max(change, Math.abs(next[state] - current[state]));
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+        } while (change > TOLERANCE);
+
+        double[] payAdvantage = new double[definition.getSize() * MAX_JAIL_TURNS];
+        turns.step(current, next, payAdvantage);
+        return new JailPolicy(payAdvantage, MAX_JAIL_TURNS, iterations);
+    }
+
+    /**
+     * Rewards and destinations of every roll from every tile, laid out in
+     * states the same way as the chain of {@link LandingSolver}: tiles, tiles
+     * with the next turn skipped, then one state per tile and jail turn served.
+     */
+    private static final class Turns {
+        private final int size;
+        private final int stateCount;
+        private final double discount;
+        /** Money a roll brings, by tile and roll. */
+        private final double[] reward;
+        /** State a roll ends the turn in, by tile and roll. */
+        private final int[] target;
+
+        Turns(BoardDefinition definition, RentSummary summary, double discount) {
+            this.size = definition.getSize();
+            this.stateCount = size * (2 + MAX_JAIL_TURNS);
+            this.discount = discount;
+            this.reward = new double[size * SUM_PROBABILITY.length];
+            this.target = new int[size * SUM_PROBABILITY.length];
+            for (int from = 0; from < size; from++) {
+                for (int sum = 2; sum < SUM_PROBABILITY.length; sum++) {
+                    int at = (from + sum) % size;
+                    int i = from * SUM_PROBABILITY.length + sum;
+                    reward[i] = GO_SALARY * ((from + sum) / size) + landing(definition, summary, at, sum);
+                    target[i] = resolve(definition, at);
+                }
+            }
+        }
+
+        private static double landing(BoardDefinition definition, RentSummary summary, int at, int sum) {
+            return switch (definition.getKind(at)) {
+                case GO -> definition.getAmount(at);
+                case TAX -> -definition.getAmount(at);
+                case CHANCE -> (ChanceAction.GAIN - ChanceAction.LOSS) / 2.0;
+                case CHEST -> (ChestAction.GAIN - ChestAction.LOSS) / 2.0;
+                case PROPERTY, RAILROAD, UTILITY -> -summary.getRent(definition, at, sum);
+                default -> 0.0;
+            };
+        }
+
+        private int resolve(BoardDefinition definition, int at) {
+            TileKind kind = definition.getKind(at);
+            if (kind == TileKind.GO_TO_JAIL) {
+                return jailState(definition.getJailPosition(at), 0);
+            }
+            if (kind == TileKind.SKIP_TURN) {
+                return size + at;
+            }
+            return at;
+        }
+
+        private int jailState(int position, int served) {
+            return 2 * size + position * MAX_JAIL_TURNS + served;
+        }
+
+        /**
+         * Performs one Bellman update, and records how much more paying is worth if asked to.
+         */
+        void step(double[] values, double[] next, double[] payAdvantage) {
+            for (int position = 0; position < size; position++) {
+                double free = expect(values, position, SUM_PROBABILITY, 0.0);
+                next[position] = free;
+                next[size + position] = discount * values[position];
+
+                double pay = free - BoardGame.JAIL_FINE;
+                double doubles = expect(values, position, DOUBLES_PROBABILITY, 0.0);
+                for (int served = 0; served < MAX_JAIL_TURNS; served++) {
+                    double roll = doubles;
+                    if (served + 1 < MAX_JAIL_TURNS) {
+                        roll += NO_DOUBLES_PROBABILITY * discount * values[jailState(position, served + 1)];
+                    } else {
+                        // The last jail turn moves by any roll after paying the fine
+                        roll += expect(values, position, SUM_PROBABILITY, -BoardGame.JAIL_FINE)
+                            - expect(values, position, DOUBLES_PROBABILITY, -BoardGame.JAIL_FINE);
+                    }
+                    next[jailState(position, served)] = Math.max(pay, roll);
+                    if (payAdvantage != null) {
+                        payAdvantage[position * MAX_JAIL_TURNS + served] = pay - roll;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the worth of rolling from a tile with the given chance of each sum.
+         */
+        private double expect(double[] values, int from, double[] bySum, double cost) {
+            double total = 0.0;
+            int base = from * SUM_PROBABILITY.length;
+            for (int sum = 2; sum < bySum.length; sum++) {
+                double p = bySum[sum];
+                if (p != 0.0) {
+                    total += p * (cost + reward[base + sum] + discount * values[target[base + sum]]);
+                }
+            }
+            return total;
+        }
+    }
+}
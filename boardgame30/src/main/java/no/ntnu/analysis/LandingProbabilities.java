@@ -0,0 +1,72 @@
+package no.ntnu.analysis;
+
+/**
+ * Long-run tile probabilities of a single player on a board, as computed by
+ * {@link LandingSolver}. Tiles are addressed by their position on the loop.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class LandingProbabilities {
+    private final double[] occupancy;
+    private final double[] landing;
+    private final double jailProbability;
+    private final int iterations;
+
+    LandingProbabilities(double[] occupancy, double[] landing, double jailProbability, int iterations) {
+        this.occupancy = occupancy;
+        this.landing = landing;
+        this.jailProbability = jailProbability;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Gets the number of tiles on the loop.
+     * 
+     * @return board size
+     */
+    public int getSize() {
+        return occupancy.length;
+    }
+
+    /**
+     * Gets the probability that a turn ends with the player on a tile.
+     * A player in jail counts as being on the jail tile.
+     * 
+     * @param position the tile position
+     * @return the probability, summing to 1 over all tiles
+     */
+    public double getOccupancy(int position) {
+        return occupancy[position];
+    }
+
+    /**
+     * Gets the probability that a turn's roll brings the player onto a tile,
+     * which is when its action runs and rent is due. A go-to-jail tile is
+     * landed on even though the player leaves it; being sent to jail does
+     * not count as landing on the jail tile.
+     * 
+     * @param position the tile position
+     * @return the probability per turn
+     */
+    public double getLandingProbability(int position) {
+        return landing[position];
+    }
+
+    /**
+     * Gets the probability that the player starts a turn in jail.
+     * 
+     * @return the jail probability
+     */
+    public double getJailProbability() {
+        return jailProbability;
+    }
+
+    /**
+     * Gets the number of power iterations the solver needed.
+     * 
+     * @return iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+}
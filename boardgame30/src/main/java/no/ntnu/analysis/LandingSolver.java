@@ -0,0 +1,255 @@
+package no.ntnu.analysis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.tile.TileKind;
+
+/**
+ * Computes exact landing probabilities from the rules of
+ * {@link no.ntnu.BoardGame} instead of playing games.
+ * <p>
+ * A single player's turns form a Markov chain. Its states are the tiles, the
+ * turns spent in jail and the tiles where the next turn will be skipped.
+ * Every turn rolls two six-sided dice. A go-to-jail tile sends the player to
+ * jail, where doubles release them and move them by the roll, and the third
+ * jail turn moves them after paying the fine. Cards and money do not move
+ * the player, so they do not enter the chain. The stationary distribution
+ * is found by power iteration on the transition matrix.
+ */
+public final class LandingSolver {
+    static final int DIE_FACES = 6;
+    static final int MAX_JAIL_TURNS = 3;
+    private static final double TOLERANCE = 1e-13;
+    private static final int MAX_ITERATIONS = 100_000;
+
+    /** Probability of each sum of two dice, by sum. */
+    static final double[] SUM_PROBABILITY = new double[2 * DIE_FACES + 1];
+    /** Probability of rolling doubles with each sum, by sum. */
+    static final double[] DOUBLES_PROBABILITY = new double[2 * DIE_FACES + 1];
+    static final double NO_DOUBLES_PROBABILITY = 1.0 - 1.0 / DIE_FACES;
+
+    static {
+        double outcome = 1.0 / (DIE_FACES * DIE_FACES);
+        for (int die1 = 1; die1 <= DIE_FACES; die1++) {
+            for (int die2 = 1; die2 <= DIE_FACES; die2++) {
+                SUM_PROBABILITY[die1 + die2] += outcome;
+                if (die1 == die2) {
+                    DOUBLES_PROBABILITY[die1 + die2] += outcome;
+                }
+            }
+        }
+    }
+
+    private static final Map<BoardDefinition, LandingProbabilities> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private LandingSolver() {}
+
+    /**
+     * Gets the landing probabilities of a board, solving it on first use.
+     * 
+     * @param definition the board definition
+     * @return the shared result for that definition
+     */
+    public static LandingProbabilities forBoard(BoardDefinition definition) {
+        LandingProbabilities result = CACHE.get(definition);
+        if (result == null) {
+            result = solve(definition);
+            LandingProbabilities raced = CACHE.putIfAbsent(definition, result);
+            if (raced != null) {
+                result = raced;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Solves a board without consulting the cache.
+     * 
+     * @param definition the board definition
+     * @return the landing probabilities
+     * @throws IllegalStateException if the iteration does not converge
+     */
+    public static LandingProbabilities solve(BoardDefinition definition) {
+        Chain chain = new Chain(definition);
+        double[] current = new double[chain.stateCount];
+        double[] next = new double[chain.stateCount];
+        current[0] = 1.0;
+
+        int iterations = 0;
+        double change;
+        do {
+            if (++iterations > MAX_ITERATIONS) {
+                throw new IllegalStateException("Landing probabilities did not converge");
+            }
+            Arrays.fill(next, 0.0);
+            for (int state = 0; state < chain.stateCount; state++) {
+                double p = current[state];
+                if (p == 0.0) {
+                    continue;
+                }
+                int[] targets = chain.targets[state];
+                double[] probabilities = chain.probabilities[state];
+                for (int i = 0; i < targets.length; i++) {
+                    next[targets[i]] += p * probabilities[i];
+                }
+            }
+            // Average with the previous step so periodic boards converge too
+            change = 0.0;
+            for (int state = 0; state < chain.stateCount; state++) {
+                double averaged = 0.5 * (current[state] + next[state]);
+                change += Math.abs(averaged - current[state]);
+                next[state] = averaged;
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+        } while (change > TOLERANCE);
+
+        return chain.summarize(current, iterations);
+    }
+
+    /**
+     * Sparse transition matrix of one player's turns on a board.
+     * <p>
+     * States are laid out as: tiles, tiles with the next turn skipped, then
+     * {@link #MAX_JAIL_TURNS} states per tile for the jail turns served.
+     */
+    private static final class Chain {
+        private final BoardDefinition definition;
+        private final int size;
+        private final int stateCount;
+        private final int[][] targets;
+        private final double[][] probabilities;
+
+        Chain(BoardDefinition definition) {
+            this.definition = definition;
+            this.size = definition.getSize();
+            this.stateCount = size * (2 + MAX_JAIL_TURNS);
+            this.targets = new int[stateCount][];
+            this.probabilities = new double[stateCount][];
+
+            double[] row = new double[stateCount];
+            for (int position = 0; position < size; position++) {
+                roll(row, position, SUM_PROBABILITY);
+                store(tileState(position), row);
+
+                row[tileState(position)] = 1.0;
+                store(skipState(position), row);
+
+                for (int served = 0; served < MAX_JAIL_TURNS; served++) {
+                    roll(row, position, DOUBLES_PROBABILITY);
+                    if (served + 1 < MAX_JAIL_TURNS) {
+                        row[jailState(position, served + 1)] += NO_DOUBLES_PROBABILITY;
+                    } else {
+                        // The last jail turn moves by any roll after paying the fine
+                        for (int sum = 2; sum < SUM_PROBABILITY.length; sum++) {
+                            land(row, position, sum, SUM_PROBABILITY[sum] - DOUBLES_PROBABILITY[sum]);
+                        }
+                    }
+                    store(jailState(position, served), row);
+                }
+            }
+        }
+
+        private int tileState(int position) {
+            return position;
+        }
+
+        private int skipState(int position) {
+            return size + position;
+        }
+
+        /**
+         * State of a player in jail on a tile who has served that many jail turns.
+         */
+        private int jailState(int position, int served) {
+            return 2 * size + position * MAX_JAIL_TURNS + served;
+        }
+
+        private void roll(double[] row, int from, double[] bySum) {
+            for (int sum = 2; sum < bySum.length; sum++) {
+                land(row, from, sum, bySum[sum]);
+            }
+        }
+
+        private void land(double[] row, int from, int sum, double probability) {
+            if (probability == 0.0) {
+                return;
+            }
+            int at = (from + sum) % size;
+            row[resolve(at)] += probability;
+        }
+
+        /**
+         * Gets the state a player ends the turn in after landing on a tile.
+         */
+        private int resolve(int at) {
+            TileKind kind = definition.getKind(at);
+            if (kind == TileKind.GO_TO_JAIL) {
+                return jailState(definition.getJailPosition(at), 0);
+            }
+            if (kind == TileKind.SKIP_TURN) {
+                return skipState(at);
+            }
+            return tileState(at);
+        }
+
+        /**
+         * Moves the non-zero entries of a dense row into the sparse matrix and clears the row.
+         */
+        private void store(int state, double[] row) {
+            int count = 0;
+            for (double p : row) {
+                if (p != 0.0) {
+                    count++;
+                }
+            }
+            int[] t = new int[count];
+            double[] p = new double[count];
+            int i = 0;
+            for (int target = 0; target < row.length; target++) {
+                if (row[target] != 0.0) {
+                    t[i] = target;
+                    p[i] = row[target];
+                    i++;
+                    row[target] = 0.0;
+                }
+            }
+            targets[state] = t;
+            probabilities[state] = p;
+        }
+
+        LandingProbabilities summarize(double[] stationary, int iterations) {
+            double[] occupancy = new double[size];
+            double[] landing = new double[size];
+            double jail = 0.0;
+            for (int position = 0; position < size; position++) {
+                occupancy[position] += stationary[tileState(position)] + stationary[skipState(position)];
+                for (int served = 0; served < MAX_JAIL_TURNS; served++) {
+                    occupancy[position] += stationary[jailState(position, served)];
+                    jail += stationary[jailState(position, served)];
+                }
+            }
+            for (int position = 0; position < size; position++) {
+                double free = stationary[tileState(position)];
+                for (int sum = 2; sum < SUM_PROBABILITY.length; sum++) {
+                    landing[(position + sum) % size] += free * SUM_PROBABILITY[sum];
+                }
+                for (int served = 0; served < MAX_JAIL_TURNS; served++) {
+                    double jailed = stationary[jailState(position, served)];
+                    boolean lastTurn = served == MAX_JAIL_TURNS - 1;
+                    for (int sum = 2; sum < SUM_PROBABILITY.length; sum++) {
+                        double moves = lastTurn ? SUM_PROBABILITY[sum] : DOUBLES_PROBABILITY[sum];
+                        landing[(position + sum) % size] += jailed * moves;
+                    }
+                }
+            }
+            return new LandingProbabilities(occupancy, landing, jail, iterations);
+        }
+    }
+}
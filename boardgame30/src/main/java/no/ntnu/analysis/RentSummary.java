@@ -0,0 +1,189 @@
+package no.ntnu.analysis;
+
+import java.util.Arrays;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Player;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.RentTable;
+import no.ntnu.tile.Tile;
+import no.ntnu.tile.TileKind;
+import no.ntnu.tile.UtilityTile;
+
+/**
+ * What one player would owe on landing on each tile, in four bits per tile.
+ * <p>
+ * A tile's level is 0 when nothing is owed, because the tile is unowned, is
+ * the player's own or cannot be owned. Otherwise it is one more than the
+ * index into the tile's {@link RentTable}: the building level of an
+ * opponent's property, or the number of railroads or utilities its owner
+ * has. Summaries with equal levels are equal, so they can key a cache of
+ * results that only depend on the rent a player faces, such as
+ * {@link JailPolicySolver#forSummary}.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class RentSummary {
+    /** Highest level a tile can have. */
+    public static final int MAX_LEVEL = 0xF;
+
+    private static final int BITS = 4;
+    private static final int PER_WORD = Long.SIZE / BITS;
+
+    private final int size;
+    private final long[] levels;
+
+    private RentSummary(int size) {
+        this.size = size;
+        this.levels = new long[(size + PER_WORD - 1) / PER_WORD];
+    }
+
+    /**
+     * Summarizes a running game for a player.
+     *
+     * @param game the game, with an indexed board
+     * @param player the player who would pay
+     * @return the summary, with one level per board position
+     */
+    public static RentSummary of(BoardGame game, Player player) {
+        int size = game.getBoard().getLoopLength();
+        RentSummary summary = new RentSummary(size);
+        for (int position = 0; position < size; position++) {
+            Tile tile = game.getBoard().getTileAt(position);
+            Player owner = game.getOwner(tile);
+            if (owner == null || owner == player) {
+                continue;
+            }
+            if (tile instanceof PropertyTile pt) {
+                summary.set(position, pt.getRentTable(), pt.getRentLevel(game));
+            } else if (tile instanceof RailroadTile rt) {
+                summary.set(position, rt.getRentTable(), owner.getOwnedRailroadCount());
+            } else if (tile instanceof UtilityTile ut) {
+                summary.set(position, ut.getRentTable(), owner.getOwnedUtilityCount());
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Summarizes a compact board state for a seat.
+     *
+     * @param definition the board definition
+     * @param state the owners and buildings
+     * @param seat the seat of the player who would pay
+     * @return the summary, with one level per board position
+     */
+    public static RentSummary of(BoardDefinition definition, BoardState state, int seat) {
+        int size = definition.getSize();
+        RentSummary summary = new RentSummary(size);
+        for (int position = 0; position < size; position++) {
+            int owner = state.getOwner(position);
+            if (owner < 0 || owner == seat) {
+                continue;
+            }
+            TileKind kind = definition.getKind(position);
+            RentTable rents = definition.getRentTable(position);
+            if (kind == TileKind.PROPERTY) {
+                PropertyColor color = definition.getColor(position);
+                boolean monopoly = color != null && countOwned(definition, state, owner, kind, color)
+                    == color.getGroupSize();
+                int level = RentTable.propertyLevel(monopoly, state.getHouses(position), state.hasHotel(position));
+                summary.set(position, rents, level);
+            } else if (kind == TileKind.RAILROAD || kind == TileKind.UTILITY) {
+                summary.set(position, rents, countOwned(definition, state, owner, kind, null));
+            }
+        }
+        return summary;
+    }
+
+    private static int countOwned(BoardDefinition definition, BoardState state, int owner, TileKind kind,
+            PropertyColor color) {
+        int count = 0;
+        for (int position = 0; position < definition.getSize(); position++) {
+            if (state.getOwner(position) == owner && definition.getKind(position) == kind
+                && (color == null || definition.getColor(position) == color)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void set(int position, RentTable rents, int index) {
+        int level = 1 + Math.min(index, Math.min(rents.size() - 1, MAX_LEVEL - 1));
+        int shift = (position % PER_WORD) * BITS;
+        levels[position / PER_WORD] |= (long) level << shift;
+    }
+
+    /**
+     * Gets the number of tiles summarized.
+     *
+     * @return board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the level of a tile.
+     *
+     * @param position the tile position
+     * @return 0 if nothing is owed, otherwise one more than the rent table index
+     */
+    public int getLevel(int position) {
+        return (int) (levels[position / PER_WORD] >>> (position % PER_WORD) * BITS) & MAX_LEVEL;
+    }
+
+    /**
+     * Gets the rent owed on landing on a tile with a roll.
+     *
+     * @param definition the board definition the summary was made for
+     * @param position the tile position
+     * @param roll the dice total, which utility rent is a multiple of
+     * @return the rent, 0 if nothing is owed
+     */
+    public int getRent(BoardDefinition definition, int position, int roll) {
+        int level = getLevel(position);
+        if (level == 0) {
+            return 0;
+        }
+        int rent = definition.getRentTable(position).get(level - 1);
+        return definition.getKind(position) == TileKind.UTILITY ? rent * roll : rent;
+    }
+
+    /**
+     * Checks if nothing is owed anywhere.
+     *
+     * @return true if every level is 0
+     */
+    public boolean isEmpty() {
+        for (long word : levels) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RentSummary other && size == other.size && Arrays.equals(levels, other.levels);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(levels);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RentSummary[");
+        for (int position = 0; position < size; position++) {
+            sb.append(Integer.toHexString(getLevel(position)));
+        }
+        return sb.append(']').toString();
+    }
+}
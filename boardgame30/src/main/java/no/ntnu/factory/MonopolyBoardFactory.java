@@ -1,21 +1,31 @@
 package no.ntnu.factory;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
 import no.ntnu.BoardGame;
 import no.ntnu.tile.Tile;
 import no.ntnu.tile.PropertyColor;
 import no.ntnu.exception.InvalidDataException;
 import no.ntnu.tile.PropertyTile;
 import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.RentTable;
 import no.ntnu.tile.UtilityTile;
 import no.ntnu.tile.NamedTile;
 
 /**
  * Factory for creating a standard Monopoly board.
+ * <p>
+ * Tiles and their actions hold no game state, so games on the same
+ * definition play on one {@link #sharedBoard(BoardDefinition) shared board}
+ * and keep owners and buildings to themselves. Callers that link or register
+ * tiles of their own get a private board from {@link #createBoard(BoardDefinition)}.
  */
 public final class MonopolyBoardFactory {
     private MonopolyBoardFactory() {}
@@ -83,45 +93,209 @@ public final class MonopolyBoardFactory {
     private static final Map<Integer,SpaceSpec> SPEC_BY_ID =
         SPECS.stream().collect(Collectors.toUnmodifiableMap(SpaceSpec::id, s->s));
 
+    /** Rent tables for ownable spaces, computed once and shared by every board. */
+    private static final Map<Integer,RentTable> RENT_TABLE_BY_ID =
+        SPECS.stream()
+            .filter(s -> s.type == SpaceType.PROPERTY || s.type == SpaceType.RAILROAD || s.type == SpaceType.UTILITY)
+            .collect(Collectors.toUnmodifiableMap(SpaceSpec::id, MonopolyBoardFactory::rentTableFor));
+
     /**
-     * Build & return a 40-tile board
+     * The standard board, described once from the specs and shared by every game.
+     */
+    private static final BoardDefinition STANDARD = describeSpecs();
+
+    /**
+     * Gets the shared definition of the standard board.
      * 
-     * @param game the game instance
-     * @return a complete board
+     * @return the immutable standard definition
+     */
+    public static BoardDefinition standardDefinition() {
+        return STANDARD;
+    }
+
+    /**
+     * The tiles of the standard board, built once and shared by every game.
+     */
+    private static final Board STANDARD_BOARD = buildStandardBoard();
+
+    /**
+     * Boards built for other definitions, kept while some game plays on them.
+     */
+    private static final Map<BoardDefinition, WeakReference<Board>> SHARED_BOARDS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the shared 40-tile standard board.
+     * 
+     * @return the board, which must not be changed
+     */
+    public static Board sharedBoard() {
+        return STANDARD_BOARD;
+    }
+
+    /**
+     * Gets the board of a definition that every game on it shares, building it on first use.
+     * 
+     * @param definition the board definition
+     * @return the board, which must not be changed
      * @throws InvalidDataException if board construction fails
      */
-    public static Board createBoard(BoardGame game) throws InvalidDataException {
+    public static Board sharedBoard(BoardDefinition definition) throws InvalidDataException {
+        if (definition == STANDARD) {
+            return STANDARD_BOARD;
+        }
+        synchronized (SHARED_BOARDS) {
+            WeakReference<Board> cached = SHARED_BOARDS.get(definition);
+            Board board = cached != null ? cached.get() : null;
+            if (board == null) {
+                board = createBoard(definition);
+                SHARED_BOARDS.put(definition, new WeakReference<>(board));
+            }
+            return board;
+        }
+    }
+
+    /**
+     * Build & return the tiles of a board definition, linked in a loop and
+     * indexed, for a caller that wants to change them.
+     * 
+     * @param definition the board definition
+     * @return a complete board that refers back to the definition
+     * @throws InvalidDataException if board construction fails
+     */
+    public static Board createBoard(BoardDefinition definition) throws InvalidDataException {
         Board board = new Board();
 
-        SpaceSpec firstSpec = SPEC_BY_ID.get(1);
-        Tile first = instantiateEmptyTile(firstSpec);
+        Tile first = instantiateEmptyTile(definition, 0);
         board.setFirstTile(first);
 
         Tile prev = first;
-        for (int id = 2; id <= 40; id++) {
-            SpaceSpec spec = SPEC_BY_ID.get(id);
-            if (spec == null) {
-                throw new InvalidDataException("No board spec defined for space ID " + id);
-            }
-            Tile t = instantiateEmptyTile(spec);
+        for (int position = 1; position < definition.getSize(); position++) {
+            Tile t = instantiateEmptyTile(definition, position);
             prev.setNextTile(t);
             board.registerTile(t);
             prev = t;
         }
         prev.setNextTile(first);
 
-        for (SpaceSpec spec : SPECS) {
-            if (spec.actionKey != null) {
-                Tile t = board.getTileById(spec.id);
-                t.setAction(TileActionFactory.create(
-                    spec.actionKey, spec.id, board, game
-                ));
-            }
+        for (int position = 0; position < definition.getSize(); position++) {
+            Tile t = board.getTileById(definition.getTileId(position));
+            t.setAction(TileActionFactory.create(definition, position, board, null));
         }
 
+        board.buildIndex();
+        board.setDefinition(definition);
         return board;
     }
 
+    /**
+     * Build & return a private 40-tile board.
+     * 
+     * @param game the game instance, no longer needed since card actions draw
+     *     from the game they run in
+     * @return a complete board
+     * @throws InvalidDataException if board construction fails
+     * @deprecated use {@link #sharedBoard()}, or {@link #createBoard(BoardDefinition)}
+     *     with {@link #standardDefinition()} for a board to change
+     */
+    @Deprecated
+    public static Board createBoard(BoardGame game) throws InvalidDataException {
+        return createBoard(STANDARD);
+    }
+
+    /**
+     * Build & return a private board for a definition.
+     * 
+     * @param definition the board definition
+     * @param game the game instance, no longer needed since card actions draw
+     *     from the game they run in
+     * @return a complete board that refers back to the definition
+     * @throws InvalidDataException if board construction fails
+     * @deprecated use {@link #sharedBoard(BoardDefinition)} or {@link #createBoard(BoardDefinition)}
+     */
+    @Deprecated
+    public static Board createBoard(BoardDefinition definition, BoardGame game) throws InvalidDataException {
+        return createBoard(definition);
+    }
+
+    /**
+     * Helper to build the shared standard board.
+     * 
+     * @return the board
+     */
+    private static Board buildStandardBoard() {
+        try {
+            return createBoard(STANDARD);
+        } catch (InvalidDataException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Helper to describe the standard board from the specs.
+     * <p>
+     * Tiles are built from the specs once and then described, so the
+     * definition matches what the tiles and their actions report.
+     * 
+     * @return the standard definition
+     */
+    private static BoardDefinition describeSpecs() {
+        try {
+            Board board = new Board();
+            SpaceSpec firstSpec = SPEC_BY_ID.get(1);
+            Tile first = instantiateEmptyTile(firstSpec);
+            board.setFirstTile(first);
+
+            Tile prev = first;
+            for (int id = 2; id <= 40; id++) {
+                SpaceSpec spec = SPEC_BY_ID.get(id);
+                if (spec == null) {
+                    throw new InvalidDataException("No board spec defined for space ID " + id);
+                }
+                Tile t = instantiateEmptyTile(spec);
+                prev.setNextTile(t);
+                board.registerTile(t);
+                prev = t;
+            }
+            prev.setNextTile(first);
+
+            for (SpaceSpec spec : SPECS) {
+                if (spec.actionKey != null) {
+                    Tile t = board.getTileById(spec.id);
+                    t.setAction(TileActionFactory.create(
+                        spec.actionKey, spec.id, board, null
+                    ));
+                }
+            }
+
+            board.buildIndex();
+            return BoardDefinition.of(board);
+        } catch (InvalidDataException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Helper to pick the right subclass for a defined tile without attaching an action.
+     * 
+     * @param definition the board definition
+     * @param position the tile position
+     * @return a new tile instance
+     */
+    private static Tile instantiateEmptyTile(BoardDefinition definition, int position) {
+        int id = definition.getTileId(position);
+        String name = definition.getName(position);
+        int price = definition.getPrice(position);
+        RentTable rents = definition.getRentTable(position);
+        return switch (definition.getKind(position)) {
+            case PROPERTY -> new PropertyTile(id, name, definition.getColor(position), price,
+                rents.get(RentTable.BASE), definition.getHousePrice(position), rents);
+            case RAILROAD -> new RailroadTile(id, name, price, rents);
+            case UTILITY  -> new UtilityTile(id, name, price, rents);
+            default      -> new NamedTile(id, name);
+        };
+    }
+
     /**
      * Helper to pick the right subclass without attaching an action.
      * 
@@ -129,11 +303,27 @@ public final class MonopolyBoardFactory {
      * @return a new tile instance
      */
     private static Tile instantiateEmptyTile(SpaceSpec spec) {
+        RentTable rents = RENT_TABLE_BY_ID.get(spec.id);
         return switch (spec.type) {
-            case PROPERTY -> new PropertyTile(spec.id, spec.name, spec.color, spec.price, spec.rent, spec.housePrice);
-            case RAILROAD -> new RailroadTile(spec.id, spec.name, spec.price);
-            case UTILITY  -> new UtilityTile(spec.id, spec.name, spec.price);
+            case PROPERTY -> new PropertyTile(spec.id, spec.name, spec.color, spec.price, spec.rent, spec.housePrice, rents);
+            case RAILROAD -> new RailroadTile(spec.id, spec.name, spec.price, rents);
+            case UTILITY  -> new UtilityTile(spec.id, spec.name, spec.price, rents);
             default      -> new NamedTile(spec.id, spec.name);
         };
     }
+
+    /**
+     * Helper to precompute the rent table of an ownable space.
+     * 
+     * @param spec the space specification
+     * @return the rent table, or null if the space cannot be owned
+     */
+    private static RentTable rentTableFor(SpaceSpec spec) {
+        return switch (spec.type) {
+            case PROPERTY -> RentTable.forProperty(spec.rent);
+            case RAILROAD -> RentTable.forRailroad(spec.rent);
+            case UTILITY  -> RentTable.forUtility();
+            default      -> null;
+        };
+    }
 }
\ No newline at end of file
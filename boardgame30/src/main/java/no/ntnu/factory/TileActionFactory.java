@@ -1,6 +1,7 @@
 package no.ntnu.factory;
 
 import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
 import no.ntnu.BoardGame;
 import no.ntnu.exception.InvalidDataException;
 import no.ntnu.action.TileAction;
@@ -17,6 +18,7 @@ import no.ntnu.tile.Tile;
 import no.ntnu.tile.PropertyTile;
 import no.ntnu.tile.RailroadTile;
 import no.ntnu.tile.UtilityTile;
+import no.ntnu.tile.TileKind;
 
 /**
  * Factory to create TileAction instances based on a string key and tile type.
@@ -28,7 +30,7 @@ public class TileActionFactory {
      * @param type action key (e.g. "PropertyAction")
      * @param tileId ID of the tile
      * @param board board for lookup (e.g. jail)
-     * @param game game instance (unused by most actions)
+     * @param game game whose random source card actions draw from, or null for the game they run in
      * @return new TileAction or null if no action
      * @throws InvalidDataException if type unknown or tile mismatch
      */
@@ -61,9 +63,9 @@ public class TileActionFactory {
                     throw new InvalidDataException("Unknown tax tile #" + tileId);
                 }
             case "ChestAction":
-                return new ChestAction();
+                return game != null ? new ChestAction(game.getRandom()) : new ChestAction();
             case "ChanceAction":
-                return new ChanceAction();
+                return game != null ? new ChanceAction(game.getRandom()) : new ChanceAction();
             case "GoToJailAction":
                 Tile jailTile = board.getTileById(11);
                 if (jailTile == null) {
@@ -77,4 +79,37 @@ public class TileActionFactory {
                 return null;
         }
     }
+
+    /**
+     * Create the TileAction described by a board definition.
+     * Amounts and the jail tile come from the definition rather than the standard board.
+     * @param definition the board definition
+     * @param position position of the tile in the definition
+     * @param board board holding the tiles built from the definition
+     * @param game game whose random source card actions draw from, or null for the game they run in
+     * @return new TileAction or null if the tile has no action
+     * @throws InvalidDataException if a tile does not match its kind
+     */
+    public static TileAction create(BoardDefinition definition, int position, Board board, BoardGame game)
+            throws InvalidDataException {
+        TileKind kind = definition.getKind(position);
+        int tileId = definition.getTileId(position);
+        switch (kind) {
+            case GO:
+                return new GoAction(definition.getAmount(position));
+            case TAX:
+                return new TaxAction(definition.getAmount(position));
+            case GO_TO_JAIL:
+                int jailId = definition.getTileId(definition.getJailPosition(position));
+                Tile jailTile = board.getTileById(jailId);
+                if (jailTile == null) {
+                    throw new InvalidDataException("Jail tile not found id=" + jailId);
+                }
+                return new GoToJailAction(jailTile);
+            case PLAIN:
+                return null;
+            default:
+                return create(kind.getActionKey(), tileId, board, game);
+        }
+    }
 }
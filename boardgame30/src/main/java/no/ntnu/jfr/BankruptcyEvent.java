@@ -0,0 +1,34 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A player eliminated from the game.
+ */
+@Name("no.ntnu.Bankruptcy")
+@Label("Bankruptcy")
+@Category({"Board Game", "Economy"})
+@Description("Player eliminated for a negative balance")
+@StackTrace(false)
+public class BankruptcyEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Balance")
+    int balance;
+
+    @Label("Tiles Released")
+    @Description("Number of tiles returned to the bank")
+    int tilesReleased;
+
+    @Label("Players Left")
+    int playersLeft;
+}
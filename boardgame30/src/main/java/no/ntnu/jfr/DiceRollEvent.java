@@ -0,0 +1,30 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The dice rolled at the start of a turn.
+ */
+@Name("no.ntnu.DiceRoll")
+@Label("Dice Roll")
+@Category({"Board Game", "Engine"})
+@Description("Dice rolled by the current player")
+@StackTrace(false)
+public class DiceRollEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("First Die")
+    int die1;
+
+    @Label("Second Die")
+    int die2;
+
+    @Label("Doubles")
+    boolean doubles;
+}
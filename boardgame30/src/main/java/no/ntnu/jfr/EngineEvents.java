@@ -0,0 +1,211 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.EventType;
+import no.ntnu.Player;
+import no.ntnu.action.TileAction;
+import no.ntnu.tile.Tile;
+
+/**
+ * Emits the engine's Flight Recorder events.
+ * <p>
+ * Each method first checks whether its event type is enabled in a running
+ * recording. When it is not, nothing is allocated and no field is read, so
+ * the engine can call these on every turn. Events that measure work come in
+ * begin and commit pairs; the begin method returns null when the event is off.
+ * <p>
+ * Record a session with {@code -XX:StartFlightRecording} and look for the
+ * "Board Game" category, or enable single events such as {@code no.ntnu.Turn}.
+ */
+public final class EngineEvents {
+    private static final EventType TURN = EventType.getEventType(TurnEvent.class);
+    private static final EventType DICE_ROLL = EventType.getEventType(DiceRollEvent.class);
+    private static final EventType TILE_ACTION = EventType.getEventType(TileActionEvent.class);
+    private static final EventType RENT_PAYMENT = EventType.getEventType(RentPaymentEvent.class);
+    private static final EventType PURCHASE = EventType.getEventType(PurchaseEvent.class);
+    private static final EventType BANKRUPTCY = EventType.getEventType(BankruptcyEvent.class);
+
+    private EngineEvents() {
+    }
+
+    /**
+     * Starts timing a turn.
+     *
+     * @param player the player whose turn it is
+     * @param turn the number of the turn
+     * @return the event to pass to {@link #commitTurn}, or null if turn events are off
+     */
+    public static TurnEvent beginTurn(Player player, int turn) {
+        if (!TURN.isEnabled()) {
+            return null;
+        }
+        TurnEvent event = new TurnEvent();
+        event.turn = turn;
+        event.player = player.getName();
+        event.fromTile = player.getCurrentTileId();
+        event.jailed = player.isInJail();
+        event.balanceChange = -player.getBalance();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a turn started with {@link #beginTurn}.
+     *
+     * @param event the event, may be null
+     * @param player the player whose turn it was
+     * @param roll the dice sum, 0 if the turn was skipped
+     */
+    public static void commitTurn(TurnEvent event, Player player, int roll) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.roll = roll;
+            event.toTile = player.getCurrentTileId();
+            event.balanceChange += player.getBalance();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a dice roll.
+     *
+     * @param player the player who rolled
+     * @param die1 the first die
+     * @param die2 the second die
+     */
+    public static void diceRolled(Player player, int die1, int die2) {
+        if (!DICE_ROLL.isEnabled()) {
+            return;
+        }
+        DiceRollEvent event = new DiceRollEvent();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.die1 = die1;
+            event.die2 = die2;
+            event.doubles = die1 == die2;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a tile action.
+     *
+     * @return the event to pass to {@link #commitTileAction}, or null if tile action events are off
+     */
+    public static TileActionEvent beginTileAction() {
+        if (!TILE_ACTION.isEnabled()) {
+            return null;
+        }
+        TileActionEvent event = new TileActionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a tile action started with {@link #beginTileAction}.
+     *
+     * @param event the event, may be null
+     * @param player the player the action ran for
+     * @param action the action
+     * @param tile the tile the action belongs to
+     */
+    public static void commitTileAction(TileActionEvent event, Player player, TileAction action, Tile tile) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.tileId = tile.getId();
+            event.tileName = tile.getName();
+            event.actionClass = action.getClass();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a rent payment.
+     *
+     * @param payer the player who paid
+     * @param owner the player who received the rent
+     * @param tile the tile rent was paid for
+     * @param amount the amount paid
+     */
+    public static void rentPaid(Player payer, Player owner, Tile tile, int amount) {
+        if (!RENT_PAYMENT.isEnabled()) {
+            return;
+        }
+        RentPaymentEvent event = new RentPaymentEvent();
+        if (event.shouldCommit()) {
+            event.payer = payer.getName();
+            event.owner = owner.getName();
+            event.tileId = tile.getId();
+            event.tileName = tile.getName();
+            event.amount = amount;
+            event.payerBalance = payer.getBalance();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a purchase.
+     *
+     * @param player the buyer, after paying
+     * @param tile the tile bought
+     * @param price the price paid
+     */
+    public static void purchased(Player player, Tile tile, int price) {
+        if (!PURCHASE.isEnabled()) {
+            return;
+        }
+        PurchaseEvent event = new PurchaseEvent();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.tileId = tile.getId();
+            event.tileName = tile.getName();
+            event.price = price;
+            event.balance = player.getBalance();
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts recording a bankruptcy, before the player's tiles are released.
+     *
+     * @param player the bankrupt player
+     * @param turn the current turn
+     * @return the event to pass to {@link #commitBankruptcy}, or null if bankruptcy events are off
+     */
+    public static BankruptcyEvent beginBankruptcy(Player player, int turn) {
+        if (!BANKRUPTCY.isEnabled()) {
+            return null;
+        }
+        BankruptcyEvent event = new BankruptcyEvent();
+        event.begin();
+        event.player = player.getName();
+        event.turn = turn;
+        event.balance = player.getBalance();
+        event.tilesReleased = player.getOwnedProperties().size()
+            + player.getOwnedRailroadCount() + player.getOwnedUtilityCount();
+        return event;
+    }
+
+    /**
+     * Ends a bankruptcy started with {@link #beginBankruptcy}, once the player is removed.
+     *
+     * @param event the event, may be null
+     * @param playersLeft the number of players still in the game
+     */
+    public static void commitBankruptcy(BankruptcyEvent event, int playersLeft) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.playersLeft = playersLeft;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A tile bought from the bank.
+ */
+@Name("no.ntnu.Purchase")
+@Label("Purchase")
+@Category({"Board Game", "Economy"})
+@Description("Tile bought by the current player")
+@StackTrace(false)
+public class PurchaseEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Tile")
+    int tileId;
+
+    @Label("Tile Name")
+    String tileName;
+
+    @Label("Price")
+    int price;
+
+    @Label("Balance")
+    @Description("Balance of the buyer after paying")
+    int balance;
+}
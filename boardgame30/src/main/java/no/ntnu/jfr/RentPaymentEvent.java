@@ -0,0 +1,37 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rent paid from one player to another.
+ */
+@Name("no.ntnu.RentPayment")
+@Label("Rent Payment")
+@Category({"Board Game", "Economy"})
+@Description("Rent paid for landing on another player's tile")
+@StackTrace(false)
+public class RentPaymentEvent extends Event {
+    @Label("Payer")
+    String payer;
+
+    @Label("Owner")
+    String owner;
+
+    @Label("Tile")
+    int tileId;
+
+    @Label("Tile Name")
+    String tileName;
+
+    @Label("Amount")
+    int amount;
+
+    @Label("Payer Balance")
+    @Description("Balance of the payer after paying")
+    int payerBalance;
+}
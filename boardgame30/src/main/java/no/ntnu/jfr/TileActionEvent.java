@@ -0,0 +1,30 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of one tile action, recorded with the action's class.
+ */
+@Name("no.ntnu.TileAction")
+@Label("Tile Action")
+@Category({"Board Game", "Engine"})
+@Description("Execution of the action of the tile a player landed on")
+@StackTrace(false)
+public class TileActionEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Tile")
+    int tileId;
+
+    @Label("Tile Name")
+    String tileName;
+
+    @Label("Action Class")
+    Class<?> actionClass;
+}
@@ -0,0 +1,41 @@
+package no.ntnu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call of {@link no.ntnu.BoardGame#playTurn()}, from the roll to the last tile action.
+ */
+@Name("no.ntnu.Turn")
+@Label("Turn")
+@Category({"Board Game", "Engine"})
+@Description("Execution of one player's turn")
+@StackTrace(false)
+public class TurnEvent extends Event {
+    @Label("Turn")
+    int turn;
+
+    @Label("Player")
+    String player;
+
+    @Label("Roll")
+    @Description("Sum of the dice, 0 for a skipped turn")
+    int roll;
+
+    @Label("From Tile")
+    int fromTile;
+
+    @Label("To Tile")
+    int toTile;
+
+    @Label("Balance Change")
+    int balanceChange;
+
+    @Label("Jailed")
+    @Description("The player started the turn in jail")
+    boolean jailed;
+}
@@ -0,0 +1,249 @@
+package no.ntnu.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import no.ntnu.Player;
+import no.ntnu.observer.GameEventKind;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Observer that appends every game event to memory-mapped segment files in
+ * a compact binary encoding, see {@link JournalFormat}.
+ * <p>
+ * Records are encoded into a small reused buffer and copied into the
+ * mapped segment, so journaling a turn does no I/O calls and allocates
+ * nothing once players and action names are known. When a segment is full
+ * the next one is created. Read a journal back with {@link GameJournalReader}.
+ */
+public class GameJournal implements GameObserver, AutoCloseable {
+    /** Default segment size, 16 MiB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 << 20;
+    private static final int MAX_RECORD_SIZE = 1024;
+    private static final int MAX_NAME_BYTES = MAX_RECORD_SIZE - 16;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ByteBuffer record = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final Map<Player, Integer> playerIds = new IdentityHashMap<>();
+    private final Map<String, Integer> actionIds = new HashMap<>();
+    private int segmentIndex = -1;
+    private MappedByteBuffer segment;
+    private int previousRent;
+    private long recordCount;
+
+    /**
+     * Opens a journal with the default segment size.
+     * 
+     * @param directory directory for the segment files, created if missing
+     * @throws IOException if the first segment cannot be created
+     */
+    public GameJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens a journal, replacing segments left in the directory by an earlier journal.
+     * 
+     * @param directory directory for the segment files, created if missing
+     * @param segmentSize size of each segment file in bytes
+     * @throws IOException if the first segment cannot be created
+     * @throws IllegalArgumentException if a segment could not hold the largest record
+     */
+    public GameJournal(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 2 * MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        try (var old = Files.newDirectoryStream(directory,
+                JournalFormat.SEGMENT_PREFIX + "*" + JournalFormat.SEGMENT_SUFFIX)) {
+            for (Path file : old) {
+                Files.delete(file);
+            }
+        }
+        openSegment();
+    }
+
+    /**
+     * Gets the number of event records written.
+     * 
+     * @return event count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the number of segment files written so far.
+     * 
+     * @return segment count
+     */
+    public int getSegmentCount() {
+        return segmentIndex + 1;
+    }
+
+    private void openSegment() throws IOException {
+        if (segment != null) {
+            segment.put(JournalFormat.END);
+            segment.force();
+        }
+        segmentIndex++;
+        Path file = directory.resolve(JournalFormat.segmentName(segmentIndex));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        playerIds.clear();
+        actionIds.clear();
+        previousRent = 0;
+    }
+
+    /**
+     * Makes room for a record with its definitions, starting a new segment if needed.
+     * Definitions are written first since they depend on the segment.
+     */
+    private void reserve() {
+        // One byte stays free for the end marker
+        if (segment.remaining() <= 3 * MAX_RECORD_SIZE) {
+            try {
+                openSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Journal segment could not be created", e);
+            }
+        }
+    }
+
+    private int playerId(Player player) {
+        Integer id = playerIds.get(player);
+        if (id == null) {
+            id = playerIds.size();
+            playerIds.put(player, id);
+            writeDefinition(JournalFormat.DEFINE_PLAYER, id, player.getName());
+        }
+        return id;
+    }
+
+    private int actionId(String actionName) {
+        Integer id = actionIds.get(actionName);
+        if (id == null) {
+            id = actionIds.size();
+            actionIds.put(actionName, id);
+            writeDefinition(JournalFormat.DEFINE_ACTION, id, actionName);
+        }
+        return id;
+    }
+
+    private void writeDefinition(byte type, int id, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_NAME_BYTES);
+        // Cut long names before a character, not inside one
+        while (length < bytes.length && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        segment.put(type);
+        JournalFormat.putVarint(segment, id);
+        JournalFormat.putVarint(segment, length);
+        segment.put(bytes, 0, length);
+    }
+
+    private void begin(GameEventKind kind) {
+        if (segment == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        reserve();
+        record.clear();
+        record.put(JournalFormat.typeOf(kind));
+    }
+
+    private void commit() {
+        record.flip();
+        segment.put(record);
+        recordCount++;
+    }
+
+    @Override
+    public void onDiceRoll(Player player, int die1, int die2) {
+        begin(GameEventKind.DICE_ROLL);
+        JournalFormat.putVarint(record, playerId(player));
+        JournalFormat.putVarint(record, die1);
+        JournalFormat.putVarint(record, die2);
+        commit();
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+        begin(GameEventKind.PLAYER_MOVED);
+        JournalFormat.putVarint(record, playerId(player));
+        JournalFormat.putVarint(record, from.getId());
+        JournalFormat.putVarint(record, to.getId());
+        JournalFormat.putVarint(record, steps);
+        commit();
+    }
+
+    @Override
+    public void onTileAction(Player player, String actionName, Tile tile) {
+        begin(GameEventKind.TILE_ACTION);
+        JournalFormat.putVarint(record, playerId(player));
+        JournalFormat.putVarint(record, actionId(actionName));
+        JournalFormat.putVarint(record, tile.getId());
+        commit();
+    }
+
+    @Override
+    public void onPropertyAvailable(Player player, Tile property) {
+        begin(GameEventKind.PROPERTY_AVAILABLE);
+        JournalFormat.putVarint(record, playerId(player));
+        JournalFormat.putVarint(record, property.getId());
+        commit();
+    }
+
+    @Override
+    public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+        begin(GameEventKind.RENT_PAID);
+        JournalFormat.putVarint(record, playerId(payer));
+        JournalFormat.putVarint(record, playerId(owner));
+        JournalFormat.putVarint(record, property.getId());
+        JournalFormat.putVarint(record, JournalFormat.zigzag(amount - previousRent));
+        previousRent = amount;
+        commit();
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        begin(GameEventKind.PLAYER_SKIPPED);
+        JournalFormat.putVarint(record, playerId(player));
+        commit();
+    }
+
+    @Override
+    public void onGameEnd(Player winner) {
+        begin(GameEventKind.GAME_END);
+        JournalFormat.putVarint(record, playerId(winner));
+        commit();
+    }
+
+    /**
+     * Marks the end of the data and forces the last segment to disk.
+     */
+    @Override
+    public void close() {
+        if (segment != null) {
+            segment.put(JournalFormat.END);
+            segment.force();
+            segment = null;
+        }
+    }
+}
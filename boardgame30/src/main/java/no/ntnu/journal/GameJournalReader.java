@@ -0,0 +1,227 @@
+package no.ntnu.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import no.ntnu.observer.GameEventKind;
+
+/**
+ * Reads the events of a {@link GameJournal} in order, segment after segment.
+ * <p>
+ * The reader is a cursor: {@link #next()} decodes the next event into the
+ * reader itself and the getters describe it, so iterating allocates nothing
+ * but the names of players and actions as they are defined.
+ * <pre>
+ * try (GameJournalReader reader = new GameJournalReader(dir)) {
+ *     while (reader.next()) {
+ *         if (reader.getKind() == GameEventKind.RENT_PAID) { ... }
+ *     }
+ * }
+ * </pre>
+ */
+public class GameJournalReader implements AutoCloseable {
+    private final List<Path> segments;
+    private int segmentIndex = -1;
+    private MappedByteBuffer segment;
+    private String[] playerNames = new String[8];
+    private String[] actionNames = new String[8];
+    private int previousRent;
+
+    private GameEventKind kind;
+    private int player;
+    private int otherPlayer;
+    private int fromTile;
+    private int tile;
+    private int action;
+    private int first;
+    private int second;
+
+    /**
+     * Opens the journal in a directory.
+     * 
+     * @param directory directory holding the segment files
+     * @throws IOException if the directory cannot be listed
+     */
+    public GameJournalReader(Path directory) throws IOException {
+        segments = new ArrayList<>();
+        try (var files = Files.newDirectoryStream(directory,
+                JournalFormat.SEGMENT_PREFIX + "*" + JournalFormat.SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                segments.add(file);
+            }
+        }
+        segments.sort(null);
+    }
+
+    /**
+     * Moves to the next event.
+     * 
+     * @return false when the journal has no more events
+     * @throws IOException if a segment cannot be mapped
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            if (segment == null || !segment.hasRemaining()) {
+                if (!openNextSegment()) {
+                    return false;
+                }
+            }
+            byte type = segment.get();
+            switch (type) {
+                case JournalFormat.END -> segment = null;
+                case JournalFormat.DEFINE_PLAYER -> playerNames = define(playerNames);
+                case JournalFormat.DEFINE_ACTION -> actionNames = define(actionNames);
+                default -> {
+                    decode(type);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private boolean openNextSegment() throws IOException {
+        segmentIndex++;
+        if (segmentIndex >= segments.size()) {
+            segment = null;
+            segmentIndex = segments.size();
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(segments.get(segmentIndex), StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        Arrays.fill(playerNames, null);
+        Arrays.fill(actionNames, null);
+        previousRent = 0;
+        return true;
+    }
+
+    private String[] define(String[] names) {
+        int id = JournalFormat.getVarint(segment);
+        int length = JournalFormat.getVarint(segment);
+        byte[] bytes = new byte[length];
+        segment.get(bytes);
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(id + 1, names.length * 2));
+        }
+        names[id] = new String(bytes, StandardCharsets.UTF_8);
+        return names;
+    }
+
+    private void decode(byte type) {
+        kind = JournalFormat.kindOf(type);
+        if (kind == null) {
+            throw new IllegalStateException("Corrupt journal: unknown record type " + type
+                + " in " + segments.get(segmentIndex).getFileName());
+        }
+        otherPlayer = -1;
+        fromTile = -1;
+        tile = -1;
+        action = -1;
+        first = 0;
+        second = 0;
+        player = JournalFormat.getVarint(segment);
+        switch (kind) {
+            case DICE_ROLL -> {
+                first = JournalFormat.getVarint(segment);
+                second = JournalFormat.getVarint(segment);
+            }
+            case PLAYER_MOVED -> {
+                fromTile = JournalFormat.getVarint(segment);
+                tile = JournalFormat.getVarint(segment);
+                first = JournalFormat.getVarint(segment);
+            }
+            case TILE_ACTION -> {
+                action = JournalFormat.getVarint(segment);
+                tile = JournalFormat.getVarint(segment);
+            }
+            case PROPERTY_AVAILABLE -> tile = JournalFormat.getVarint(segment);
+            case RENT_PAID -> {
+                otherPlayer = JournalFormat.getVarint(segment);
+                tile = JournalFormat.getVarint(segment);
+                first = previousRent + JournalFormat.unzigzag(JournalFormat.getVarint(segment));
+                previousRent = first;
+            }
+            case PLAYER_SKIPPED, GAME_END -> {
+                // Only the player
+            }
+        }
+    }
+
+    public GameEventKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the number of the event's player within the current segment.
+     * 
+     * @return the player number
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    public String getPlayerName() {
+        return playerNames[player];
+    }
+
+    /**
+     * Gets the name of the owner receiving rent.
+     * 
+     * @return the owner's name, or null for other kinds
+     */
+    public String getOtherPlayerName() {
+        return otherPlayer >= 0 ? playerNames[otherPlayer] : null;
+    }
+
+    /**
+     * Gets the ID of the tile a move started from.
+     * 
+     * @return the tile ID, or -1 for other kinds
+     */
+    public int getFromTileId() {
+        return fromTile;
+    }
+
+    /**
+     * Gets the ID of the tile the event happened on, or the destination of a move.
+     * 
+     * @return the tile ID, or -1 for rolls, skips and game end
+     */
+    public int getTileId() {
+        return tile;
+    }
+
+    public String getActionName() {
+        return action >= 0 ? actionNames[action] : null;
+    }
+
+    public int getDie1() {
+        return first;
+    }
+
+    public int getDie2() {
+        return second;
+    }
+
+    public int getSteps() {
+        return first;
+    }
+
+    public int getAmount() {
+        return first;
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+        segmentIndex = segments.size();
+    }
+}
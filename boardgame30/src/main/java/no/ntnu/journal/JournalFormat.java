@@ -0,0 +1,86 @@
+package no.ntnu.journal;
+
+import java.nio.ByteBuffer;
+
+import no.ntnu.observer.GameEventKind;
+
+/**
+ * Binary layout shared by {@link GameJournal} and {@link GameJournalReader}.
+ * <p>
+ * A journal is a directory of fixed-size segment files. Each record starts
+ * with a type byte: the event kind ordinal plus one, or a definition of a
+ * player or action name. A zero type byte ends the data of a segment.
+ * Numbers are unsigned LEB128 varints; rent amounts are zigzag varints of
+ * the difference to the previous rent in the segment. Players and action
+ * names are numbered per segment and defined before first use, so every
+ * segment can be read on its own.
+ * <pre>
+ * DICE_ROLL          player, die1, die2
+ * PLAYER_MOVED       player, from tile, to tile, steps
+ * TILE_ACTION        player, action, tile
+ * PROPERTY_AVAILABLE player, tile
+ * RENT_PAID          payer, owner, tile, amount delta
+ * PLAYER_SKIPPED     player
+ * GAME_END           player
+ * DEFINE_PLAYER      player, name length, UTF-8 name
+ * DEFINE_ACTION      action, name length, UTF-8 name
+ * </pre>
+ */
+final class JournalFormat {
+    static final byte END = 0;
+    static final byte DEFINE_PLAYER = 0x70;
+    static final byte DEFINE_ACTION = 0x71;
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final GameEventKind[] KINDS = GameEventKind.values();
+
+    private JournalFormat() {}
+
+    static byte typeOf(GameEventKind kind) {
+        return (byte) (kind.ordinal() + 1);
+    }
+
+    /**
+     * Gets the event kind of a type byte.
+     * 
+     * @return the kind, or null for definitions and the end marker
+     */
+    static GameEventKind kindOf(byte type) {
+        int ordinal = type - 1;
+        return ordinal >= 0 && ordinal < KINDS.length ? KINDS[ordinal] : null;
+    }
+
+    static String segmentName(int index) {
+        return String.format("%s%05d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
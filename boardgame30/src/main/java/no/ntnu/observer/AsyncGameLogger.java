@@ -0,0 +1,274 @@
+package no.ntnu.observer;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Writes the same lines as {@link ConsoleGameLogger} from a background thread.
+ * <p>
+ * Register the logger on a game like any observer. Events are handed to a
+ * writer thread through a {@link GameEventBus}, so the game thread never
+ * waits for console or file I/O. The writer formats each line into a reused
+ * buffer and writes whenever it has caught up with the game or the buffer
+ * is full. If the writer falls too far behind, lines are dropped rather than
+ * slowing the game, see {@link #getDroppedCount()}.
+ */
+public class AsyncGameLogger implements GameObserver, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final GameEventBus bus;
+    private final GameEventBus.Subscription subscription;
+    private final Writer writer;
+
+    /**
+     * Creates a logger writing to a channel.
+     * 
+     * @param channel where lines are written
+     * @param capacity number of events that can wait for the writer, a power of two
+     * @param closeChannel whether {@link #close()} also closes the channel
+     */
+    public AsyncGameLogger(WritableByteChannel channel, int capacity, boolean closeChannel) {
+        this.bus = new GameEventBus(capacity);
+        this.writer = new Writer(channel, closeChannel);
+        this.subscription = bus.subscribe(writer);
+    }
+
+    /**
+     * Creates a logger writing to standard output.
+     * Lines bypass {@code System.out}, which is left open on close.
+     * 
+     * @return the logger
+     */
+    public static AsyncGameLogger toStdout() {
+        return new AsyncGameLogger(Channels.newChannel(new FileOutputStream(FileDescriptor.out)),
+            DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a logger writing to a file, replacing its contents.
+     * 
+     * @param file the log file
+     * @return the logger
+     * @throws IOException if the file cannot be opened
+     */
+    public static AsyncGameLogger toFile(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new AsyncGameLogger(channel, DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Gets the number of lines lost because the writer fell behind.
+     * 
+     * @return dropped line count
+     */
+    public long getDroppedCount() {
+        return subscription.getDroppedCount();
+    }
+
+    /**
+     * Gets the number of lines written so far.
+     * 
+     * @return written line count
+     */
+    public long getWrittenCount() {
+        return subscription.getDeliveredCount();
+    }
+
+    /**
+     * Writes every pending line and stops the writer thread.
+     * 
+     * @throws UncheckedIOException if the writer failed to write
+     */
+    @Override
+    public void close() {
+        bus.close();
+        writer.close();
+    }
+
+    @Override
+    public void onDiceRoll(Player player, int die1, int die2) {
+        bus.onDiceRoll(player, die1, die2);
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+        bus.onPlayerMoved(player, from, to, steps);
+    }
+
+    @Override
+    public void onTileAction(Player player, String actionName, Tile tile) {
+        bus.onTileAction(player, actionName, tile);
+    }
+
+    @Override
+    public void onPropertyAvailable(Player player, Tile property) {
+        bus.onPropertyAvailable(player, property);
+    }
+
+    @Override
+    public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+        bus.onRentPaid(payer, owner, property, amount);
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        bus.onPlayerSkipped(player);
+    }
+
+    @Override
+    public void onGameEnd(Player winner) {
+        bus.onGameEnd(winner);
+    }
+
+    /**
+     * Formats and writes lines on the bus consumer thread.
+     */
+    private static final class Writer implements GameEventBus.BatchObserver {
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+
+        private final WritableByteChannel channel;
+        private final boolean closeChannel;
+        private final StringBuilder line = new StringBuilder(128);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private char[] chars = new char[128];
+        private CharBuffer charBuffer = CharBuffer.wrap(chars);
+        private IOException failure;
+
+        Writer(WritableByteChannel channel, boolean closeChannel) {
+            this.channel = channel;
+            this.closeChannel = closeChannel;
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            line.setLength(0);
+            GameLogFormat.appendDiceRoll(line, player, die1, die2);
+            append();
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            line.setLength(0);
+            GameLogFormat.appendPlayerMoved(line, player, from, to, steps);
+            append();
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            line.setLength(0);
+            GameLogFormat.appendTileAction(line, player, actionName, tile);
+            append();
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            line.setLength(0);
+            GameLogFormat.appendPropertyAvailable(line, player, property);
+            append();
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            line.setLength(0);
+            GameLogFormat.appendRentPaid(line, payer, owner, property, amount);
+            append();
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            line.setLength(0);
+            GameLogFormat.appendPlayerSkipped(line, player);
+            append();
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            line.setLength(0);
+            GameLogFormat.appendGameEnd(line, winner);
+            append();
+        }
+
+        @Override
+        public void onBatchEnd() {
+            flush();
+        }
+
+        /**
+         * Encodes the formatted line into the byte buffer, writing it out when full.
+         */
+        private void append() {
+            line.append(LINE_SEPARATOR);
+            int length = line.length();
+            if (length > chars.length) {
+                chars = new char[Math.max(length, 2 * chars.length)];
+                charBuffer = CharBuffer.wrap(chars);
+            }
+            line.getChars(0, length, chars, 0);
+            charBuffer.clear().limit(length);
+            while (true) {
+                CoderResult result = encoder.encode(charBuffer, bytes, true);
+                if (result.isUnderflow()) {
+                    break;
+                }
+                if (result.isOverflow()) {
+                    flush();
+                } else {
+                    // Unmappable characters cannot occur in UTF-8; skip anything malformed
+                    charBuffer.position(charBuffer.position() + result.length());
+                }
+            }
+            encoder.reset();
+        }
+
+        private void flush() {
+            bytes.flip();
+            try {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            bytes.clear();
+        }
+
+        /**
+         * Writes what is left and closes the channel if owned. Called after the consumer thread ended.
+         */
+        void close() {
+            flush();
+            if (closeChannel) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Game log could not be written", failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package no.ntnu.observer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Times every call a game makes into its observers.
+ * <p>
+ * Install the profiler with {@link no.ntnu.BoardGame#setDispatchProfiler}; the
+ * game then calls each observer through a wrapper that reads the clock around
+ * the call and adds the latency to the observer's {@link ObserverStats}. Calls
+ * over the budget are counted, and observers with any such call are reported
+ * as slow. Numbers can be read at any time, or written out periodically with
+ * {@link #startReporting}. One profiler can be shared by several games.
+ * <p>
+ * Statistics are kept per observer, held weakly: once an observer is removed
+ * from every game and otherwise unreachable, it is collected and its
+ * statistics are dropped, so a long-running host can attach and detach
+ * clients without the profiler growing.
+ */
+public class DispatchProfiler implements AutoCloseable {
+    private static final GameEventKind[] KINDS = GameEventKind.values();
+
+    private final long budgetNanos;
+    /** Statistics by weakly held observer. Guarded by itself, which also guards polling {@link #collected}. */
+    private final Map<ObserverKey, ObserverStats> stats = new HashMap<>();
+    private final ReferenceQueue<GameObserver> collected = new ReferenceQueue<>();
+    private ScheduledExecutorService reporter;
+
+    /**
+     * Creates a profiler.
+     *
+     * @param budget the longest a single observer call may take before the observer is flagged
+     */
+    public DispatchProfiler(Duration budget) {
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException("Budget cannot be negative: " + budget);
+        }
+        this.budgetNanos = budget.toNanos();
+    }
+
+    public Duration getBudget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * Wraps an observer so calls into it are timed. Wrapping the same observer
+     * again adds to the same statistics.
+     *
+     * @param observer the observer
+     * @return an observer with the same interests that times and forwards every call
+     */
+    public GameObserver instrument(GameObserver observer) {
+        if (observer instanceof TimedObserver timed && timed.profiler == this) {
+            return observer;
+        }
+        return new TimedObserver(this, observer, statsFor(observer));
+    }
+
+    /**
+     * Gets the statistics to record calls into an observer in, creating them
+     * on first use. For callers that time calls themselves with
+     * {@link #record}, such as wrappers that must not hold the observer.
+     *
+     * @param observer the observer
+     * @return the statistics, shared with every other wrapper of the observer
+     */
+    public ObserverStats statsFor(GameObserver observer) {
+        synchronized (stats) {
+            expunge();
+            ObserverKey key = new ObserverKey(observer, collected);
+            ObserverStats observerStats = stats.get(key);
+            if (observerStats == null) {
+                observerStats = new ObserverStats(observer);
+                stats.put(key, observerStats);
+            }
+            return observerStats;
+        }
+    }
+
+    /**
+     * Records a call that started at the given time and has just returned.
+     *
+     * @param observerStats statistics from {@link #statsFor}
+     * @param kind the event kind of the call
+     * @param startNanos {@link System#nanoTime()} when the call started
+     */
+    public void record(ObserverStats observerStats, GameEventKind kind, long startNanos) {
+        observerStats.record(kind, System.nanoTime() - startNanos, budgetNanos);
+    }
+
+    /**
+     * Gets the statistics of every observer seen so far.
+     *
+     * @return live statistics, in no particular order
+     */
+    public List<ObserverStats> getStats() {
+        synchronized (stats) {
+            expunge();
+            return new ArrayList<>(stats.values());
+        }
+    }
+
+    /**
+     * Gets the statistics of one observer.
+     *
+     * @param observer the observer, not the wrapper
+     * @return the statistics, or null if the observer was never instrumented
+     */
+    public ObserverStats getStats(GameObserver observer) {
+        synchronized (stats) {
+            expunge();
+            return stats.get(new ObserverKey(observer, null));
+        }
+    }
+
+    /**
+     * Drops the statistics of observers that have been garbage collected.
+     */
+    private void expunge() {
+        for (Reference<? extends GameObserver> key; (key = collected.poll()) != null; ) {
+            stats.remove(key);
+        }
+    }
+
+    /**
+     * Gets the observers that had at least one call over the budget.
+     *
+     * @return statistics of the slow observers
+     */
+    public List<ObserverStats> getSlowObservers() {
+        List<ObserverStats> slow = new ArrayList<>();
+        for (ObserverStats observerStats : getStats()) {
+            if (observerStats.isOverBudget()) {
+                slow.add(observerStats);
+            }
+        }
+        return slow;
+    }
+
+    /**
+     * Clears the statistics of every observer.
+     */
+    public void reset() {
+        for (ObserverStats observerStats : getStats()) {
+            observerStats.reset();
+        }
+    }
+
+    /**
+     * Describes the statistics, one line per observer and event kind that has calls.
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Observer dispatch, budget ").append(budgetNanos / 1000.0).append(" us\n");
+        for (ObserverStats observerStats : getStats()) {
+            for (GameEventKind kind : KINDS) {
+                long count = observerStats.getCount(kind);
+                if (count == 0) {
+                    continue;
+                }
+                long over = observerStats.getOverBudgetCount(kind);
+                sb.append(String.format("  %-32s %-18s calls=%d mean=%.2fus p99<=%.2fus max=%.2fus over=%d%s%n",
+                    observerStats.getName(), kind, count,
+                    observerStats.getMeanNanos(kind) / 1000.0,
+                    observerStats.getPercentileNanos(kind, 99) / 1000.0,
+                    observerStats.getMaxNanos(kind) / 1000.0,
+                    over, over > 0 ? " SLOW" : ""));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Starts writing the report periodically from a daemon thread, replacing any earlier schedule.
+     *
+     * @param period time between two reports
+     * @param sink receives each report, for example {@code System.out::print}
+     */
+    public synchronized void startReporting(Duration period, Consumer<String> sink) {
+        stopReporting();
+        reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "dispatch-profiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = period.toNanos();
+        reporter.scheduleAtFixedRate(() -> sink.accept(report()), nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops periodic reports, if any were started.
+     */
+    public synchronized void stopReporting() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        stopReporting();
+    }
+
+    /**
+     * Weak map key comparing observers by identity. A cleared key only equals
+     * itself, which is how it is found again to be removed.
+     */
+    private static final class ObserverKey extends WeakReference<GameObserver> {
+        private final int hash;
+
+        ObserverKey(GameObserver observer, ReferenceQueue<GameObserver> queue) {
+            super(observer, queue);
+            this.hash = System.identityHashCode(observer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            GameObserver observer = get();
+            return observer != null && o instanceof ObserverKey other && other.get() == observer;
+        }
+    }
+
+    /**
+     * Forwards every call to the observer, timing it.
+     */
+    private static final class TimedObserver implements GameObserver {
+        private final DispatchProfiler profiler;
+        private final GameObserver observer;
+        private final ObserverStats stats;
+
+        TimedObserver(DispatchProfiler profiler, GameObserver observer, ObserverStats stats) {
+            this.profiler = profiler;
+            this.observer = observer;
+            this.stats = stats;
+        }
+
+        private void record(GameEventKind kind, long start) {
+            profiler.record(stats, kind, start);
+        }
+
+        @Override
+        public Set<GameEventKind> getInterests() {
+            return observer.getInterests();
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            long start = System.nanoTime();
+            observer.onDiceRoll(player, die1, die2);
+            record(GameEventKind.DICE_ROLL, start);
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            long start = System.nanoTime();
+            observer.onPlayerMoved(player, from, to, steps);
+            record(GameEventKind.PLAYER_MOVED, start);
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            long start = System.nanoTime();
+            observer.onTileAction(player, actionName, tile);
+            record(GameEventKind.TILE_ACTION, start);
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            long start = System.nanoTime();
+            observer.onPropertyAvailable(player, property);
+            record(GameEventKind.PROPERTY_AVAILABLE, start);
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            long start = System.nanoTime();
+            observer.onRentPaid(payer, owner, property, amount);
+            record(GameEventKind.RENT_PAID, start);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            long start = System.nanoTime();
+            observer.onPlayerSkipped(player);
+            record(GameEventKind.PLAYER_SKIPPED, start);
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            long start = System.nanoTime();
+            observer.onGameEnd(winner);
+            record(GameEventKind.GAME_END, start);
+        }
+    }
+}
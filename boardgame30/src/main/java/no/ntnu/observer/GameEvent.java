@@ -0,0 +1,131 @@
+package no.ntnu.observer;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * One game event as carried by a {@link GameEventBus}.
+ * <p>
+ * Events are reusable holders: the bus overwrites them in place, so a
+ * consumer must not keep a reference after handling one. Players and tiles
+ * are the live game objects; their identity, name and ID are safe to read
+ * from another thread, their changing state is not.
+ */
+public final class GameEvent {
+    private long sequence;
+    private GameEventKind kind;
+    private Player player;
+    private Player otherPlayer;
+    private Tile fromTile;
+    private Tile tile;
+    private String actionName;
+    private int first;
+    private int second;
+
+    void set(GameEventKind kind, Player player, Player otherPlayer, Tile fromTile, Tile tile,
+             String actionName, int first, int second) {
+        this.kind = kind;
+        this.player = player;
+        this.otherPlayer = otherPlayer;
+        this.fromTile = fromTile;
+        this.tile = tile;
+        this.actionName = actionName;
+        this.first = first;
+        this.second = second;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void copyTo(GameEvent target) {
+        target.sequence = sequence;
+        target.set(kind, player, otherPlayer, fromTile, tile, actionName, first, second);
+    }
+
+    /**
+     * Calls the observer method matching this event.
+     * 
+     * @param observer the observer to notify
+     */
+    public void dispatchTo(GameObserver observer) {
+        switch (kind) {
+            case DICE_ROLL -> observer.onDiceRoll(player, first, second);
+            case PLAYER_MOVED -> observer.onPlayerMoved(player, fromTile, tile, first);
+            case TILE_ACTION -> observer.onTileAction(player, actionName, tile);
+            case PROPERTY_AVAILABLE -> observer.onPropertyAvailable(player, tile);
+            case RENT_PAID -> observer.onRentPaid(player, otherPlayer, tile, first);
+            case PLAYER_SKIPPED -> observer.onPlayerSkipped(player);
+            case GAME_END -> observer.onGameEnd(player);
+        }
+    }
+
+    /**
+     * Gets the position of this event in the stream, starting at 0.
+     * 
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public GameEventKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the player the event is about: the roller, mover, payer or winner.
+     * 
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the owner receiving rent.
+     * 
+     * @return the owner, or null for other kinds
+     */
+    public Player getOtherPlayer() {
+        return otherPlayer;
+    }
+
+    /**
+     * Gets the tile a move started from.
+     * 
+     * @return the tile, or null for other kinds
+     */
+    public Tile getFromTile() {
+        return fromTile;
+    }
+
+    /**
+     * Gets the tile the event happened on, or the destination of a move.
+     * 
+     * @return the tile, or null for rolls, skips and game end
+     */
+    public Tile getTile() {
+        return tile;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public int getDie1() {
+        return first;
+    }
+
+    public int getDie2() {
+        return second;
+    }
+
+    public int getSteps() {
+        return first;
+    }
+
+    public int getAmount() {
+        return first;
+    }
+}
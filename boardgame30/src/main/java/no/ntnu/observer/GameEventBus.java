@@ -0,0 +1,297 @@
+package no.ntnu.observer;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Hands game events to slow observers on their own threads.
+ * <p>
+ * Register the bus on a game with {@code game.addObserver(bus)}. Each event
+ * is written into a preallocated slot of a ring buffer and published with a
+ * sequence number, so publishing allocates nothing and never waits. Every
+ * subscribed observer runs on its own thread and follows the sequence at its
+ * own pace. A consumer that falls more than the capacity behind skips the
+ * events that were overwritten and counts them as dropped.
+ * <p>
+ * Events must be published from a single thread, the one playing the game.
+ */
+public class GameEventBus implements GameObserver, AutoCloseable {
+    private static final int SPIN_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final List<Consumer> consumers = new CopyOnWriteArrayList<>();
+    private long nextSequence = 0;
+    /** Sequence of the last published event, -1 before the first. */
+    private volatile long cursor = -1;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a bus.
+     * 
+     * @param capacity number of slots, a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the number of events published so far.
+     * 
+     * @return published event count
+     */
+    public long getPublishedCount() {
+        return cursor + 1;
+    }
+
+    /**
+     * Starts delivering events to an observer on a new daemon thread.
+     * The observer receives events published from now on.
+     * 
+     * @param observer the observer
+     * @return the subscription, for its progress and drop count
+     * @throws IllegalStateException if the bus is closed
+     */
+    public Subscription subscribe(GameObserver observer) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        Consumer consumer = new Consumer(observer, cursor + 1);
+        Thread thread = new Thread(consumer, "game-events-" + observer.getClass().getSimpleName());
+        thread.setDaemon(true);
+        consumer.thread = thread;
+        consumers.add(consumer);
+        thread.start();
+        return consumer;
+    }
+
+    /**
+     * Stops accepting events, lets every consumer finish what it can still
+     * read and waits for their threads to end.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+        }
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void publish(GameEventKind kind, Player player, Player otherPlayer, Tile fromTile, Tile tile,
+                         String actionName, int first, int second) {
+        if (closed) {
+            return;
+        }
+        long sequence = nextSequence++;
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.version = 2 * sequence + 1;
+        VarHandle.storeStoreFence();
+        slot.event.setSequence(sequence);
+        slot.event.set(kind, player, otherPlayer, fromTile, tile, actionName, first, second);
+        slot.version = 2 * sequence + 2;
+        cursor = sequence;
+
+        for (int i = 0, n = consumers.size(); i < n; i++) {
+            Consumer consumer = consumers.get(i);
+            if (consumer.sleeping) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    @Override
+    public void onDiceRoll(Player player, int die1, int die2) {
+        publish(GameEventKind.DICE_ROLL, player, null, null, null, null, die1, die2);
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+        publish(GameEventKind.PLAYER_MOVED, player, null, from, to, null, steps, 0);
+    }
+
+    @Override
+    public void onTileAction(Player player, String actionName, Tile tile) {
+        publish(GameEventKind.TILE_ACTION, player, null, null, tile, actionName, 0, 0);
+    }
+
+    @Override
+    public void onPropertyAvailable(Player player, Tile property) {
+        publish(GameEventKind.PROPERTY_AVAILABLE, player, null, null, property, null, 0, 0);
+    }
+
+    @Override
+    public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+        publish(GameEventKind.RENT_PAID, payer, owner, null, property, null, amount, 0);
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        publish(GameEventKind.PLAYER_SKIPPED, player, null, null, null, null, 0, 0);
+    }
+
+    @Override
+    public void onGameEnd(Player winner) {
+        publish(GameEventKind.GAME_END, winner, null, null, null, null, 0, 0);
+    }
+
+    /**
+     * An observer that also hears when its consumer has caught up with the
+     * published events, for example to flush output written in batches.
+     */
+    public interface BatchObserver extends GameObserver {
+        /**
+         * Called on the consumer thread whenever it has handled every event
+         * published so far, including the last ones before the bus closes.
+         */
+        void onBatchEnd();
+    }
+
+    /**
+     * Progress of one subscribed observer.
+     */
+    public interface Subscription {
+        /**
+         * Gets the number of events handed to the observer.
+         * 
+         * @return delivered event count
+         */
+        long getDeliveredCount();
+
+        /**
+         * Gets the number of events overwritten before the observer could read them.
+         * 
+         * @return dropped event count
+         */
+        long getDroppedCount();
+    }
+
+    /**
+     * A ring buffer slot. The version is odd while the event is being written
+     * and {@code 2 * sequence + 2} once it holds that sequence.
+     */
+    private static final class Slot {
+        private volatile long version = 0;
+        private final GameEvent event = new GameEvent();
+    }
+
+    private final class Consumer implements Runnable, Subscription {
+        private final GameObserver observer;
+        private final GameEvent scratch = new GameEvent();
+        private Thread thread;
+        private long next;
+        private volatile boolean sleeping = false;
+        private volatile long delivered = 0;
+        private volatile long dropped = 0;
+
+        Consumer(GameObserver observer, long next) {
+            this.observer = observer;
+            this.next = next;
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            boolean inBatch = false;
+            while (true) {
+                long available = cursor;
+                if (next > available) {
+                    if (inBatch) {
+                        endBatch();
+                        inBatch = false;
+                    }
+                    if (closed && next > cursor) {
+                        return;
+                    }
+                    idle = idle(idle);
+                    continue;
+                }
+                idle = 0;
+                inBatch = true;
+                if (available - next >= slots.length) {
+                    long oldest = available - slots.length + 1;
+                    dropped += oldest - next;
+                    next = oldest;
+                }
+                if (read(next)) {
+                    scratch.dispatchTo(observer);
+                    delivered++;
+                } else {
+                    dropped++;
+                }
+                next++;
+            }
+        }
+
+        private void endBatch() {
+            if (observer instanceof BatchObserver batchObserver) {
+                batchObserver.onBatchEnd();
+            }
+        }
+
+        /**
+         * Copies the event with a sequence out of its slot.
+         * 
+         * @return false if the producer overwrote the slot while it was read
+         */
+        private boolean read(long sequence) {
+            Slot slot = slots[(int) (sequence & mask)];
+            long version = slot.version;
+            if (version != 2 * sequence + 2) {
+                return false;
+            }
+            slot.event.copyTo(scratch);
+            VarHandle.loadLoadFence();
+            return slot.version == version;
+        }
+
+        private int idle(int idle) {
+            if (idle < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return idle + 1;
+            }
+            sleeping = true;
+            if (next > cursor && !closed) {
+                LockSupport.parkNanos(MAX_PARK_NANOS);
+            }
+            sleeping = false;
+            return idle;
+        }
+
+        @Override
+        public long getDeliveredCount() {
+            return delivered;
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return dropped;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package no.ntnu.observer;
+
+/**
+ * The kinds of event a {@link GameObserver} can receive, one per callback.
+ */
+public enum GameEventKind {
+    DICE_ROLL,
+    PLAYER_MOVED,
+    TILE_ACTION,
+    PROPERTY_AVAILABLE,
+    RENT_PAID,
+    PLAYER_SKIPPED,
+    GAME_END
+}
@@ -0,0 +1,45 @@
+package no.ntnu.observer;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * The log lines written by {@link AsyncGameLogger}, worded as
+ * {@link ConsoleGameLogger} words them, appended to a caller's buffer so the
+ * consumer thread can reuse it.
+ */
+final class GameLogFormat {
+    private GameLogFormat() {}
+
+    static void appendDiceRoll(StringBuilder out, Player player, int die1, int die2) {
+        out.append(player.getName()).append(" rolled ").append(die1).append(" and ").append(die2)
+            .append(" for ").append(die1 + die2);
+    }
+
+    static void appendPlayerMoved(StringBuilder out, Player player, Tile from, Tile to, int steps) {
+        out.append(player.getName()).append(" moves from ").append(from.getId()).append(" to ").append(to.getId())
+            .append(" in ").append(steps).append(" steps");
+    }
+
+    static void appendTileAction(StringBuilder out, Player player, String actionName, Tile tile) {
+        out.append(player.getName()).append(" executes ").append(actionName).append(" on tile ").append(tile.getId());
+    }
+
+    static void appendPropertyAvailable(StringBuilder out, Player player, Tile property) {
+        out.append(player.getName()).append(" may buy ").append(property.getName()).append(" for ")
+            .append(property.getPrice());
+    }
+
+    static void appendRentPaid(StringBuilder out, Player payer, Player owner, Tile property, int amount) {
+        out.append(payer.getName()).append(" pays ").append(amount).append(" to ").append(owner.getName())
+            .append(" for ").append(property.getName());
+    }
+
+    static void appendPlayerSkipped(StringBuilder out, Player player) {
+        out.append(player.getName()).append(" skips turn");
+    }
+
+    static void appendGameEnd(StringBuilder out, Player winner) {
+        out.append("Game over winner ").append(winner.getName());
+    }
+}
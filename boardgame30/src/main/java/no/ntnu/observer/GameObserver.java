@@ -1,5 +1,8 @@
 package no.ntnu.observer;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import no.ntnu.Player;
 import no.ntnu.tile.Tile;
 
@@ -7,6 +10,15 @@ import no.ntnu.tile.Tile;
  * Observer for Monopoly game events.
  */
 public interface GameObserver {
+    /**
+     * Gets the event kinds this observer wants. The game reads this once,
+     * when the observer is added, and only calls the matching methods.
+     * @return the wanted kinds, all of them by default
+     */
+    default Set<GameEventKind> getInterests() {
+        return EnumSet.allOf(GameEventKind.class);
+    }
+
     /**
      * Called when the current player rolls the dice.
      * @param player the player who rolled
@@ -0,0 +1,179 @@
+package no.ntnu.observer;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Dispatch timings of one observer, kept per event kind.
+ * <p>
+ * Latencies go into a log2 histogram: bucket {@code b} counts calls that took
+ * from {@code 2^b} up to {@code 2^(b+1)} nanoseconds, bucket 0 also holding
+ * calls under one nanosecond. Counters are updated by the game thread and can
+ * be read from any thread while the game runs. The observer is held weakly,
+ * so keeping its statistics does not keep it alive.
+ */
+public final class ObserverStats {
+    /** Number of histogram buckets, enough for any latency in nanoseconds. */
+    public static final int BUCKETS = 64;
+
+    private static final GameEventKind[] KINDS = GameEventKind.values();
+    private static final int COUNT = 0;
+    private static final int TOTAL = 1;
+    private static final int MAX = 2;
+    private static final int OVER_BUDGET = 3;
+    private static final int FIELDS = 4;
+
+    private final WeakReference<GameObserver> observer;
+    private final String name;
+    private final AtomicLongArray totals = new AtomicLongArray(KINDS.length * FIELDS);
+    private final AtomicLongArray histograms = new AtomicLongArray(KINDS.length * BUCKETS);
+
+    ObserverStats(GameObserver observer) {
+        this.observer = new WeakReference<>(observer);
+        this.name = observer.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(observer));
+    }
+
+    /**
+     * Records one call.
+     */
+    void record(GameEventKind kind, long nanos, long budgetNanos) {
+        int base = kind.ordinal() * FIELDS;
+        totals.getAndIncrement(base + COUNT);
+        totals.getAndAdd(base + TOTAL, nanos);
+        if (nanos > totals.get(base + MAX)) {
+            totals.accumulateAndGet(base + MAX, nanos, Math::max);
+        }
+        if (nanos > budgetNanos) {
+            totals.getAndIncrement(base + OVER_BUDGET);
+        }
+        histograms.getAndIncrement(kind.ordinal() * BUCKETS + bucket(nanos));
+    }
+
+    /**
+     * Gets the histogram bucket of a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     * @return the bucket index
+     */
+    public static int bucket(long nanos) {
+        return nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Gets the observer the statistics are about.
+     *
+     * @return the observer, or null once it has been garbage collected
+     */
+    public GameObserver getObserver() {
+        return observer.get();
+    }
+
+    /**
+     * Gets a name for reports: the class name and identity hash of the observer.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public long getCount(GameEventKind kind) {
+        return totals.get(kind.ordinal() * FIELDS + COUNT);
+    }
+
+    public long getTotalNanos(GameEventKind kind) {
+        return totals.get(kind.ordinal() * FIELDS + TOTAL);
+    }
+
+    public long getMaxNanos(GameEventKind kind) {
+        return totals.get(kind.ordinal() * FIELDS + MAX);
+    }
+
+    /**
+     * Gets the number of calls that took longer than the profiler's budget.
+     *
+     * @param kind the event kind
+     * @return the count
+     */
+    public long getOverBudgetCount(GameEventKind kind) {
+        return totals.get(kind.ordinal() * FIELDS + OVER_BUDGET);
+    }
+
+    /**
+     * Gets the mean latency of calls for one kind.
+     *
+     * @param kind the event kind
+     * @return the mean in nanoseconds, 0 if there were no calls
+     */
+    public double getMeanNanos(GameEventKind kind) {
+        long count = getCount(kind);
+        return count == 0 ? 0 : (double) getTotalNanos(kind) / count;
+    }
+
+    /**
+     * Gets a copy of the latency histogram for one kind.
+     *
+     * @param kind the event kind
+     * @return the bucket counts, see the class description
+     */
+    public long[] getHistogram(GameEventKind kind) {
+        long[] buckets = new long[BUCKETS];
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets[b] = histograms.get(kind.ordinal() * BUCKETS + b);
+        }
+        return buckets;
+    }
+
+    /**
+     * Estimates a latency percentile from the histogram.
+     *
+     * @param kind the event kind
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound of the bucket holding the percentile, 0 if there were no calls
+     */
+    public long getPercentileNanos(GameEventKind kind, double percentile) {
+        long[] buckets = getHistogram(kind);
+        long count = 0;
+        for (long c : buckets) {
+            count += c;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets[b];
+            if (seen >= rank && buckets[b] > 0) {
+                return b >= 62 ? Long.MAX_VALUE : (2L << b) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Checks if any call of any kind took longer than the budget.
+     *
+     * @return true if the observer is slow
+     */
+    public boolean isOverBudget() {
+        for (GameEventKind kind : KINDS) {
+            if (getOverBudgetCount(kind) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears all counters.
+     */
+    void reset() {
+        for (int i = 0; i < totals.length(); i++) {
+            totals.set(i, 0);
+        }
+        for (int i = 0; i < histograms.length(); i++) {
+            histograms.set(i, 0);
+        }
+    }
+}
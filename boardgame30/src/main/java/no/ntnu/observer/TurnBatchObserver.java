@@ -0,0 +1,28 @@
+package no.ntnu.observer;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Observer that receives the events of a whole turn at once, after the
+ * turn is over, instead of one call per event.
+ * <p>
+ * Register with {@code BoardGame.addTurnObserver}. A turn ends when the game
+ * passes the turn on, when the next turn starts after a bankruptcy, or when
+ * the game ends.
+ */
+public interface TurnBatchObserver {
+    /**
+     * Gets the event kinds this observer wants in its batches.
+     * @return the wanted kinds, all of them by default
+     */
+    default Set<GameEventKind> getInterests() {
+        return EnumSet.allOf(GameEventKind.class);
+    }
+
+    /**
+     * Called once per turn that produced wanted events.
+     * @param batch the turn's events, reused for the next turn, so it must not be kept
+     */
+    void onTurnCompleted(TurnEventBatch batch);
+}
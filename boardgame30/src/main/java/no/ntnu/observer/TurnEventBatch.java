@@ -0,0 +1,177 @@
+package no.ntnu.observer;
+
+import java.util.Arrays;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * The events of one turn, in the order they happened.
+ * <p>
+ * A batch is a set of parallel arrays that is cleared and refilled every
+ * turn, so recording a turn allocates nothing once the arrays have grown to
+ * the longest turn seen. Event {@code i} is read with the indexed getters,
+ * which mean the same as the {@link GameEvent} getters.
+ */
+public final class TurnEventBatch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private GameEventKind[] kinds = new GameEventKind[INITIAL_CAPACITY];
+    private Player[] players = new Player[INITIAL_CAPACITY];
+    private Player[] otherPlayers = new Player[INITIAL_CAPACITY];
+    private Tile[] fromTiles = new Tile[INITIAL_CAPACITY];
+    private Tile[] tiles = new Tile[INITIAL_CAPACITY];
+    private String[] actionNames = new String[INITIAL_CAPACITY];
+    private int[] firsts = new int[INITIAL_CAPACITY];
+    private int[] seconds = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int kindMask = 0;
+    private int turn;
+
+    void add(GameEventKind kind, Player player, Player otherPlayer, Tile fromTile, Tile tile,
+             String actionName, int first, int second) {
+        if (size == kinds.length) {
+            grow();
+        }
+        kinds[size] = kind;
+        players[size] = player;
+        otherPlayers[size] = otherPlayer;
+        fromTiles[size] = fromTile;
+        tiles[size] = tile;
+        actionNames[size] = actionName;
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+        kindMask |= 1 << kind.ordinal();
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        players = Arrays.copyOf(players, capacity);
+        otherPlayers = Arrays.copyOf(otherPlayers, capacity);
+        fromTiles = Arrays.copyOf(fromTiles, capacity);
+        tiles = Arrays.copyOf(tiles, capacity);
+        actionNames = Arrays.copyOf(actionNames, capacity);
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+    }
+
+    /**
+     * Empties the batch, dropping its references to players, tiles and
+     * action names so a batch kept after its game ends does not keep them alive.
+     */
+    void clear() {
+        Arrays.fill(kinds, 0, size, null);
+        Arrays.fill(players, 0, size, null);
+        Arrays.fill(otherPlayers, 0, size, null);
+        Arrays.fill(fromTiles, 0, size, null);
+        Arrays.fill(tiles, 0, size, null);
+        Arrays.fill(actionNames, 0, size, null);
+        size = 0;
+        kindMask = 0;
+    }
+
+    void setTurn(int turn) {
+        this.turn = turn;
+    }
+
+    /**
+     * Gets the game's turn count when the turn ended.
+     * 
+     * @return the turn number, starting at 1
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the number of events in the turn.
+     * 
+     * @return event count
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the turn had an event of a kind.
+     * 
+     * @param kind the event kind
+     * @return true if at least one such event is in the batch
+     */
+    public boolean contains(GameEventKind kind) {
+        return (kindMask & (1 << kind.ordinal())) != 0;
+    }
+
+    public GameEventKind getKind(int index) {
+        return kinds[checkIndex(index)];
+    }
+
+    public Player getPlayer(int index) {
+        return players[checkIndex(index)];
+    }
+
+    public Player getOtherPlayer(int index) {
+        return otherPlayers[checkIndex(index)];
+    }
+
+    public Tile getFromTile(int index) {
+        return fromTiles[checkIndex(index)];
+    }
+
+    public Tile getTile(int index) {
+        return tiles[checkIndex(index)];
+    }
+
+    public String getActionName(int index) {
+        return actionNames[checkIndex(index)];
+    }
+
+    public int getDie1(int index) {
+        return firsts[checkIndex(index)];
+    }
+
+    public int getDie2(int index) {
+        return seconds[checkIndex(index)];
+    }
+
+    public int getSteps(int index) {
+        return firsts[checkIndex(index)];
+    }
+
+    public int getAmount(int index) {
+        return firsts[checkIndex(index)];
+    }
+
+    /**
+     * Calls the observer method of every event in order, for code written
+     * against {@link GameObserver}.
+     * 
+     * @param observer the observer to notify
+     */
+    public void replayTo(GameObserver observer) {
+        for (int i = 0; i < size; i++) {
+            switch (kinds[i]) {
+                case DICE_ROLL -> observer.onDiceRoll(players[i], firsts[i], seconds[i]);
+                case PLAYER_MOVED -> observer.onPlayerMoved(players[i], fromTiles[i], tiles[i], firsts[i]);
+                case TILE_ACTION -> observer.onTileAction(players[i], actionNames[i], tiles[i]);
+                case PROPERTY_AVAILABLE -> observer.onPropertyAvailable(players[i], tiles[i]);
+                case RENT_PAID -> observer.onRentPaid(players[i], otherPlayers[i], tiles[i], firsts[i]);
+                case PLAYER_SKIPPED -> observer.onPlayerSkipped(players[i]);
+                case GAME_END -> observer.onGameEnd(players[i]);
+            }
+        }
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Event " + index + " of " + size);
+        }
+        return index;
+    }
+}
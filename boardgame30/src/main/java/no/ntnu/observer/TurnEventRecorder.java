@@ -0,0 +1,160 @@
+package no.ntnu.observer;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Collects a game's events into a {@link TurnEventBatch} and hands the batch
+ * to every {@link TurnBatchObserver} when the game ends a turn.
+ * <p>
+ * Used by BoardGame, which registers it as an observer and calls
+ * {@link #endTurn(int)} at turn boundaries. Each batch observer only sees
+ * the kinds it is interested in; the recorder asks the game for the union.
+ * Batch observers may be added or removed while a batch is being delivered.
+ */
+public final class TurnEventRecorder implements GameObserver {
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+    private volatile Subscriber[] subscribers = NO_SUBSCRIBERS;
+    private final EnumSet<GameEventKind> interests = EnumSet.noneOf(GameEventKind.class);
+    private final TurnEventBatch batch = new TurnEventBatch();
+
+    /**
+     * Adds a batch observer. The game must re-read {@link #getInterests()} afterwards.
+     * 
+     * @param observer the observer, whose interests are read once here
+     */
+    public void add(TurnBatchObserver observer) {
+        Set<GameEventKind> wanted = observer.getInterests();
+        boolean wantsAll = wanted.containsAll(EnumSet.allOf(GameEventKind.class));
+        Subscriber[] grown = Arrays.copyOf(subscribers, subscribers.length + 1);
+        grown[subscribers.length] = new Subscriber(observer, wantsAll ? null : new TurnEventBatch(), maskOf(wanted));
+        subscribers = grown;
+        interests.addAll(wanted);
+    }
+
+    /**
+     * Removes a batch observer. The game must re-read {@link #getInterests()} afterwards.
+     * 
+     * @param observer the observer to remove
+     * @return true if the observer was registered
+     */
+    public boolean remove(TurnBatchObserver observer) {
+        Subscriber[] remaining = Arrays.stream(subscribers)
+            .filter(subscriber -> subscriber.observer() != observer)
+            .toArray(Subscriber[]::new);
+        if (remaining.length == subscribers.length) {
+            return false;
+        }
+        subscribers = remaining;
+        interests.clear();
+        for (Subscriber subscriber : remaining) {
+            for (GameEventKind kind : GameEventKind.values()) {
+                if ((subscriber.mask() & (1 << kind.ordinal())) != 0) {
+                    interests.add(kind);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if any batch observer is registered.
+     * 
+     * @return true if there are none
+     */
+    public boolean isEmpty() {
+        return subscribers.length == 0;
+    }
+
+    @Override
+    public Set<GameEventKind> getInterests() {
+        return EnumSet.copyOf(interests);
+    }
+
+    /**
+     * Delivers the events recorded since the last call, if any, and starts a new batch.
+     * 
+     * @param turn the game's turn count
+     */
+    public void endTurn(int turn) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.setTurn(turn);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.deliver(batch, turn);
+        }
+        batch.clear();
+    }
+
+    private static int maskOf(Set<GameEventKind> kinds) {
+        int mask = 0;
+        for (GameEventKind kind : kinds) {
+            mask |= 1 << kind.ordinal();
+        }
+        return mask;
+    }
+
+    @Override
+    public void onDiceRoll(Player player, int die1, int die2) {
+        batch.add(GameEventKind.DICE_ROLL, player, null, null, null, null, die1, die2);
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+        batch.add(GameEventKind.PLAYER_MOVED, player, null, from, to, null, steps, 0);
+    }
+
+    @Override
+    public void onTileAction(Player player, String actionName, Tile tile) {
+        batch.add(GameEventKind.TILE_ACTION, player, null, null, tile, actionName, 0, 0);
+    }
+
+    @Override
+    public void onPropertyAvailable(Player player, Tile property) {
+        batch.add(GameEventKind.PROPERTY_AVAILABLE, player, null, null, property, null, 0, 0);
+    }
+
+    @Override
+    public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+        batch.add(GameEventKind.RENT_PAID, payer, owner, null, property, null, amount, 0);
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        batch.add(GameEventKind.PLAYER_SKIPPED, player, null, null, null, null, 0, 0);
+    }
+
+    @Override
+    public void onGameEnd(Player winner) {
+        batch.add(GameEventKind.GAME_END, winner, null, null, null, null, 0, 0);
+    }
+
+    /**
+     * A batch observer with a filtered batch of its own when it does not want every kind.
+     */
+    private record Subscriber(TurnBatchObserver observer, TurnEventBatch filtered, int mask) {
+        void deliver(TurnEventBatch all, int turn) {
+            if (filtered == null) {
+                observer.onTurnCompleted(all);
+                return;
+            }
+            filtered.clear();
+            for (int i = 0; i < all.size(); i++) {
+                if ((mask & (1 << all.getKind(i).ordinal())) != 0) {
+                    filtered.add(all.getKind(i), all.getPlayer(i), all.getOtherPlayer(i), all.getFromTile(i),
+                        all.getTile(i), all.getActionName(i), all.getDie1(i), all.getDie2(i));
+                }
+            }
+            if (!filtered.isEmpty()) {
+                filtered.setTurn(turn);
+                observer.onTurnCompleted(filtered);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package no.ntnu.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures how many bytes the game thread allocates per turn, split by {@link TurnPhase}.
+ * <p>
+ * Install the profiler with {@link no.ntnu.BoardGame#setAllocationProfiler}.
+ * The game then reads the JVM's allocated-bytes counter for the current thread
+ * at every phase change of {@link no.ntnu.BoardGame#playTurn()} and around every
+ * observer call, and adds the difference to the phase that was running.
+ * Allocation outside {@code playTurn}, such as by {@code buyProperty}, is not
+ * counted. A profiler must only be used by the thread that plays the game.
+ */
+public class AllocationProfiler {
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final long[] bytesByPhase = new long[PHASES.length];
+    private long turns = 0;
+    private long maxTurnBytes = 0;
+    private long turnStartBytes;
+    private long mark;
+    private TurnPhase current;
+
+    /**
+     * Creates a profiler and turns on allocation counting in the JVM.
+     *
+     * @throws UnsupportedOperationException if the JVM cannot count allocated bytes per thread
+     */
+    public AllocationProfiler() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+            || !bean.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("Per-thread allocation counting is not supported by this JVM");
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.threads = bean;
+    }
+
+    /**
+     * Checks if this JVM can count allocated bytes per thread.
+     *
+     * @return true if a profiler can be created
+     */
+    public static boolean isSupported() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Reads the allocated-bytes counter of the current thread.
+     *
+     * @return bytes allocated by this thread so far
+     */
+    public long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Starts counting a turn in the {@link TurnPhase#ROLL} phase.
+     */
+    public void beginTurn() {
+        mark = allocatedBytes();
+        turnStartBytes = mark;
+        current = TurnPhase.ROLL;
+    }
+
+    /**
+     * Switches to another phase, charging what was allocated since the last
+     * switch to the phase that was running. Does nothing outside a turn.
+     *
+     * @param phase the phase starting now
+     * @return the phase that was running, or null outside a turn
+     */
+    public TurnPhase enter(TurnPhase phase) {
+        TurnPhase previous = current;
+        if (previous == null) {
+            return null;
+        }
+        long now = allocatedBytes();
+        bytesByPhase[previous.ordinal()] += now - mark;
+        mark = now;
+        current = phase;
+        return previous;
+    }
+
+    /**
+     * Ends the turn started with {@link #beginTurn()}.
+     */
+    public void endTurn() {
+        if (current == null) {
+            return;
+        }
+        enter(current);
+        maxTurnBytes = Math.max(maxTurnBytes, mark - turnStartBytes);
+        turns++;
+        current = null;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the bytes allocated in one phase over all turns.
+     *
+     * @param phase the phase
+     * @return the byte count
+     */
+    public long getBytes(TurnPhase phase) {
+        return bytesByPhase[phase.ordinal()];
+    }
+
+    /**
+     * Gets the bytes allocated over all turns.
+     *
+     * @return the byte count
+     */
+    public long getTotalBytes() {
+        long total = 0;
+        for (long bytes : bytesByPhase) {
+            total += bytes;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the mean bytes allocated in one phase per turn.
+     *
+     * @param phase the phase
+     * @return bytes per turn, 0 before the first turn
+     */
+    public double getBytesPerTurn(TurnPhase phase) {
+        return turns == 0 ? 0 : (double) getBytes(phase) / turns;
+    }
+
+    /**
+     * Gets the mean bytes allocated per turn over all phases.
+     *
+     * @return bytes per turn, 0 before the first turn
+     */
+    public double getTotalBytesPerTurn() {
+        return turns == 0 ? 0 : (double) getTotalBytes() / turns;
+    }
+
+    /**
+     * Gets the most bytes allocated by a single turn.
+     *
+     * @return the byte count
+     */
+    public long getMaxTurnBytes() {
+        return maxTurnBytes;
+    }
+
+    /**
+     * Clears all counts.
+     */
+    public void reset() {
+        Arrays.fill(bytesByPhase, 0);
+        turns = 0;
+        maxTurnBytes = 0;
+        current = null;
+    }
+
+    /**
+     * Describes the allocation per turn and phase.
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Allocation over %d turns: %.1f bytes/turn, max %d bytes%n",
+            turns, getTotalBytesPerTurn(), maxTurnBytes));
+        for (TurnPhase phase : PHASES) {
+            sb.append(String.format("  %-8s %10.1f bytes/turn%n", phase, getBytesPerTurn(phase)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package no.ntnu.profiling;
+
+/**
+ * Parts of a turn that allocation is attributed to.
+ */
+public enum TurnPhase {
+    /** Turn bookkeeping, skipped turns, the dice roll and jail handling. */
+    ROLL,
+    /** Moving the player, including GO salary. */
+    MOVE,
+    /** Running the actions of the tiles the player lands on. */
+    ACTIONS,
+    /** Calls into observers, wherever in the turn they happen. */
+    NOTIFY
+}
@@ -0,0 +1,33 @@
+package no.ntnu.search;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.tile.PropertyTile;
+
+/**
+ * Lists the build choices a player has, as a strategy answers them.
+ */
+final class BuildOptions {
+    private BuildOptions() {}
+
+    /**
+     * Writes {@link PlayerStrategy#NO_BUILD} followed by every position the
+     * player can build a house or hotel on.
+     *
+     * @param game the game
+     * @param player the player
+     * @param options array with room for one more entry than the board has positions
+     * @return the number of options written, at least 1
+     */
+    static int list(BoardGame game, Player player, int[] options) {
+        int count = 0;
+        options[count++] = PlayerStrategy.NO_BUILD;
+        for (PropertyTile property : player.getOwnedProperties()) {
+            if (property.canBuildHouse(game) || property.canBuildHotel(game)) {
+                options[count++] = game.getBoard().getPosition(property);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package no.ntnu.search;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.UtilityTile;
+
+/**
+ * Scores a position for one player, where searches stop looking ahead.
+ * <p>
+ * Scores lie between 0 and 1, higher is better: a won game is worth 1 and a
+ * lost one 0. Searches rely on these bounds to prune, so an evaluator must
+ * keep to them. Evaluators may be called from several threads at once.
+ */
+@FunctionalInterface
+public interface Evaluator {
+    /**
+     * Scores a position.
+     *
+     * @param game the game, finished or not
+     * @param player the player to score for, who may have gone bankrupt
+     * @return the score, between 0 and 1
+     */
+    double evaluate(BoardGame game, Player player);
+
+    /**
+     * Scores a win 1, a bankruptcy 0 and an unfinished game by the player's
+     * share of the total net worth of the players left.
+     *
+     * @return the evaluator
+     */
+    static Evaluator netWorthShare() {
+        return (game, player) -> {
+            if (game.isFinished()) {
+                return game.getWinner() == player ? 1 : 0;
+            }
+            if (!game.getPlayers().contains(player)) {
+                return 0;
+            }
+            long total = 0;
+            for (Player other : game.getPlayers()) {
+                total += netWorth(game, other);
+            }
+            return total <= 0 ? 0 : (double) netWorth(game, player) / total;
+        };
+    }
+
+    /**
+     * Adds up a player's cash, the purchase prices of what they own and the
+     * cost of their buildings.
+     *
+     * @param game the game whose buildings count
+     * @param player the player
+     * @return the net worth, not counting debt
+     */
+    static long netWorth(BoardGame game, Player player) {
+        long worth = Math.max(0, player.getBalance());
+        for (PropertyTile property : player.getOwnedProperties()) {
+            int buildings = game.getBuildings(property);
+            worth += property.getPrice() + (long) buildings * property.getHousePrice();
+        }
+        for (RailroadTile railroad : player.getOwnedRailroads()) {
+            worth += railroad.getPrice();
+        }
+        for (UtilityTile utility : player.getOwnedUtilities()) {
+            worth += utility.getPrice();
+        }
+        return worth;
+    }
+}
@@ -0,0 +1,560 @@
+package no.ntnu.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.tile.Tile;
+
+/**
+ * Decides purchases, building and jail fines by expectimax search over the dice.
+ * <p>
+ * Every turn is a chance node over the 11 sums of two dice, weighted by how
+ * often each sum comes up. While the player to move is in jail, doubles
+ * decide whether they get out, so that turn branches over the 15 distinct
+ * sum and doubles outcomes instead. This player's buy and build choices
+ * after each roll, and the jail fine before it, are max nodes. The other
+ * players follow an opponent model, and card draws come from a seed fixed by
+ * the path through the tree, so every search over the same position gives
+ * the same answer.
+ * <p>
+ * Positions a given number of turns ahead are scored by the {@link Evaluator}.
+ * The search deepens one turn at a time, trying the best choice of the last
+ * iteration first, until the maximum depth is reached or the time budget is
+ * spent; an iteration that runs out of time is thrown away. The first
+ * iteration always completes. Chance nodes are pruned with Star1: once the
+ * outcomes searched so far, with the rest at their best or worst score,
+ * cannot change the choice above, the remaining outcomes are skipped.
+ * <p>
+ * A {@link TranspositionTable} lets the search reuse the value of a position
+ * reached by another order of moves. Without one, a decision is reproducible
+ * whenever the maximum depth is reached within the budget. The search runs on the game's thread; a player must not be
+ * shared between games played at the same time.
+ */
+public class ExpectimaxPlayer implements PlayerStrategy {
+    /** Default number of turns searched. */
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    /** Cash the default opponent model keeps back when buying and building. */
+    public static final int DEFAULT_OPPONENT_RESERVE = 150;
+
+    private static final double MIN_SCORE = 0;
+    private static final double MAX_SCORE = 1;
+    private static final int BUY = 0;
+    private static final int JAIL = 1;
+    private static final int BUILD = 2;
+    private static final int[] YES_OR_NO = {0, 1};
+    /** Balances closer than this are treated as equal when looking up positions. */
+    private static final int BALANCE_BUCKET = 10;
+
+    /** Outcomes of a turn outside jail, where doubles make no difference. */
+    private static final Roll[] ROLLS = rolls(false);
+    /** Outcomes of a turn in jail, where doubles release the player. */
+    private static final Roll[] JAIL_ROLLS = rolls(true);
+
+    private final int maxDepth;
+    private final Duration budget;
+    private final Evaluator evaluator;
+    private final PlayerStrategy opponentModel;
+    private final long seed;
+    private TranspositionTable table;
+    private ExpectimaxStats lastSearch = ExpectimaxStats.NONE;
+
+    /**
+     * Creates a player that scores positions by net worth and models the
+     * other players as {@link PlayerStrategy#withReserve} players.
+     *
+     * @param maxDepth number of turns to search
+     * @param budget wall-clock time per decision
+     */
+    public ExpectimaxPlayer(int maxDepth, Duration budget) {
+        this(maxDepth, budget, Evaluator.netWorthShare(),
+            PlayerStrategy.withReserve(DEFAULT_OPPONENT_RESERVE), 0);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param maxDepth number of turns to search
+     * @param budget wall-clock time per decision
+     * @param evaluator scores the positions where the search stops
+     * @param opponentModel the strategy assumed for the other players
+     * @param seed seed for the card draws
+     */
+    public ExpectimaxPlayer(int maxDepth, Duration budget, Evaluator evaluator,
+                            PlayerStrategy opponentModel, long seed) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("Search depth must be positive, got " + maxDepth);
+        }
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive, got " + budget);
+        }
+        this.maxDepth = maxDepth;
+        this.budget = budget;
+        this.evaluator = evaluator;
+        this.opponentModel = opponentModel;
+        this.seed = seed;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Sets a table to remember positions in, within a search and from one
+     * search to the next. Positions are looked up by
+     * {@link BoardGame#getPositionHash(int)}, with balances in buckets of 10.
+     * A table can be shared by players searching at the same time, as long as
+     * they use the same evaluator and opponent model. Decisions are only
+     * reproducible if the table starts out the same.
+     *
+     * @param table the table, or null to search without one
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Gets the work done by the latest search.
+     *
+     * @return the stats, {@link ExpectimaxStats#NONE} before the first search and
+     *     after a decision that needed none
+     */
+    public ExpectimaxStats getLastSearch() {
+        return lastSearch;
+    }
+
+    @Override
+    public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+        if (player.getBalance() < tile.getPrice()) {
+            lastSearch = ExpectimaxStats.NONE;
+            return false;
+        }
+        return search(game, player, BUY, game.getBoard().getPosition(tile), YES_OR_NO) == 1;
+    }
+
+    @Override
+    public boolean shouldPayJailFine(BoardGame game, Player player) {
+        if (player.getBalance() < BoardGame.JAIL_FINE) {
+            lastSearch = ExpectimaxStats.NONE;
+            return false;
+        }
+        return search(game, player, JAIL, -1, YES_OR_NO) == 1;
+    }
+
+    @Override
+    public int chooseBuild(BoardGame game, Player player) {
+        int[] options = new int[game.getBoard().getLoopLength() + 1];
+        int count = BuildOptions.list(game, player, options);
+        if (count == 1) {
+            lastSearch = ExpectimaxStats.NONE;
+            return NO_BUILD;
+        }
+        int[] legal = new int[count];
+        System.arraycopy(options, 0, legal, 0, count);
+        return search(game, player, BUILD, -1, legal);
+    }
+
+    /**
+     * Deepens the search until the maximum depth or the deadline and returns
+     * the best action of the last complete iteration.
+     */
+    private int search(BoardGame game, Player player, int decision, int position, int[] actions) {
+        long start = System.nanoTime();
+        if (table != null) {
+            table.newSearch();
+        }
+        Search search = new Search(game, player, start + budget.toNanos());
+        int[] order = actions.clone();
+        int best = order[0];
+        int depth = 0;
+        for (int d = 1; d <= maxDepth; d++) {
+            search.enforceDeadline = d > 1;
+            int candidate = search.root(decision, position, order, d);
+            if (search.timedOut) {
+                break;
+            }
+            best = candidate;
+            depth = d;
+            moveToFront(order, best);
+        }
+        lastSearch = new ExpectimaxStats(depth, search.nodes, search.cutoffs, search.tableHits,
+            System.nanoTime() - start);
+        return best;
+    }
+
+    private static void moveToFront(int[] order, int action) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] == action) {
+                System.arraycopy(order, 0, order, 1, i);
+                order[0] = action;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Mixes a branch number into a seed, so every path through the tree has its own card draws.
+     */
+    private static long childSeed(long seed, int branch) {
+        long z = seed + (branch + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * One outcome of the dice with its probability.
+     */
+    private record Roll(int die1, int die2, double probability) {}
+
+    /**
+     * Lists the outcomes of two dice, most likely first.
+     *
+     * @param doubles whether doubles are kept apart from other rolls with the same sum
+     */
+    private static Roll[] rolls(boolean doubles) {
+        List<Roll> rolls = new ArrayList<>();
+        for (int sum = 2; sum <= 12; sum++) {
+            int ways = 6 - Math.abs(sum - 7);
+            int low = Math.max(1, sum - 6);
+            if (!doubles) {
+                rolls.add(new Roll(low, sum - low, ways / 36.0));
+                continue;
+            }
+            boolean even = sum % 2 == 0;
+            if (even) {
+                rolls.add(new Roll(sum / 2, sum / 2, 1 / 36.0));
+            }
+            int others = even ? ways - 1 : ways;
+            if (others > 0) {
+                rolls.add(new Roll(low, sum - low, others / 36.0));
+            }
+        }
+        rolls.sort(Comparator.comparingDouble(Roll::probability).reversed());
+        return rolls.toArray(new Roll[0]);
+    }
+
+    /**
+     * Random source of a fork that hands out chosen dice faces for the next
+     * roll and seeded values for everything else.
+     */
+    private static final class ScriptedDice implements RandomGenerator {
+        private final SplittableRandom cards;
+        private int die1;
+        private int die2;
+        private int pending;
+
+        ScriptedDice(long seed) {
+            this.cards = new SplittableRandom(seed);
+        }
+
+        void set(Roll roll) {
+            die1 = roll.die1();
+            die2 = roll.die2();
+            pending = 2;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            if (pending == 2) {
+                pending = 1;
+                return die1 - 1;
+            }
+            if (pending == 1) {
+                pending = 0;
+                return die2 - 1;
+            }
+            return cards.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return cards.nextLong();
+        }
+    }
+
+    /**
+     * Stands in for this player inside the search: declines everything, so
+     * the search can branch on each choice itself, and remembers the tile it
+     * was offered.
+     */
+    private static final class Recorder implements PlayerStrategy {
+        private Tile offered;
+
+        @Override
+        public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+            offered = tile;
+            return false;
+        }
+    }
+
+    /**
+     * The state of one search.
+     */
+    private final class Search {
+        private final BoardGame snapshot;
+        private final Recorder recorder = new Recorder();
+        private final long deadline;
+        private final int[] buildOptions;
+        private long nodes;
+        private long cutoffs;
+        private long tableHits;
+        boolean enforceDeadline;
+        boolean timedOut;
+
+        Search(BoardGame game, Player player, long deadline) {
+            this.snapshot = game.fork(new ScriptedDice(seed));
+            int seat = game.getPlayers().indexOf(player);
+            for (int i = 0; i < snapshot.getPlayers().size(); i++) {
+                snapshot.getPlayers().get(i).setStrategy(i == seat ? recorder : opponentModel);
+            }
+            this.deadline = deadline;
+            this.buildOptions = new int[snapshot.getBoard().getLoopLength() + 1];
+        }
+
+        /**
+         * Searches every action of the decision the game asked about and
+         * returns the best, the first one among equals.
+         */
+        int root(int decision, int position, int[] actions, int depth) {
+            int best = actions[0];
+            double alpha = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < actions.length; i++) {
+                int action = actions[i];
+                long branchSeed = childSeed(seed, action);
+                BoardGame state = branch(snapshot, branchSeed);
+                Player me = find(state);
+                double value;
+                if (decision == JAIL) {
+                    if (action == 1) {
+                        state.payJailFine(me);
+                    }
+                    value = turn(state, depth, Math.max(MIN_SCORE, alpha), MAX_SCORE, branchSeed);
+                } else {
+                    if (decision == BUY && action == 1) {
+                        state.buyProperty(me, state.getBoard().getTileAt(position));
+                    } else if (decision == BUILD && action != NO_BUILD) {
+                        state.build(me, action);
+                    }
+                    endTurn(state, me);
+                    value = value(state, depth, Math.max(MIN_SCORE, alpha), MAX_SCORE, branchSeed);
+                }
+                if (timedOut) {
+                    return best;
+                }
+                if (value > alpha) {
+                    best = action;
+                    alpha = value;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Values a position at the start of a turn. A jailed searcher who can
+         * pay the fine chooses between paying and rolling.
+         */
+        private double value(BoardGame state, int depth, double alpha, double beta, long seed) {
+            nodes++;
+            Player me = find(state);
+            if (me == null) {
+                return MIN_SCORE;
+            }
+            if (depth == 0 || state.isFinished()) {
+                return evaluate(state, me);
+            }
+            if (isOutOfTime()) {
+                return MIN_SCORE;
+            }
+
+            long key = 0;
+            long entry = TranspositionTable.MISS;
+            if (table != null) {
+                key = childSeed(state.getPositionHash(BALANCE_BUCKET), state.getPlayers().indexOf(me));
+                entry = table.probe(key);
+                if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+                    double stored = TranspositionTable.value(entry);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER_BOUND && stored >= beta
+                        || bound == TranspositionTable.UPPER_BOUND && stored <= alpha) {
+                        tableHits++;
+                        return stored;
+                    }
+                }
+            }
+
+            double value;
+            int move = TranspositionTable.NO_MOVE;
+            if (state.getCurrentPlayer() != me || !me.isInJail() || me.getBalance() < BoardGame.JAIL_FINE) {
+                value = turn(state, depth, alpha, beta, seed);
+            } else {
+                // Try the choice that was best in an earlier search first
+                boolean payFirst = entry != TranspositionTable.MISS && TranspositionTable.move(entry) == 1;
+                value = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < 2 && value < beta; i++) {
+                    int pay = payFirst ? 1 - i : i;
+                    double choice = jailTurn(state, pay == 1, depth, Math.max(alpha, value), beta,
+                        childSeed(seed, pay));
+                    if (choice > value) {
+                        value = choice;
+                        move = pay;
+                    }
+                }
+            }
+
+            if (table != null && !timedOut) {
+                int bound = value <= alpha ? TranspositionTable.UPPER_BOUND
+                    : value >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+                table.store(key, value, bound, depth, move);
+            }
+            return value;
+        }
+
+        /**
+         * Values a jailed searcher's turn after paying the fine or choosing to roll for doubles.
+         */
+        private double jailTurn(BoardGame state, boolean pay, int depth, double alpha, double beta, long seed) {
+            if (!pay) {
+                return turn(state, depth, alpha, beta, seed);
+            }
+            BoardGame paying = branch(state, seed);
+            paying.payJailFine(find(paying));
+            return turn(paying, depth, alpha, beta, seed);
+        }
+
+        /**
+         * Values the roll of the current player as the probability-weighted
+         * mean over the dice, skipping the outcomes left once the mean is
+         * bound to fall outside the window.
+         */
+        private double turn(BoardGame state, int depth, double alpha, double beta, long seed) {
+            Roll[] rolls = state.getCurrentPlayer().isInJail() ? JAIL_ROLLS : ROLLS;
+            double sum = 0;
+            double remaining = 1;
+            for (int i = 0; i < rolls.length; i++) {
+                Roll roll = rolls[i];
+                double p = roll.probability();
+                remaining = Math.max(0, remaining - p);
+                double childAlpha = Math.max(MIN_SCORE, (alpha - sum - remaining * MAX_SCORE) / p);
+                double childBeta = Math.min(MAX_SCORE, (beta - sum - remaining * MIN_SCORE) / p);
+
+                long rollSeed = childSeed(seed, i);
+                ScriptedDice dice = new ScriptedDice(rollSeed);
+                BoardGame child = state.fork(dice);
+                Player mover = child.getCurrentPlayer();
+                recorder.offered = null;
+                dice.set(roll);
+                child.playTurn();
+                double value;
+                if (mover.getStrategy() == recorder && child.getCurrentPlayer() == mover) {
+                    value = choose(child, mover, recorder.offered, depth, childAlpha, childBeta, rollSeed);
+                } else {
+                    endTurn(child, mover);
+                    value = value(child, depth - 1, childAlpha, childBeta, rollSeed);
+                }
+
+                sum += p * value;
+                if (sum + remaining * MIN_SCORE >= beta) {
+                    cutoffs++;
+                    return sum + remaining * MIN_SCORE;
+                }
+                if (sum + remaining * MAX_SCORE <= alpha) {
+                    cutoffs++;
+                    return sum + remaining * MAX_SCORE;
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Picks the best purchase and build after this player's roll, then ends the turn.
+         */
+        private double choose(BoardGame state, Player me, Tile offered, int depth,
+                              double alpha, double beta, long seed) {
+            nodes++;
+            boolean canBuy = offered != null && me.getBalance() >= offered.getPrice();
+            int position = canBuy ? state.getBoard().getPosition(offered) : -1;
+            double best = Double.NEGATIVE_INFINITY;
+            for (int buy = canBuy ? 1 : 0; buy >= 0; buy--) {
+                BoardGame bought = buy == 0 ? state : branch(state, childSeed(seed, -1));
+                Player buyer = find(bought);
+                if (buy == 1) {
+                    bought.buyProperty(buyer, bought.getBoard().getTileAt(position));
+                }
+                int count = BuildOptions.list(bought, buyer, buildOptions);
+                int[] options = count == 1 ? null : Arrays.copyOf(buildOptions, count);
+                for (int i = 0; i < count; i++) {
+                    int build = options == null ? NO_BUILD : options[i];
+                    long buildSeed = childSeed(childSeed(seed, buy), i);
+                    BoardGame built = i == count - 1 ? bought : branch(bought, buildSeed);
+                    Player builder = find(built);
+                    if (build != NO_BUILD) {
+                        built.build(builder, build);
+                    }
+                    endTurn(built, builder);
+                    double value = value(built, depth - 1, Math.max(alpha, best), beta, buildSeed);
+                    if (value > best) {
+                        best = value;
+                        if (best >= beta) {
+                            return best;
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private BoardGame branch(BoardGame state, long seed) {
+            return state.fork(new ScriptedDice(seed));
+        }
+
+        /**
+         * Finds this player in a fork, or null once they have gone bankrupt.
+         */
+        private Player find(BoardGame state) {
+            for (Player player : state.getPlayers()) {
+                if (player.getStrategy() == recorder) {
+                    return player;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Ends a turn the way the simulator does; a skipped turn has already moved on.
+         */
+        private void endTurn(BoardGame state, Player player) {
+            if (state.getCurrentPlayer() == player && !state.checkBankruptcy(player)) {
+                state.nextTurn();
+            }
+        }
+
+        private double evaluate(BoardGame state, Player me) {
+            double score = evaluator.evaluate(state, me);
+            return Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
+        }
+
+        private boolean isOutOfTime() {
+            if (enforceDeadline && !timedOut && System.nanoTime() > deadline) {
+                timedOut = true;
+            }
+            return timedOut;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package no.ntnu.search;
+
+/**
+ * Work done by one expectimax search.
+ *
+ * @param depth deepest iteration that completed, in turns
+ * @param nodes number of positions visited, over all iterations
+ * @param cutoffs number of chance nodes cut short by pruning
+ * @param tableHits number of positions valued from the transposition table
+ * @param nanos wall-clock time the search took
+ */
+public record ExpectimaxStats(int depth, long nodes, long cutoffs, long tableHits, long nanos) {
+    /** Stats of a decision made without searching, because the player had no choice. */
+    public static final ExpectimaxStats NONE = new ExpectimaxStats(0, 0, 0, 0, 0);
+
+    /**
+     * Gets the search speed.
+     *
+     * @return positions visited per second, 0 if nothing was timed
+     */
+    public double getNodesPerSecond() {
+        return nanos == 0 ? 0 : nodes * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth %d, %d nodes, %d cutoffs, %d table hits in %.2f ms (%.0f nodes/s)",
+            depth, nodes, cutoffs, tableHits, nanos / 1e6, getNodesPerSecond());
+    }
+}
@@ -0,0 +1,440 @@
+package no.ntnu.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.tile.Tile;
+
+/**
+ * Decides purchases, building and jail fines by Monte Carlo Tree Search.
+ * <p>
+ * Every decision starts a new search. Each rollout forks the game, lets this
+ * player's choices follow the tree and everyone else follow the rollout
+ * policy, and plays on until the game ends or the turn horizon is reached.
+ * Rollouts are scored by {@link Evaluator#netWorthShare()}. The tree is
+ * open-loop: a node stands for a sequence of this player's choices, whatever
+ * the dice did in between, so a node is added for every rollout and the tree
+ * stays small.
+ * <p>
+ * Rollouts run on every worker of a fork-join pool until the time budget is
+ * spent. Workers share only the tree, whose statistics are updated
+ * atomically, and add a virtual loss to each node on their path until the
+ * rollout is scored, which steers concurrent workers into different branches.
+ * Each worker forks its games from one snapshot with its own random source,
+ * so throughput grows with the number of workers.
+ * <p>
+ * The game calls the strategy on its own thread and waits for the answer;
+ * a player must not be shared between games played at the same time.
+ */
+public class MctsPlayer implements PlayerStrategy {
+    /** Default number of turns, over all players, a rollout plays before it is scored. */
+    public static final int DEFAULT_HORIZON = 200;
+    /** Cash the default rollout policy keeps back when buying and building. */
+    public static final int DEFAULT_ROLLOUT_RESERVE = 100;
+    /** UCB1 exploration constant for rewards between 0 and 1. */
+    private static final double EXPLORATION = Math.sqrt(2);
+    /** Deepest path through the tree a rollout can take. */
+    private static final int MAX_DEPTH = 64;
+
+    private static final int BUY = 0;
+    private static final int JAIL = 1;
+    private static final int BUILD = 2;
+    private static final int[] YES_OR_NO = {0, 1};
+    private static final Evaluator SCORE = Evaluator.netWorthShare();
+
+    private final Duration budget;
+    private final ForkJoinPool pool;
+    private final PlayerStrategy rolloutPolicy;
+    private final int horizon;
+    private final SplittableRandom random;
+    private volatile SearchStats lastSearch = SearchStats.NONE;
+    private volatile SearchStats totalSearch = SearchStats.NONE;
+
+    /**
+     * Creates a player searching on the common pool, which uses all available cores.
+     *
+     * @param budget wall-clock time per decision
+     */
+    public MctsPlayer(Duration budget) {
+        this(budget, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a player searching on a given pool.
+     *
+     * @param budget wall-clock time per decision
+     * @param pool the pool running the rollouts, one worker per thread
+     */
+    public MctsPlayer(Duration budget, ForkJoinPool pool) {
+        this(budget, pool, PlayerStrategy.withReserve(DEFAULT_ROLLOUT_RESERVE), DEFAULT_HORIZON,
+            new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param budget wall-clock time per decision
+     * @param pool the pool running the rollouts, one worker per thread
+     * @param rolloutPolicy the strategy of every player once a rollout has left the tree;
+     *     it is called from several threads at once
+     * @param horizon number of turns a rollout plays before it is scored
+     * @param seed seed for the dice and cards of the rollouts
+     */
+    public MctsPlayer(Duration budget, ForkJoinPool pool, PlayerStrategy rolloutPolicy, int horizon, long seed) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive, got " + budget);
+        }
+        if (horizon <= 0) {
+            throw new IllegalArgumentException("Horizon must be positive, got " + horizon);
+        }
+        this.budget = budget;
+        this.pool = pool;
+        this.rolloutPolicy = rolloutPolicy;
+        this.horizon = horizon;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public int getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Gets the work done by the latest search.
+     *
+     * @return the stats, {@link SearchStats#NONE} before the first search and
+     *     after a decision that needed none
+     */
+    public SearchStats getLastSearch() {
+        return lastSearch;
+    }
+
+    /**
+     * Gets the work done by all searches of this player.
+     *
+     * @return the summed stats
+     */
+    public SearchStats getTotalSearch() {
+        return totalSearch;
+    }
+
+    @Override
+    public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+        if (player.getBalance() < tile.getPrice()) {
+            lastSearch = SearchStats.NONE;
+            return false;
+        }
+        return search(game, player, BUY, game.getBoard().getPosition(tile), YES_OR_NO) == 1;
+    }
+
+    @Override
+    public boolean shouldPayJailFine(BoardGame game, Player player) {
+        if (player.getBalance() < BoardGame.JAIL_FINE) {
+            lastSearch = SearchStats.NONE;
+            return false;
+        }
+        return search(game, player, JAIL, -1, YES_OR_NO) == 1;
+    }
+
+    @Override
+    public int chooseBuild(BoardGame game, Player player) {
+        int[] actions = new int[game.getBoard().getLoopLength() + 1];
+        int count = BuildOptions.list(game, player, actions);
+        if (count == 1) {
+            lastSearch = SearchStats.NONE;
+            return NO_BUILD;
+        }
+        int[] legal = new int[count];
+        System.arraycopy(actions, 0, legal, 0, count);
+        return search(game, player, BUILD, -1, legal);
+    }
+
+    /**
+     * Searches from the current position of the game and picks the root
+     * action that was tried most often.
+     */
+    private int search(BoardGame game, Player player, int decision, int position, int[] actions) {
+        long start = System.nanoTime();
+        Search search = new Search(game.fork(random.split()), game.getPlayers().indexOf(player),
+            decision, position, actions, start + budget.toNanos());
+        int threads = pool.getParallelism();
+        List<RolloutTask> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new RolloutTask(search, random.split()));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(workers);
+            }
+        });
+
+        SearchStats stats = new SearchStats(search.rollouts.sum(), System.nanoTime() - start,
+            threads, search.nodes.get());
+        lastSearch = stats;
+        totalSearch = totalSearch.plus(stats);
+        return search.bestAction();
+    }
+
+    /**
+     * Statistics of one sequence of choices. Visits count finished rollouts;
+     * virtual losses count rollouts still running below this node.
+     */
+    private static final class Node {
+        final ConcurrentHashMap<Integer, Node> children = new ConcurrentHashMap<>();
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicInteger virtualLosses = new AtomicInteger();
+        final DoubleAdder reward = new DoubleAdder();
+
+        static Integer key(int decision, int action) {
+            return decision << 16 | (action + 1);
+        }
+    }
+
+    /**
+     * The shared state of one search.
+     */
+    private final class Search {
+        final BoardGame snapshot;
+        final int seat;
+        final int decision;
+        final int position;
+        final int[] actions;
+        final long deadline;
+        final Node root = new Node();
+        final LongAdder rollouts = new LongAdder();
+        final AtomicInteger nodes = new AtomicInteger(1);
+
+        Search(BoardGame snapshot, int seat, int decision, int position, int[] actions, long deadline) {
+            this.snapshot = snapshot;
+            this.seat = seat;
+            this.decision = decision;
+            this.position = position;
+            this.actions = actions;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Keeps going past the deadline until every root action has been tried once.
+         */
+        boolean isRunning() {
+            return System.nanoTime() < deadline || rollouts.sum() < actions.length;
+        }
+
+        int bestAction() {
+            int best = actions[0];
+            int mostVisits = -1;
+            for (int action : actions) {
+                Node child = root.children.get(Node.key(decision, action));
+                int visits = child != null ? child.visits.get() : 0;
+                if (visits > mostVisits) {
+                    best = action;
+                    mostVisits = visits;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Runs rollouts on one worker until the search is out of time.
+     */
+    @SuppressWarnings("serial")
+    private final class RolloutTask extends RecursiveAction {
+        private final Search search;
+        private final SplittableRandom random;
+        private final TreeWalker walker;
+
+        RolloutTask(Search search, SplittableRandom random) {
+            this.search = search;
+            this.random = random;
+            this.walker = new TreeWalker(search);
+        }
+
+        @Override
+        protected void compute() {
+            while (search.isRunning()) {
+                rollout();
+                search.rollouts.increment();
+            }
+        }
+
+        private void rollout() {
+            BoardGame game = search.snapshot.fork(random.split());
+            Player me = game.getPlayers().get(search.seat);
+            for (Player player : game.getPlayers()) {
+                player.setStrategy(player == me ? walker : rolloutPolicy);
+            }
+            walker.start();
+
+            int action = walker.select(search.decision, search.actions, search.actions.length);
+            if (search.decision == JAIL) {
+                if (action == 1) {
+                    game.payJailFine(me);
+                } else {
+                    walker.rollForDoubles = true;
+                }
+                game.playTurn();
+            } else {
+                boolean built = false;
+                if (search.decision == BUY && action == 1) {
+                    game.buyProperty(me, game.getBoard().getTileAt(search.position));
+                } else if (search.decision == BUILD && action != NO_BUILD) {
+                    built = game.build(me, action);
+                }
+                if (search.decision == BUY || built) {
+                    for (int i = 0; i < BoardGame.MAX_BUILDS_PER_TURN; i++) {
+                        int build = walker.chooseBuild(game, me);
+                        if (build == NO_BUILD || !game.build(me, build)) {
+                            break;
+                        }
+                    }
+                }
+            }
+            endTurn(game, game.getCurrentPlayer() == me ? me : null);
+
+            int limit = game.getTurnCount() + horizon;
+            while (!game.isFinished() && game.getTurnCount() < limit) {
+                Player player = game.getCurrentPlayer();
+                game.playTurn();
+                endTurn(game, game.getCurrentPlayer() == player ? player : null);
+            }
+            walker.backup(SCORE.evaluate(game, me));
+        }
+
+        /**
+         * Ends the turn the way the simulator does; a skipped turn has already moved on.
+         */
+        private void endTurn(BoardGame game, Player player) {
+            if (player != null && !game.checkBankruptcy(player)) {
+                game.nextTurn();
+            }
+        }
+    }
+
+    /**
+     * Makes the searching player's choices in one worker's rollouts, walking
+     * down the tree until it adds a node and following the rollout policy after.
+     */
+    private final class TreeWalker implements PlayerStrategy {
+        private final Search search;
+        private final Node[] path = new Node[MAX_DEPTH + 1];
+        private final int[] buildOptions;
+        private int depth;
+        private boolean inTree;
+        boolean rollForDoubles;
+
+        TreeWalker(Search search) {
+            this.search = search;
+            this.buildOptions = new int[search.snapshot.getBoard().getLoopLength() + 1];
+        }
+
+        void start() {
+            depth = 0;
+            inTree = true;
+            rollForDoubles = false;
+            descend(search.root);
+        }
+
+        @Override
+        public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+            if (!inTree) {
+                return rolloutPolicy.shouldBuy(game, player, tile);
+            }
+            return player.getBalance() >= tile.getPrice() && select(BUY, YES_OR_NO, 2) == 1;
+        }
+
+        @Override
+        public boolean shouldPayJailFine(BoardGame game, Player player) {
+            if (rollForDoubles) {
+                rollForDoubles = false;
+                return false;
+            }
+            if (!inTree) {
+                return rolloutPolicy.shouldPayJailFine(game, player);
+            }
+            return player.getBalance() >= BoardGame.JAIL_FINE && select(JAIL, YES_OR_NO, 2) == 1;
+        }
+
+        @Override
+        public int chooseBuild(BoardGame game, Player player) {
+            if (!inTree) {
+                return rolloutPolicy.chooseBuild(game, player);
+            }
+            int count = BuildOptions.list(game, player, buildOptions);
+            return count == 1 ? NO_BUILD : select(BUILD, buildOptions, count);
+        }
+
+        /**
+         * Picks the child with the best upper confidence bound, counting
+         * running rollouts as losses. An untried action is picked first and
+         * its new node ends the walk.
+         */
+        int select(int decision, int[] actions, int count) {
+            Node parent = path[depth - 1];
+            double logVisits = Math.log(Math.max(1, parent.visits.get() + parent.virtualLosses.get()));
+            Node best = null;
+            int bestAction = actions[0];
+            double bestBound = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Integer key = Node.key(decision, actions[i]);
+                Node child = parent.children.get(key);
+                if (child == null) {
+                    Node fresh = new Node();
+                    child = parent.children.putIfAbsent(key, fresh);
+                    if (child == null) {
+                        search.nodes.incrementAndGet();
+                        child = fresh;
+                    }
+                    inTree = false;
+                    descend(child);
+                    return actions[i];
+                }
+                int visits = child.visits.get() + child.virtualLosses.get();
+                double bound = visits == 0 ? Double.POSITIVE_INFINITY
+                    : child.reward.sum() / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+                if (bound > bestBound) {
+                    best = child;
+                    bestAction = actions[i];
+                    bestBound = bound;
+                }
+            }
+            descend(best);
+            return bestAction;
+        }
+
+        private void descend(Node node) {
+            node.virtualLosses.incrementAndGet();
+            path[depth++] = node;
+            if (depth > MAX_DEPTH) {
+                inTree = false;
+            }
+        }
+
+        /**
+         * Scores every node on the path and takes back the virtual losses.
+         */
+        void backup(double reward) {
+            for (int i = 0; i < depth; i++) {
+                Node node = path[i];
+                node.reward.add(reward);
+                node.visits.incrementAndGet();
+                node.virtualLosses.decrementAndGet();
+            }
+        }
+    }
+}
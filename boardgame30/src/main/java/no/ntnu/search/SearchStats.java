@@ -0,0 +1,40 @@
+package no.ntnu.search;
+
+/**
+ * Work done by one search.
+ *
+ * @param rollouts number of simulated games played out
+ * @param nanos wall-clock time the search took
+ * @param threads number of workers that ran rollouts
+ * @param nodes number of tree nodes created
+ */
+public record SearchStats(long rollouts, long nanos, int threads, int nodes) {
+    /** Stats of a decision made without searching, because the player had no choice. */
+    public static final SearchStats NONE = new SearchStats(0, 0, 0, 0);
+
+    /**
+     * Gets the rollout throughput of the search.
+     *
+     * @return rollouts per second over all workers, 0 if nothing was timed
+     */
+    public double getRolloutsPerSecond() {
+        return nanos == 0 ? 0 : rollouts * 1e9 / nanos;
+    }
+
+    /**
+     * Adds the work of another search to this one.
+     *
+     * @param other the other search
+     * @return the combined stats, with the larger thread count
+     */
+    public SearchStats plus(SearchStats other) {
+        return new SearchStats(rollouts + other.rollouts, nanos + other.nanos,
+            Math.max(threads, other.threads), nodes + other.nodes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rollouts in %.1f ms on %d threads (%.0f rollouts/s), %d nodes",
+            rollouts, nanos / 1e6, threads, getRolloutsPerSecond(), nodes);
+    }
+}
@@ -0,0 +1,229 @@
+package no.ntnu.search;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size table of search results by position hash, safe to share between
+ * search threads without locks.
+ * <p>
+ * An entry is two longs: the data, packing a score between 0 and 1, the kind
+ * of bound it is, the depth it was searched to, the search generation and a
+ * best move, and the key XOR-ed with the data. A reader accepts an entry only
+ * if the two still XOR to its key, so an entry torn by two threads writing at
+ * once reads as a miss rather than as wrong data. Entries live in buckets of
+ * two. A new result replaces the entry for the same position unless that one
+ * is deeper and from the current search, and otherwise the entry in its bucket
+ * from the oldest search, or the shallower one if both are equally old.
+ */
+public class TranspositionTable {
+    /** Bound kind of a score that is exact. */
+    public static final int EXACT = 0;
+    /** Bound kind of a score the true score is at least. */
+    public static final int LOWER_BOUND = 1;
+    /** Bound kind of a score the true score is at most. */
+    public static final int UPPER_BOUND = 2;
+    /** Probe result when the table has no entry for a key. */
+    public static final long MISS = 0;
+    /** Move stored when there is no best move. */
+    public static final int NO_MOVE = -1;
+    /** Deepest search depth an entry can record. */
+    public static final int MAX_DEPTH = 0xFF;
+
+    private static final int WAYS = 2;
+    private static final long VALID = 1L << 63;
+    private static final int VALUE_SHIFT = 39;
+    private static final long VALUE_MASK = (1L << 24) - 1;
+    private static final int BOUND_SHIFT = 37;
+    private static final int DEPTH_SHIFT = 29;
+    private static final int GENERATION_SHIFT = 21;
+    private static final long MOVE_MASK = (1L << 21) - 1;
+
+    private final AtomicLongArray slots;
+    private final int bucketMask;
+    private volatile int generation;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Creates a table.
+     *
+     * @param entries minimum number of entries, rounded up to a power of two
+     * @throws IllegalArgumentException if the size is not positive or too large
+     */
+    public TranspositionTable(int entries) {
+        if (entries <= 0 || entries > 1 << 28) {
+            throw new IllegalArgumentException("Entry count must be between 1 and 2^28, got " + entries);
+        }
+        int buckets = Math.max(1, Integer.highestOneBit(Math.max(WAYS, entries) * 2 - 1) / WAYS);
+        this.slots = new AtomicLongArray(buckets * WAYS * 2);
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Gets the number of entries the table holds.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return slots.length() / 2;
+    }
+
+    /**
+     * Starts a new search generation. Entries from earlier searches stay
+     * usable but are replaced first.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key the position hash
+     * @return the packed entry, read with {@link #value}, {@link #bound},
+     *     {@link #depth} and {@link #move}, or {@link #MISS}
+     */
+    public long probe(long key) {
+        probes.increment();
+        int base = bucket(key);
+        for (int way = 0; way < WAYS; way++) {
+            int slot = base + way * 2;
+            long data = slots.getOpaque(slot + 1);
+            if ((data & VALID) != 0 && (slots.getOpaque(slot) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores a search result for a position.
+     *
+     * @param key the position hash
+     * @param value the score, between 0 and 1
+     * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param depth the depth searched, capped at {@link #MAX_DEPTH}
+     * @param move the best move, {@link #NO_MOVE} or a value from -1 to 2^21 - 2
+     */
+    public void store(long key, double value, int bound, int depth, int move) {
+        int current = generation;
+        int base = bucket(key);
+        int target = -1;
+        int lowestWorth = Integer.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            int slot = base + way * 2;
+            long data = slots.getOpaque(slot + 1);
+            int worth;
+            if ((data & VALID) == 0) {
+                worth = -1;
+            } else if ((slots.getOpaque(slot) ^ data) == key) {
+                if (generation(data) == current && depth(data) > depth) {
+                    return;
+                }
+                target = slot;
+                break;
+            } else {
+                worth = (generation(data) == current ? MAX_DEPTH + 1 : 0) + depth(data);
+            }
+            if (worth < lowestWorth) {
+                target = slot;
+                lowestWorth = worth;
+            }
+        }
+        long data = pack(value, bound, Math.min(depth, MAX_DEPTH), current, move);
+        slots.setOpaque(target + 1, data);
+        slots.setOpaque(target, key ^ data);
+    }
+
+    /**
+     * Empties the table and its counters.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0);
+        }
+        probes.reset();
+        hits.reset();
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the share of probes that found an entry.
+     *
+     * @return hits per probe, 0 before the first probe
+     */
+    public double getHitRate() {
+        long count = probes.sum();
+        return count == 0 ? 0 : (double) hits.sum() / count;
+    }
+
+    /**
+     * Reads the score of an entry.
+     *
+     * @param entry a packed entry
+     * @return the score, accurate to about 6e-8
+     */
+    public static double value(long entry) {
+        return ((entry >>> VALUE_SHIFT) & VALUE_MASK) / (double) VALUE_MASK;
+    }
+
+    /**
+     * Reads the bound kind of an entry.
+     *
+     * @param entry a packed entry
+     * @return {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     */
+    public static int bound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     * Reads the depth an entry was searched to.
+     *
+     * @param entry a packed entry
+     * @return the depth
+     */
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    /**
+     * Reads the best move of an entry.
+     *
+     * @param entry a packed entry
+     * @return the move, or {@link #NO_MOVE}
+     */
+    public static int move(long entry) {
+        return (int) (entry & MOVE_MASK) - 1;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> GENERATION_SHIFT) & 0xFF;
+    }
+
+    private static long pack(double value, int bound, int depth, int generation, int move) {
+        // Bounds are rounded outwards so they stay bounds
+        double scaled = Math.max(0, Math.min(1, value)) * VALUE_MASK;
+        long quantized = (long) (bound == LOWER_BOUND ? Math.floor(scaled)
+            : bound == UPPER_BOUND ? Math.ceil(scaled) : Math.rint(scaled));
+        return VALID
+            | quantized << VALUE_SHIFT
+            | (long) (bound & 0x3) << BOUND_SHIFT
+            | (long) depth << DEPTH_SHIFT
+            | (long) generation << GENERATION_SHIFT
+            | ((move + 1) & MOVE_MASK);
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * WAYS * 2;
+    }
+}
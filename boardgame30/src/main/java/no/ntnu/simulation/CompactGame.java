@@ -0,0 +1,483 @@
+package no.ntnu.simulation;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardState;
+import no.ntnu.action.ChanceAction;
+import no.ntnu.action.ChestAction;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.RentTable;
+
+/**
+ * A complete game held in primitive arrays, for bulk simulation.
+ * <p>
+ * Plays by the same rules as {@link no.ntnu.BoardGame} driven by
+ * {@link GameSimulator}: movement and the GO salary, property, railroad and
+ * utility rent, tax, cards, jail and bankruptcy. Players are identified by
+ * seat number and tiles by their position on the loop. Every player buys
+ * an offered tile when they keep at least the purchase reserve afterwards.
+ * <p>
+ * Given the same random source, a compact game draws dice and cards in the
+ * same order as a {@link no.ntnu.BoardGame} and reaches the same outcome.
+ * A game can be {@link #reset()} and played again without allocating.
+ * <p>
+ * The board itself is a shared {@link BoardDefinition}; a game only holds
+ * its {@link BoardState} and a few values per seat, a few hundred bytes for
+ * a four-player game. A {@link #fork(RandomGenerator)} copies the values per
+ * seat and shares the board state until either game changes ownership.
+ */
+public class CompactGame {
+    private static final int STARTING_BALANCE = 1500;
+    private static final int GO_SALARY = 200;
+    private static final int JAIL_FINE = 50;
+    private static final int MAX_JAIL_TURNS = 3;
+    private static final int COLOR_COUNT = PropertyColor.values().length;
+
+    private final BoardDefinition board;
+    private BoardState state;
+    /** Set while the state may be shared with a fork; copied before the next write. */
+    private boolean stateShared;
+    private final int playerCount;
+    private RandomGenerator random;
+    private final int purchaseReserve;
+
+    private final int[] position;
+    private final int[] balance;
+    private final boolean[] inJail;
+    private final int[] jailTurns;
+    private final boolean[] skipNext;
+    private final int[] railroads;
+    private final int[] utilities;
+    /** Properties owned per color, indexed by seat * color count + color. */
+    private final int[] colorCounts;
+
+    /** Seats still in the game, in turn order. */
+    private final int[] order;
+    private int remaining;
+    private int current;
+
+    private int lastRoll;
+    private int turnCount;
+    private int offer;
+    private int bankruptcies;
+    private int winner;
+    private boolean finished;
+
+    /**
+     * Creates a game ready to play.
+     * 
+     * @param board the shared board definition
+     * @param playerCount number of players
+     * @param random source for dice and cards
+     * @param purchaseReserve balance a player keeps after buying a tile
+     */
+    public CompactGame(BoardDefinition board, int playerCount, RandomGenerator random, int purchaseReserve) {
+        if (playerCount < 2 || playerCount > BoardState.MAX_SEAT + 1) {
+            throw new IllegalArgumentException("Player count out of range: " + playerCount);
+        }
+        this.board = board;
+        this.playerCount = playerCount;
+        this.random = random;
+        this.purchaseReserve = purchaseReserve;
+
+        position = new int[playerCount];
+        balance = new int[playerCount];
+        inJail = new boolean[playerCount];
+        jailTurns = new int[playerCount];
+        skipNext = new boolean[playerCount];
+        railroads = new int[playerCount];
+        utilities = new int[playerCount];
+        colorCounts = new int[playerCount * COLOR_COUNT];
+        order = new int[playerCount];
+        state = new BoardState(board);
+        reset();
+    }
+
+    private CompactGame(CompactGame source, RandomGenerator random) {
+        this.board = source.board;
+        this.playerCount = source.playerCount;
+        this.random = random;
+        this.purchaseReserve = source.purchaseReserve;
+
+        position = source.position.clone();
+        balance = source.balance.clone();
+        inJail = source.inJail.clone();
+        jailTurns = source.jailTurns.clone();
+        skipNext = source.skipNext.clone();
+        railroads = source.railroads.clone();
+        utilities = source.utilities.clone();
+        colorCounts = source.colorCounts.clone();
+        order = source.order.clone();
+        remaining = source.remaining;
+        current = source.current;
+
+        state = source.state;
+        stateShared = true;
+        source.stateShared = true;
+
+        lastRoll = source.lastRoll;
+        turnCount = source.turnCount;
+        bankruptcies = source.bankruptcies;
+        winner = source.winner;
+        finished = source.finished;
+    }
+
+    /**
+     * Creates an independent copy of this game that continues with another
+     * random source. The board state is shared copy-on-write, so a fork that
+     * only moves players costs a few small arrays. The fork may be played on
+     * another thread; create it on the thread that plays this game.
+     * 
+     * @param random the random source for the fork
+     * @return the fork
+     */
+    public CompactGame fork(RandomGenerator random) {
+        return new CompactGame(this, random);
+    }
+
+    /**
+     * Gets a board state this game may write to, copying it first if a fork shares it.
+     */
+    private BoardState writableState() {
+        if (stateShared) {
+            state = state.copy();
+            stateShared = false;
+        }
+        return state;
+    }
+
+    /**
+     * Resets the game and continues with a new random source, for example one
+     * split off per game in bulk simulation.
+     * 
+     * @param random the random source for dice and cards
+     */
+    public void reset(RandomGenerator random) {
+        this.random = random;
+        reset();
+    }
+
+    /**
+     * Puts every player back on the first tile with the starting balance and clears the board.
+     */
+    public final void reset() {
+        Arrays.fill(position, 0);
+        Arrays.fill(balance, STARTING_BALANCE);
+        Arrays.fill(inJail, false);
+        Arrays.fill(jailTurns, 0);
+        Arrays.fill(skipNext, false);
+        Arrays.fill(railroads, 0);
+        Arrays.fill(utilities, 0);
+        Arrays.fill(colorCounts, 0);
+        for (int seat = 0; seat < playerCount; seat++) {
+            order[seat] = seat;
+        }
+        remaining = playerCount;
+        current = 0;
+
+        if (stateShared) {
+            state = new BoardState(board);
+            stateShared = false;
+        } else {
+            state.clear();
+        }
+
+        lastRoll = 0;
+        turnCount = 0;
+        bankruptcies = 0;
+        winner = -1;
+        finished = false;
+    }
+
+    /**
+     * Plays until one player remains or the turn limit is reached.
+     * 
+     * @param maxTurns turn limit
+     * @return the outcome
+     */
+    public GameOutcome play(int maxTurns) {
+        while (!finished && turnCount < maxTurns) {
+            step();
+        }
+        return new GameOutcome(winner, turnCount, bankruptcies);
+    }
+
+    /**
+     * Plays one turn for the current player: roll, buy the offered tile if
+     * the reserve allows it, check bankruptcy and pass the turn on.
+     */
+    public void step() {
+        if (finished) {
+            return;
+        }
+        int seat = order[current];
+        offer = -1;
+        playTurn(seat);
+        if (order[current] != seat) {
+            // The turn was skipped and the game already moved on
+            return;
+        }
+
+        if (offer >= 0) {
+            int cost = board.getPrice(offer);
+            if (balance[seat] >= cost && balance[seat] - cost >= purchaseReserve) {
+                buy(seat, offer);
+            }
+        }
+
+        if (balance[seat] < 0) {
+            bankrupt(seat);
+            return;
+        }
+        nextTurn();
+    }
+
+    private void playTurn(int seat) {
+        turnCount++;
+        if (skipNext[seat]) {
+            skipNext[seat] = false;
+            nextTurn();
+            return;
+        }
+
+        int die1 = 1 + random.nextInt(6);
+        int die2 = 1 + random.nextInt(6);
+        lastRoll = die1 + die2;
+
+        if (inJail[seat]) {
+            jailTurns[seat]++;
+            if (die1 == die2) {
+                releaseFromJail(seat);
+            } else if (jailTurns[seat] >= MAX_JAIL_TURNS) {
+                if (balance[seat] >= JAIL_FINE) {
+                    balance[seat] -= JAIL_FINE;
+                }
+                releaseFromJail(seat);
+            } else {
+                return;
+            }
+        }
+
+        int size = board.getSize();
+        int target = position[seat] + lastRoll;
+        if (target >= size) {
+            balance[seat] += GO_SALARY * (target / size);
+            target %= size;
+        }
+        position[seat] = target;
+        processActions(seat);
+    }
+
+    private void processActions(int seat) {
+        while (true) {
+            int at = position[seat];
+            switch (board.getKind(at)) {
+                case PLAIN -> {
+                    return;
+                }
+                case GO -> balance[seat] += board.getAmount(at);
+                case PROPERTY -> landOnProperty(seat, at);
+                case RAILROAD -> {
+                    int o = state.getOwner(at);
+                    if (o >= 0 && o != seat) {
+                        payCapped(seat, o, board.getRentTable(at).byOwnedCount(railroads[o]));
+                    } else if (o < 0) {
+                        offer = at;
+                    }
+                }
+                case UTILITY -> {
+                    int o = state.getOwner(at);
+                    if (o >= 0 && o != seat) {
+                        payCapped(seat, o, lastRoll * board.getRentTable(at).byOwnedCount(utilities[o]));
+                    } else if (o < 0) {
+                        offer = at;
+                    }
+                }
+                case TAX -> balance[seat] -= board.getAmount(at);
+                case CHANCE -> balance[seat] += random.nextBoolean()
+                    ? ChanceAction.GAIN : -ChanceAction.LOSS;
+                case CHEST -> balance[seat] += random.nextBoolean()
+                    ? ChestAction.GAIN : -ChestAction.LOSS;
+                case GO_TO_JAIL -> {
+                    position[seat] = board.getJailPosition(at);
+                    inJail[seat] = true;
+                    jailTurns[seat] = 0;
+                }
+                case SKIP_TURN -> skipNext[seat] = true;
+            }
+            if (position[seat] == at) {
+                return;
+            }
+        }
+    }
+
+    private void landOnProperty(int seat, int at) {
+        int o = state.getOwner(at);
+        if (o < 0) {
+            offer = at;
+        } else if (o != seat) {
+            int rent = board.getRentTable(at).get(rentLevel(o, at));
+            balance[seat] -= rent;
+            balance[o] += rent;
+        }
+    }
+
+    private int rentLevel(int ownerSeat, int at) {
+        PropertyColor c = board.getColor(at);
+        boolean monopoly = c != null
+            && colorCounts[ownerSeat * COLOR_COUNT + c.ordinal()] == c.getGroupSize();
+        return RentTable.propertyLevel(monopoly, state.getHouses(at), state.hasHotel(at));
+    }
+
+    /**
+     * Pays rent the way railroads and utilities do: a player who cannot
+     * afford the rent is left with nothing, and the owner receives nothing.
+     */
+    private void payCapped(int payer, int receiver, int rent) {
+        if (balance[payer] >= rent) {
+            balance[payer] -= rent;
+            balance[receiver] += rent;
+        } else {
+            balance[payer] = 0;
+        }
+    }
+
+    private void buy(int seat, int at) {
+        balance[seat] -= board.getPrice(at);
+        writableState().setOwner(at, seat);
+        switch (board.getKind(at)) {
+            case PROPERTY -> {
+                PropertyColor c = board.getColor(at);
+                if (c != null) {
+                    colorCounts[seat * COLOR_COUNT + c.ordinal()]++;
+                }
+            }
+            case RAILROAD -> railroads[seat]++;
+            case UTILITY -> utilities[seat]++;
+            default -> throw new IllegalStateException("Tile at " + at + " cannot be owned");
+        }
+    }
+
+    private void releaseFromJail(int seat) {
+        inJail[seat] = false;
+        jailTurns[seat] = 0;
+    }
+
+    private void nextTurn() {
+        current = (current + 1) % remaining;
+        int next = order[current];
+        if (skipNext[next]) {
+            skipNext[next] = false;
+            current = (current + 1) % remaining;
+        }
+    }
+
+    private void bankrupt(int seat) {
+        writableState().releaseAll(seat);
+        railroads[seat] = 0;
+        utilities[seat] = 0;
+        Arrays.fill(colorCounts, seat * COLOR_COUNT, (seat + 1) * COLOR_COUNT, 0);
+        bankruptcies++;
+
+        System.arraycopy(order, current + 1, order, current, remaining - current - 1);
+        remaining--;
+        if (current >= remaining) {
+            current = 0;
+        }
+        if (remaining == 1) {
+            finished = true;
+            winner = order[0];
+        }
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getLastRoll() {
+        return lastRoll;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the winner's seat.
+     * 
+     * @return the seat, or -1 while the game is running
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     * 
+     * @return the current seat
+     */
+    public int getCurrentSeat() {
+        return order[current];
+    }
+
+    /**
+     * Gets the number of players still in the game.
+     * 
+     * @return remaining player count
+     */
+    public int getRemainingPlayers() {
+        return remaining;
+    }
+
+    public int getBalance(int seat) {
+        return balance[seat];
+    }
+
+    /**
+     * Gets a player's position on the loop.
+     * 
+     * @param seat the player's seat
+     * @return the position, 0 being the first tile
+     */
+    public int getPosition(int seat) {
+        return position[seat];
+    }
+
+    public boolean isInJail(int seat) {
+        return inJail[seat];
+    }
+
+    /**
+     * Gets the owner of the tile at a position.
+     * 
+     * @param at the position on the loop
+     * @return the owner's seat, or -1 if unowned
+     */
+    public int getOwner(int at) {
+        return state.getOwner(at);
+    }
+
+    /**
+     * Gets the shared board definition.
+     * 
+     * @return the definition
+     */
+    public BoardDefinition getDefinition() {
+        return board;
+    }
+
+    /**
+     * Gets the ownership and buildings of this game, read-only since a fork may share it.
+     * 
+     * @return a copy of the board state
+     */
+    public BoardState getState() {
+        return state.copy();
+    }
+}
@@ -0,0 +1,20 @@
+package no.ntnu.simulation;
+
+/**
+ * Result of one simulated game.
+ * 
+ * @param winnerSeat seat index of the winner, or -1 if the turn limit was reached
+ * @param turns number of turns played
+ * @param bankruptcies number of players eliminated
+ */
+public record GameOutcome(int winnerSeat, int turns, int bankruptcies) {
+
+    /**
+     * Checks if the game was played to the end.
+     * 
+     * @return true if a winner was found
+     */
+    public boolean isFinished() {
+        return winnerSeat >= 0;
+    }
+}
@@ -0,0 +1,217 @@
+package no.ntnu.simulation;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import no.ntnu.Board;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.GameEventKind;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Plays complete games without a user interface.
+ * <p>
+ * Each turn is driven the same way GameController does it: roll, optionally
+ * buy the offered tile, then end the turn. Players with their own
+ * {@link no.ntnu.PlayerStrategy} decide for themselves instead of following the
+ * policy. Players are checked for bankruptcy after their own turn.
+ * Instances hold no game state and can be shared between threads.
+ */
+public class GameSimulator {
+    private final int playerCount;
+    private final PurchasePolicy policy;
+    private final int maxTurns;
+
+    /**
+     * Creates a simulator.
+     * 
+     * @param playerCount number of players in each game
+     * @param policy the purchase policy used by every player
+     * @param maxTurns turn limit before a game is abandoned
+     */
+    public GameSimulator(int playerCount, PurchasePolicy policy, int maxTurns) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("At least two players are needed, got " + playerCount);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive, got " + maxTurns);
+        }
+        this.playerCount = playerCount;
+        this.policy = policy;
+        this.maxTurns = maxTurns;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Builds a fresh game on the standard board and plays it to the end.
+     * 
+     * @return the outcome
+     * @throws InvalidDataException if the board cannot be built
+     */
+    public GameOutcome playGame() throws InvalidDataException {
+        return play(newGame());
+    }
+
+    /**
+     * Builds a fresh game drawing dice and cards from the given source and plays it to the end.
+     * 
+     * @param random the random source for the game
+     * @return the outcome
+     * @throws InvalidDataException if the board cannot be built
+     */
+    public GameOutcome playGame(RandomGenerator random) throws InvalidDataException {
+        return play(newGame(random));
+    }
+
+    /**
+     * Builds a game on the standard board with numbered players.
+     * 
+     * @return the new game
+     * @throws InvalidDataException if the board cannot be built
+     */
+    public BoardGame newGame() throws InvalidDataException {
+        return newGame(new SplittableRandom());
+    }
+
+    /**
+     * Builds a game on the standard board with numbered players,
+     * drawing dice and cards from the given source.
+     * 
+     * @param random the random source for the game
+     * @return the new game
+     * @throws InvalidDataException if the board cannot be built
+     */
+    public BoardGame newGame(RandomGenerator random) throws InvalidDataException {
+        BoardGame game = new BoardGame(random);
+        Board board = MonopolyBoardFactory.sharedBoard();
+        game.setBoard(board);
+        for (int i = 1; i <= playerCount; i++) {
+            game.addPlayer(new Player("Player " + i));
+        }
+        return game;
+    }
+
+    /**
+     * Plays a prepared game until it finishes or the turn limit is reached.
+     * 
+     * @param game the game with board and players added
+     * @return the outcome, with seats given by the initial player order
+     */
+    public GameOutcome play(BoardGame game) {
+        return play(game, policy, maxTurns, null);
+    }
+
+    /**
+     * Plays a prepared game with a given policy, calling a hook after every turn.
+     * 
+     * @param game the game with board and players added
+     * @param policy the purchase policy
+     * @param maxTurns turn limit before the game is abandoned
+     * @param hook called after every turn, may be null
+     * @return the outcome, with seats given by the initial player order
+     */
+    static GameOutcome play(BoardGame game, PurchasePolicy policy, int maxTurns, TurnHook hook) {
+        List<Player> seats = new ArrayList<>(game.getPlayers());
+        OfferTracker offers = new OfferTracker();
+        game.addObserver(offers);
+
+        int bankruptcies = 0;
+        while (!game.isFinished() && game.getTurnCount() < maxTurns) {
+            Player player = game.getCurrentPlayer();
+            offers.clear();
+            game.playTurn();
+            if (game.getCurrentPlayer() != player) {
+                // The turn was skipped and the game already moved on
+                if (hook != null && !hook.afterTurn(game)) {
+                    break;
+                }
+                continue;
+            }
+
+            Tile offered = offers.tile;
+            if (offered != null && offers.player == player && player.getStrategy() == null
+                && policy.shouldBuy(game, player, offered)) {
+                game.buyProperty(player, offered);
+            }
+
+            if (game.checkBankruptcy(player)) {
+                // The next player has moved into the bankrupt player's slot
+                bankruptcies++;
+            } else {
+                game.nextTurn();
+            }
+            if (hook != null && !hook.afterTurn(game)) {
+                break;
+            }
+        }
+
+        int winnerSeat = game.getWinner() != null ? seats.indexOf(game.getWinner()) : -1;
+        return new GameOutcome(winnerSeat, game.getTurnCount(), bankruptcies);
+    }
+
+    /**
+     * Callback run by {@link #play(BoardGame, PurchasePolicy, int, TurnHook)} after each turn.
+     */
+    @FunctionalInterface
+    interface TurnHook {
+        /**
+         * Called once the turn count has advanced.
+         * 
+         * @param game the game in progress
+         * @return false to stop playing
+         */
+        boolean afterTurn(BoardGame game);
+    }
+
+    /**
+     * Remembers the last purchase offer made during a turn.
+     */
+    private static class OfferTracker implements GameObserver {
+        private Player player;
+        private Tile tile;
+
+        void clear() {
+            player = null;
+            tile = null;
+        }
+
+        @Override
+        public Set<GameEventKind> getInterests() {
+            return EnumSet.of(GameEventKind.PROPERTY_AVAILABLE);
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            this.player = player;
+            this.tile = property;
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {}
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {}
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {}
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {}
+        @Override
+        public void onPlayerSkipped(Player player) {}
+        @Override
+        public void onGameEnd(Player winner) {}
+    }
+}
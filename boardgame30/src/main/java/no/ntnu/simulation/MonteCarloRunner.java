@@ -0,0 +1,117 @@
+package no.ntnu.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import no.ntnu.exception.InvalidDataException;
+
+/**
+ * Runs many simulated games in parallel on a fork-join pool.
+ * <p>
+ * The requested games are split in halves until a batch is small enough to
+ * play on one worker, and the partial results are merged on the way back up.
+ * Every split also splits the random generator, so each game gets its own
+ * independent stream and a seeded run gives the same result on any number of threads.
+ */
+public class MonteCarloRunner {
+    private static final int BATCH_SIZE = 32;
+
+    private final GameSimulator simulator;
+    private final ForkJoinPool pool;
+    private final SplittableGenerator random;
+
+    /**
+     * Creates a runner on the common pool, which uses all available cores.
+     * 
+     * @param simulator the simulator playing each game
+     */
+    public MonteCarloRunner(GameSimulator simulator) {
+        this(simulator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a runner on a given pool.
+     * 
+     * @param simulator the simulator playing each game
+     * @param pool the pool to run on
+     */
+    public MonteCarloRunner(GameSimulator simulator, ForkJoinPool pool) {
+        this(simulator, pool, new SplittableRandom());
+    }
+
+    /**
+     * Creates a runner on a given pool with a seed, so runs can be repeated.
+     * 
+     * @param simulator the simulator playing each game
+     * @param pool the pool to run on
+     * @param seed the seed for all games of a run
+     */
+    public MonteCarloRunner(GameSimulator simulator, ForkJoinPool pool, long seed) {
+        this(simulator, pool, new SplittableRandom(seed));
+    }
+
+    private MonteCarloRunner(GameSimulator simulator, ForkJoinPool pool, SplittableGenerator random) {
+        this.simulator = simulator;
+        this.pool = pool;
+        this.random = random;
+    }
+
+    /**
+     * Plays the given number of games and aggregates the outcomes.
+     * Runners created with the same seed repeat the same sequence of runs.
+     * 
+     * @param games number of games to play
+     * @return the aggregated result
+     */
+    public SimulationResult run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative: " + games);
+        }
+        SplittableGenerator runRandom;
+        synchronized (random) {
+            runRandom = random.split();
+        }
+        return pool.invoke(new SimulationTask(games, runRandom));
+    }
+
+    /**
+     * Plays a range of games, splitting it while it is larger than one batch.
+     */
+    @SuppressWarnings("serial")
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private final int games;
+        private final SplittableGenerator random;
+
+        SimulationTask(int games, SplittableGenerator random) {
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= BATCH_SIZE) {
+                return playBatch();
+            }
+            int half = games / 2;
+            SimulationTask left = new SimulationTask(half, random.split());
+            SimulationTask right = new SimulationTask(games - half, random);
+            left.fork();
+            SimulationResult result = right.compute();
+            return result.merge(left.join());
+        }
+
+        private SimulationResult playBatch() {
+            SimulationResult result = new SimulationResult(simulator.getPlayerCount());
+            for (int i = 0; i < games; i++) {
+                try {
+                    result.add(simulator.playGame(random.split()));
+                } catch (InvalidDataException e) {
+                    throw new IllegalStateException("Could not build the board", e);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package no.ntnu.simulation;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.tile.Tile;
+
+/**
+ * Decides automatically whether a player buys an offered tile.
+ */
+@FunctionalInterface
+public interface PurchasePolicy {
+
+    /**
+     * Decide whether to buy a tile the player has landed on.
+     * @param game the game in progress
+     * @param player the player being offered the tile
+     * @param tile the unowned tile
+     * @return true to buy the tile
+     */
+    boolean shouldBuy(BoardGame game, Player player, Tile tile);
+
+    /**
+     * Buys every tile the player can afford.
+     * 
+     * @return the policy
+     */
+    static PurchasePolicy always() {
+        return (game, player, tile) -> player.getBalance() >= tile.getPrice();
+    }
+
+    /**
+     * Never buys anything.
+     * 
+     * @return the policy
+     */
+    static PurchasePolicy never() {
+        return (game, player, tile) -> false;
+    }
+
+    /**
+     * Buys only while the player keeps at least the given amount after paying.
+     * 
+     * @param reserve the balance to keep after a purchase
+     * @return the policy
+     */
+    static PurchasePolicy withReserve(int reserve) {
+        return (game, player, tile) -> player.getBalance() - tile.getPrice() >= reserve;
+    }
+}
@@ -0,0 +1,298 @@
+package no.ntnu.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import no.ntnu.exception.InvalidDataException;
+
+/**
+ * The inputs that fully determine one simulated game.
+ * <p>
+ * With a seeded random source, a game is fixed by its seed, the player names,
+ * the board definition and the buy or skip answer given to each purchase offer.
+ * A replay records only those, plus a checksum of the game state every
+ * {@link #CHECKPOINT_INTERVAL} turns and at the end so a re-run can tell where
+ * it went astray. See {@link Replayer} for recording and verifying replays.
+ * <p>
+ * The binary form starts with a magic number and version, followed by the seed,
+ * the board fingerprint, the names, the turn counts, the turns with an offer as
+ * varint deltas, the answers packed eight to a byte and finally the checksums.
+ * A thousand-turn game takes a few hundred bytes, most of them checksums.
+ */
+public final class Replay {
+    /** Turns between two state checksums. */
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final int MAGIC = 0x4D524550;
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final long boardFingerprint;
+    private final List<String> playerNames;
+    private final int maxTurns;
+    private final int turns;
+    private final int[] offerTurns;
+    private final boolean[] bought;
+    private final long[] checkpoints;
+    private final long finalChecksum;
+
+    Replay(long seed, long boardFingerprint, List<String> playerNames, int maxTurns, int turns,
+           int[] offerTurns, boolean[] bought, long[] checkpoints, long finalChecksum) {
+        if (offerTurns.length != bought.length) {
+            throw new IllegalArgumentException("Every offer needs exactly one decision");
+        }
+        this.seed = seed;
+        this.boardFingerprint = boardFingerprint;
+        this.playerNames = List.copyOf(playerNames);
+        this.maxTurns = maxTurns;
+        this.turns = turns;
+        this.offerTurns = offerTurns;
+        this.bought = bought;
+        this.checkpoints = checkpoints;
+        this.finalChecksum = finalChecksum;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the fingerprint of the board the game was played on.
+     *
+     * @return the fingerprint, see {@link no.ntnu.BoardDefinition#fingerprint()}
+     */
+    public long getBoardFingerprint() {
+        return boardFingerprint;
+    }
+
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the number of turns the recorded game lasted.
+     *
+     * @return the turn count
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of purchase offers answered during the game.
+     *
+     * @return the decision count
+     */
+    public int getDecisionCount() {
+        return offerTurns.length;
+    }
+
+    /**
+     * Gets the turn on which an offer was answered.
+     *
+     * @param index the decision index
+     * @return the turn count at that offer
+     */
+    public int getDecisionTurn(int index) {
+        return offerTurns[index];
+    }
+
+    /**
+     * Gets whether an offer was accepted.
+     *
+     * @param index the decision index
+     * @return true if the tile was bought
+     */
+    public boolean getDecision(int index) {
+        return bought[index];
+    }
+
+    /**
+     * Gets the number of checkpoints, one for every full interval played.
+     *
+     * @return the checkpoint count
+     */
+    public int getCheckpointCount() {
+        return checkpoints.length;
+    }
+
+    /**
+     * Gets the state checksum after turn {@code (index + 1) * CHECKPOINT_INTERVAL}.
+     *
+     * @param index the checkpoint index
+     * @return the checksum
+     */
+    public long getCheckpoint(int index) {
+        return checkpoints[index];
+    }
+
+    public long getFinalChecksum() {
+        return finalChecksum;
+    }
+
+    /**
+     * Writes the replay in its binary form.
+     *
+     * @param out the stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeLong(boardFingerprint);
+        writeVarint(data, playerNames.size());
+        for (String name : playerNames) {
+            data.writeUTF(name);
+        }
+        writeVarint(data, maxTurns);
+        writeVarint(data, turns);
+
+        writeVarint(data, offerTurns.length);
+        int previous = 0;
+        for (int turn : offerTurns) {
+            writeVarint(data, turn - previous);
+            previous = turn;
+        }
+        int packed = 0;
+        for (int i = 0; i < bought.length; i++) {
+            if (bought[i]) {
+                packed |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7 || i == bought.length - 1) {
+                data.writeByte(packed);
+                packed = 0;
+            }
+        }
+
+        writeVarint(data, checkpoints.length);
+        for (long checkpoint : checkpoints) {
+            data.writeLong(checkpoint);
+        }
+        data.writeLong(finalChecksum);
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write(OutputStream)}.
+     *
+     * @param in the stream to read from, left open
+     * @return the replay
+     * @throws IOException if reading fails
+     * @throws InvalidDataException if the data is not a replay or is corrupt
+     */
+    public static Replay read(InputStream in) throws IOException, InvalidDataException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readInt() != MAGIC) {
+                throw new InvalidDataException("Not a replay");
+            }
+            int version = data.readUnsignedByte();
+            if (version != VERSION) {
+                throw new InvalidDataException("Unsupported replay version " + version);
+            }
+            long seed = data.readLong();
+            long fingerprint = data.readLong();
+            String[] names = new String[readCount(data)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = data.readUTF();
+            }
+            int maxTurns = readVarint(data);
+            int turns = readVarint(data);
+
+            int[] offerTurns = new int[readCount(data)];
+            int turn = 0;
+            for (int i = 0; i < offerTurns.length; i++) {
+                turn += readVarint(data);
+                offerTurns[i] = turn;
+            }
+            boolean[] bought = new boolean[offerTurns.length];
+            int packed = 0;
+            for (int i = 0; i < bought.length; i++) {
+                if ((i & 7) == 0) {
+                    packed = data.readUnsignedByte();
+                }
+                bought[i] = (packed & (1 << (i & 7))) != 0;
+            }
+
+            long[] checkpoints = new long[readCount(data)];
+            for (int i = 0; i < checkpoints.length; i++) {
+                checkpoints[i] = data.readLong();
+            }
+            long finalChecksum = data.readLong();
+            return new Replay(seed, fingerprint, Arrays.asList(names), maxTurns, turns,
+                offerTurns, bought, checkpoints, finalChecksum);
+        } catch (EOFException e) {
+            throw new InvalidDataException("Replay is truncated");
+        }
+    }
+
+    /**
+     * Saves the replay to a file, replacing any existing file.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Loads a replay from a file.
+     *
+     * @param file the file to read
+     * @return the replay
+     * @throws IOException if reading fails
+     * @throws InvalidDataException if the file is not a replay or is corrupt
+     */
+    public static Replay load(Path file) throws IOException, InvalidDataException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarint(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream data) throws IOException, InvalidDataException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("Malformed varint in replay");
+    }
+
+    private static int readCount(DataInputStream data) throws IOException, InvalidDataException {
+        int count = readVarint(data);
+        if (count < 0 || count > 1 << 24) {
+            throw new InvalidDataException("Implausible count in replay: " + count);
+        }
+        return count;
+    }
+}
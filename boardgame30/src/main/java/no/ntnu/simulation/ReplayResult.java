@@ -0,0 +1,25 @@
+package no.ntnu.simulation;
+
+/**
+ * Result of re-running one replay.
+ * <p>
+ * A wrong buy or skip answer is caught on the exact turn. Other differences,
+ * such as a changed rule, only show at the next checkpoint, so the game
+ * first differed somewhere after {@code lastVerifiedTurn} and no later than
+ * {@code divergentTurn}.
+ * 
+ * @param divergentTurn first turn found to differ from the recording, or -1 if none did
+ * @param lastVerifiedTurn last turn at which the state was known to match
+ * @param turns number of turns re-played
+ */
+public record ReplayResult(int divergentTurn, int lastVerifiedTurn, int turns) {
+
+    /**
+     * Checks if the re-run matched the recording to the end.
+     * 
+     * @return true if no divergence was found
+     */
+    public boolean isVerified() {
+        return divergentTurn < 0;
+    }
+}
@@ -0,0 +1,157 @@
+package no.ntnu.simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import no.ntnu.exception.InvalidDataException;
+
+/**
+ * Verifies many replays in parallel on a fork-join pool.
+ * <p>
+ * The replays are split in halves until a batch is small enough to check on
+ * one worker. Every replay is re-run independently, so the results do not
+ * depend on the number of threads.
+ */
+public class ReplayVerifier {
+    private static final int BATCH_SIZE = 16;
+
+    private final Replayer replayer;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a verifier on the common pool, which uses all available cores.
+     *
+     * @param replayer the replayer re-running each game
+     */
+    public ReplayVerifier(Replayer replayer) {
+        this(replayer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a verifier on a given pool.
+     *
+     * @param replayer the replayer re-running each game
+     * @param pool the pool to run on
+     */
+    public ReplayVerifier(Replayer replayer, ForkJoinPool pool) {
+        this.replayer = replayer;
+        this.pool = pool;
+    }
+
+    /**
+     * Re-runs every replay and compares it against its recording.
+     *
+     * @param replays the replays to check
+     * @return the report, with results in the order of the replays
+     * @throws IllegalArgumentException if a replay was recorded on another board
+     */
+    public Report verifyAll(List<Replay> replays) {
+        ReplayResult[] results = new ReplayResult[replays.size()];
+        pool.invoke(new VerifyTask(replays, results, 0, results.length));
+        return new Report(List.of(results));
+    }
+
+    /**
+     * Results of a batch verification.
+     */
+    public static class Report {
+        private final List<ReplayResult> results;
+        private final int divergedCount;
+        private final int firstDiverged;
+
+        Report(List<ReplayResult> results) {
+            this.results = results;
+            int count = 0;
+            int first = -1;
+            for (int i = 0; i < results.size(); i++) {
+                if (!results.get(i).isVerified()) {
+                    count++;
+                    if (first < 0) {
+                        first = i;
+                    }
+                }
+            }
+            this.divergedCount = count;
+            this.firstDiverged = first;
+        }
+
+        /**
+         * Gets the result of every replay, in the order the replays were given.
+         *
+         * @return the results
+         */
+        public List<ReplayResult> getResults() {
+            return results;
+        }
+
+        public int getReplayCount() {
+            return results.size();
+        }
+
+        public int getDivergedCount() {
+            return divergedCount;
+        }
+
+        /**
+         * Gets the index of the first replay that did not match its recording.
+         *
+         * @return the index, or -1 if all replays were verified
+         */
+        public int getFirstDivergedIndex() {
+            return firstDiverged;
+        }
+
+        public boolean isAllVerified() {
+            return divergedCount == 0;
+        }
+
+        @Override
+        public String toString() {
+            if (firstDiverged < 0) {
+                return String.format("%d replays verified", results.size());
+            }
+            return String.format("%d of %d replays diverged, first is #%d at turn %d",
+                divergedCount, results.size(), firstDiverged, results.get(firstDiverged).divergentTurn());
+        }
+    }
+
+    /**
+     * Checks a range of replays, splitting it while it is larger than one batch.
+     */
+    @SuppressWarnings("serial")
+    private class VerifyTask extends RecursiveAction {
+        private final List<Replay> replays;
+        private final ReplayResult[] results;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<Replay> replays, ReplayResult[] results, int from, int to) {
+            this.replays = replays;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                verifyBatch();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyTask(replays, results, from, middle),
+                new VerifyTask(replays, results, middle, to));
+        }
+
+        private void verifyBatch() {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = replayer.verify(replays.get(i));
+                } catch (InvalidDataException e) {
+                    throw new IllegalStateException("Could not build the board", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package no.ntnu.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.Tile;
+
+/**
+ * Records games as {@link Replay}s and plays them back.
+ * <p>
+ * A game is re-created from the seed with {@link SplittableRandom} dice and
+ * played exactly like {@link GameSimulator} does, with the recorded answers
+ * taking the place of the purchase policy. No observers beyond the offer
+ * tracker are attached, so a replay runs at full simulation speed.
+ * Instances hold no game state and can be shared between threads.
+ */
+public class Replayer {
+    private final BoardDefinition definition;
+    private final long fingerprint;
+
+    /**
+     * Creates a replayer for games on the given board.
+     *
+     * @param definition the board games are played on
+     */
+    public Replayer(BoardDefinition definition) {
+        this.definition = definition;
+        this.fingerprint = definition.fingerprint();
+    }
+
+    /**
+     * Creates a replayer for games on the standard board.
+     */
+    public Replayer() {
+        this(MonopolyBoardFactory.standardDefinition());
+    }
+
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Plays a new game and records it.
+     *
+     * @param seed the seed for dice and cards
+     * @param playerNames names of the players in seat order
+     * @param policy the purchase policy used by every player
+     * @param maxTurns turn limit before the game is abandoned
+     * @return the replay
+     * @throws InvalidDataException if the board cannot be built
+     */
+    public Replay record(long seed, List<String> playerNames, PurchasePolicy policy, int maxTurns)
+            throws InvalidDataException {
+        if (playerNames.size() < 2) {
+            throw new IllegalArgumentException("At least two players are needed, got " + playerNames.size());
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive, got " + maxTurns);
+        }
+        BoardGame game = newGame(seed, playerNames);
+        Recorder recorder = new Recorder(policy);
+        GameSimulator.play(game, recorder, maxTurns, recorder);
+        return new Replay(seed, fingerprint, playerNames, maxTurns, game.getTurnCount(),
+            Arrays.copyOf(recorder.offerTurns, recorder.decisions),
+            Arrays.copyOf(recorder.bought, recorder.decisions),
+            Arrays.copyOf(recorder.checkpoints, recorder.checkpointCount),
+            checksum(game));
+    }
+
+    /**
+     * Re-plays a replay and compares it against the recording, stopping at the first divergence.
+     *
+     * @param replay the replay to check
+     * @return the result
+     * @throws InvalidDataException if the board cannot be built
+     * @throws IllegalArgumentException if the replay was recorded on another board
+     */
+    public ReplayResult verify(Replay replay) throws InvalidDataException {
+        Playback playback = new Playback(replay);
+        BoardGame game = play(replay, playback);
+        playback.finish(game);
+        return new ReplayResult(playback.divergentTurn, playback.lastVerifiedTurn, game.getTurnCount());
+    }
+
+    /**
+     * Re-plays a replay to regenerate the recorded game.
+     *
+     * @param replay the replay
+     * @return the game in its final state
+     * @throws InvalidDataException if the board cannot be built
+     * @throws IllegalArgumentException if the replay was recorded on another board
+     * @throws IllegalStateException if the game does not follow the recording
+     */
+    public BoardGame regenerate(Replay replay) throws InvalidDataException {
+        Playback playback = new Playback(replay);
+        BoardGame game = play(replay, playback);
+        playback.finish(game);
+        if (playback.divergentTurn >= 0) {
+            throw new IllegalStateException("Game diverges from the replay at turn " + playback.divergentTurn);
+        }
+        return game;
+    }
+
+    private BoardGame play(Replay replay, Playback playback) throws InvalidDataException {
+        if (replay.getBoardFingerprint() != fingerprint) {
+            throw new IllegalArgumentException("Replay was recorded on a different board");
+        }
+        BoardGame game = newGame(replay.getSeed(), replay.getPlayerNames());
+        GameSimulator.play(game, playback, replay.getMaxTurns(), playback);
+        return game;
+    }
+
+    private BoardGame newGame(long seed, List<String> playerNames) throws InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(seed));
+        Board board = MonopolyBoardFactory.sharedBoard(definition);
+        game.setBoard(board);
+        for (String name : playerNames) {
+            game.addPlayer(new Player(name));
+        }
+        return game;
+    }
+
+    /**
+     * Hashes the state that later turns depend on: the current player, each
+     * remaining player's balance, position, jail and skip state, and the owner
+     * and buildings of every tile. Owners are identified by their index among
+     * the remaining players.
+     *
+     * @param game the game
+     * @return the checksum
+     */
+    static long checksum(BoardGame game) {
+        List<Player> players = game.getPlayers();
+        long hash = mix(0x9E3779B97F4A7C15L, game.getCurrentPlayerIndex());
+        hash = mix(hash, players.size());
+        for (Player player : players) {
+            hash = mix(hash, player.getBalance());
+            hash = mix(hash, player.getCurrentTileId());
+            hash = mix(hash, player.isInJail() ? player.getJailTurns() + 1 : 0);
+            hash = mix(hash, player.isSkipNextTurn() ? 1 : 0);
+        }
+        Board board = game.getBoard();
+        for (int position = 0; position < board.getLoopLength(); position++) {
+            Tile tile = board.getTileAt(position);
+            Player owner = game.getOwner(tile);
+            int buildings = tile instanceof PropertyTile pt ? game.getBuildings(pt) : 0;
+            int seat = owner != null ? players.indexOf(owner) + 1 : 0;
+            hash = mix(hash, seat << 3 | buildings);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        long h = (hash ^ value) * 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Asks the real policy and writes down each answer, checksumming the state at every checkpoint.
+     */
+    private static class Recorder implements PurchasePolicy, GameSimulator.TurnHook {
+        private final PurchasePolicy policy;
+        private int[] offerTurns = new int[64];
+        private boolean[] bought = new boolean[64];
+        private int decisions = 0;
+        private long[] checkpoints = new long[16];
+        private int checkpointCount = 0;
+
+        Recorder(PurchasePolicy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+            boolean buy = policy.shouldBuy(game, player, tile);
+            if (decisions == offerTurns.length) {
+                offerTurns = Arrays.copyOf(offerTurns, decisions * 2);
+                bought = Arrays.copyOf(bought, decisions * 2);
+            }
+            offerTurns[decisions] = game.getTurnCount();
+            bought[decisions] = buy;
+            decisions++;
+            return buy;
+        }
+
+        @Override
+        public boolean afterTurn(BoardGame game) {
+            if (game.getTurnCount() % Replay.CHECKPOINT_INTERVAL == 0) {
+                if (checkpointCount == checkpoints.length) {
+                    checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+                }
+                checkpoints[checkpointCount++] = checksum(game);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Answers offers from the recording and compares checkpoints, stopping the game at the first mismatch.
+     */
+    private static class Playback implements PurchasePolicy, GameSimulator.TurnHook {
+        private final Replay replay;
+        private int nextDecision = 0;
+        private int divergentTurn = -1;
+        private int lastVerifiedTurn = 0;
+
+        Playback(Replay replay) {
+            this.replay = replay;
+        }
+
+        @Override
+        public boolean shouldBuy(BoardGame game, Player player, Tile tile) {
+            int turn = game.getTurnCount();
+            if (nextDecision < replay.getDecisionCount() && replay.getDecisionTurn(nextDecision) == turn) {
+                return replay.getDecision(nextDecision++);
+            }
+            diverge(turn);
+            return false;
+        }
+
+        @Override
+        public boolean afterTurn(BoardGame game) {
+            int turn = game.getTurnCount();
+            if (divergentTurn < 0 && nextDecision < replay.getDecisionCount()
+                && replay.getDecisionTurn(nextDecision) <= turn) {
+                // The recorded game had an offer this turn that the re-run did not
+                diverge(replay.getDecisionTurn(nextDecision));
+            }
+            if (divergentTurn < 0 && turn % Replay.CHECKPOINT_INTERVAL == 0) {
+                int index = turn / Replay.CHECKPOINT_INTERVAL - 1;
+                if (index < replay.getCheckpointCount()) {
+                    if (checksum(game) == replay.getCheckpoint(index)) {
+                        lastVerifiedTurn = turn;
+                    } else {
+                        diverge(turn);
+                    }
+                }
+            }
+            return divergentTurn < 0;
+        }
+
+        /**
+         * Compares the end of the re-run with the end of the recording.
+         */
+        void finish(BoardGame game) {
+            if (divergentTurn >= 0) {
+                return;
+            }
+            int turn = game.getTurnCount();
+            if (nextDecision < replay.getDecisionCount()) {
+                diverge(replay.getDecisionTurn(nextDecision));
+            } else if (turn != replay.getTurns()) {
+                diverge(Math.min(turn, replay.getTurns()));
+            } else if (checksum(game) != replay.getFinalChecksum()) {
+                diverge(turn);
+            } else {
+                lastVerifiedTurn = turn;
+            }
+        }
+
+        private void diverge(int turn) {
+            if (divergentTurn < 0) {
+                divergentTurn = turn;
+            }
+        }
+    }
+}
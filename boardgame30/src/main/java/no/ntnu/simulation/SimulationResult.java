@@ -0,0 +1,135 @@
+package no.ntnu.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated statistics over many simulated games.
+ * <p>
+ * Results are filled by a single thread and combined with {@link #merge}.
+ */
+public class SimulationResult {
+    private final long[] winsBySeat;
+    private long games = 0;
+    private long finishedGames = 0;
+    private long totalTurns = 0;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns = 0;
+    private long bankruptcies = 0;
+
+    /**
+     * Creates an empty result.
+     * 
+     * @param playerCount number of seats in each game
+     */
+    public SimulationResult(int playerCount) {
+        this.winsBySeat = new long[playerCount];
+    }
+
+    /**
+     * Adds one game to the statistics.
+     * 
+     * @param outcome the game outcome
+     */
+    public void add(GameOutcome outcome) {
+        games++;
+        totalTurns += outcome.turns();
+        minTurns = Math.min(minTurns, outcome.turns());
+        maxTurns = Math.max(maxTurns, outcome.turns());
+        bankruptcies += outcome.bankruptcies();
+        if (outcome.isFinished()) {
+            finishedGames++;
+            winsBySeat[outcome.winnerSeat()]++;
+        }
+    }
+
+    /**
+     * Adds all games from another result into this one.
+     * 
+     * @param other the result to merge
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        if (other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("Cannot merge results with different player counts");
+        }
+        games += other.games;
+        finishedGames += other.finishedGames;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        bankruptcies += other.bankruptcies;
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended with a winner.
+     * 
+     * @return finished game count
+     */
+    public long getFinishedGames() {
+        return finishedGames;
+    }
+
+    /**
+     * Gets the number of games abandoned at the turn limit.
+     * 
+     * @return unfinished game count
+     */
+    public long getUnfinishedGames() {
+        return games - finishedGames;
+    }
+
+    /**
+     * Gets how many games the given seat won.
+     * 
+     * @param seat seat index in turn order
+     * @return win count
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Gets the share of finished games won by the given seat.
+     * 
+     * @param seat seat index in turn order
+     * @return win share between 0 and 1
+     */
+    public double getWinShare(int seat) {
+        return finishedGames == 0 ? 0.0 : (double) winsBySeat[seat] / finishedGames;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public long getBankruptcies() {
+        return bankruptcies;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult[games=" + games
+            + ", finished=" + finishedGames
+            + ", winsBySeat=" + Arrays.toString(winsBySeat)
+            + ", avgTurns=" + String.format("%.1f", getAverageTurns())
+            + ", minTurns=" + getMinTurns()
+            + ", maxTurns=" + maxTurns
+            + ", bankruptcies=" + bankruptcies + "]";
+    }
+}
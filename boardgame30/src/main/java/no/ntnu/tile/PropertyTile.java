@@ -1,9 +1,17 @@
 package no.ntnu.tile;
 
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
 import no.ntnu.Player;
 
 /**
  * A board tile representing a purchasable property.
+ * <p>
+ * On a board with a position index, who owns the tile and what is built on
+ * it belong to a game, see {@link BoardGame#getOwner(Tile)} and
+ * {@link BoardGame#getBuildings(PropertyTile)}, so one tile can be shared by
+ * every game on the same board. Boards assembled by hand without an index
+ * keep that state in the tile itself.
  */
 public class PropertyTile extends Tile {
     private final int price;
@@ -11,6 +19,7 @@ public class PropertyTile extends Tile {
     private final PropertyColor color;
     private final String name;
     private final int housePrice;
+    private final RentTable rentTable;
     private Player owner;
     private int houseCount = 0;
     private boolean hasHotel = false;
@@ -26,12 +35,29 @@ public class PropertyTile extends Tile {
      * @param housePrice the price to build a house
      */
     public PropertyTile(int id, String name, PropertyColor color, int price, int rent, int housePrice) {
+        this(id, name, color, price, rent, housePrice, RentTable.forProperty(rent));
+    }
+
+    /**
+     * Creates a property tile with a precomputed rent table.
+     * 
+     * @param id the tile ID
+     * @param name the property name
+     * @param color the property color group
+     * @param price the purchase price
+     * @param rent the base rent
+     * @param housePrice the price to build a house
+     * @param rentTable rents by building level
+     */
+    public PropertyTile(int id, String name, PropertyColor color, int price, int rent, int housePrice,
+                        RentTable rentTable) {
         super(id);
         this.name = name;
         this.color = color;
         this.price = price;
         this.rent = rent;
         this.housePrice = housePrice;
+        this.rentTable = rentTable;
     }
 
     /**
@@ -55,20 +81,59 @@ public class PropertyTile extends Tile {
         return price;
     }
 
+    @Override
+    public int getRent(BoardGame game) {
+        if (game.getOwner(this) == null) return 0;
+        return rentTable.get(getRentLevel(game));
+    }
+
+    /**
+     * Gets the current building level used to look up rent.
+     * 
+     * @param game the game whose owner and buildings count
+     * @return the level, see {@link RentTable#propertyLevel}
+     */
+    public int getRentLevel(BoardGame game) {
+        Player owner = game.getOwner(this);
+        boolean monopoly = owner != null && color != null && owner.hasMonopoly(color);
+        int buildings = game.getBuildings(this);
+        return RentTable.propertyLevel(monopoly, buildings == BoardState.HOTEL ? 0 : buildings,
+            buildings == BoardState.HOTEL);
+    }
+
+    /**
+     * Gets the rent from the owner and buildings stored in this tile.
+     * 
+     * @return the rent, 0 if unowned
+     * @deprecated only sees state kept in the tile, which games on indexed
+     *     boards do not use; use {@link #getRent(BoardGame)}
+     */
+    @Deprecated
     @Override
     public int getRent() {
         if (owner == null) return 0;
-        
-        if (color != null && owner.hasMonopoly(color)) {
-            if (hasHotel) {
-                return rent * 50; 
-            } else if (houseCount > 0) {
-                return rent * (1 + houseCount * 5); 
-            } else {
-                return rent * 2; 
-            }
-        }
-        return rent;
+        return rentTable.get(getRentLevel());
+    }
+
+    /**
+     * Gets the building level from the owner and buildings stored in this tile.
+     * 
+     * @return the level, see {@link RentTable#propertyLevel}
+     * @deprecated use {@link #getRentLevel(BoardGame)}
+     */
+    @Deprecated
+    public int getRentLevel() {
+        boolean monopoly = owner != null && color != null && owner.hasMonopoly(color);
+        return RentTable.propertyLevel(monopoly, houseCount, hasHotel);
+    }
+
+    /**
+     * Gets the precomputed rents for this property.
+     * 
+     * @return the rent table
+     */
+    public RentTable getRentTable() {
+        return rentTable;
     }
 
     /**
@@ -90,28 +155,62 @@ public class PropertyTile extends Tile {
     }
 
     /**
-     * Gets the number of houses on this property.
+     * Checks if a house can be built on this property.
+     * 
+     * @param game the game whose owner and buildings count
+     * @return true if building is allowed
+     */
+    public boolean canBuildHouse(BoardGame game) {
+        Player owner = game.getOwner(this);
+        return owner != null 
+            && color != null
+            && owner.hasMonopoly(color) 
+            && game.getBuildings(this) < 4 
+            && owner.getBalance() >= housePrice;
+    }
+
+    /**
+     * Checks if a hotel can be built on this property.
+     * 
+     * @param game the game whose owner and buildings count
+     * @return true if hotel building is allowed
+     */
+    public boolean canBuildHotel(BoardGame game) {
+        Player owner = game.getOwner(this);
+        return owner != null 
+            && game.getBuildings(this) == 4 
+            && owner.getBalance() >= housePrice;
+    }
+
+    /**
+     * Gets the number of houses stored in this tile.
      * 
      * @return the house count
+     * @deprecated use {@link BoardGame#getBuildings(PropertyTile)}
      */
+    @Deprecated
     public int getHouseCount() {
         return houseCount;
     }
 
     /**
-     * Checks if this property has a hotel.
+     * Checks if a hotel is stored in this tile.
      * 
      * @return true if has hotel
+     * @deprecated use {@link BoardGame#getBuildings(PropertyTile)}
      */
+    @Deprecated
     public boolean hasHotel() {
         return hasHotel;
     }
 
     /**
-     * Checks if a house can be built on this property.
+     * Checks if a house can be built from the state stored in this tile.
      * 
      * @return true if building is allowed
+     * @deprecated use {@link #canBuildHouse(BoardGame)}
      */
+    @Deprecated
     public boolean canBuildHouse() {
         return owner != null 
             && color != null
@@ -122,8 +221,11 @@ public class PropertyTile extends Tile {
     }
 
     /**
-     * Adds a house to this property.
+     * Adds a house to the buildings stored in this tile.
+     * 
+     * @deprecated use {@link BoardGame#setBuildings(PropertyTile, int)}
      */
+    @Deprecated
     public void addHouse() {
         if (houseCount < 4) {
             houseCount++;
@@ -131,10 +233,12 @@ public class PropertyTile extends Tile {
     }
 
     /**
-     * Checks if a hotel can be built on this property.
+     * Checks if a hotel can be built from the state stored in this tile.
      * 
      * @return true if hotel building is allowed
+     * @deprecated use {@link #canBuildHotel(BoardGame)}
      */
+    @Deprecated
     public boolean canBuildHotel() {
         return owner != null 
             && houseCount == 4 
@@ -143,8 +247,11 @@ public class PropertyTile extends Tile {
     }
 
     /**
-     * Converts houses to a hotel.
+     * Converts the houses stored in this tile to a hotel.
+     * 
+     * @deprecated use {@link BoardGame#setBuildings(PropertyTile, int)}
      */
+    @Deprecated
     public void buildHotel() {
         if (houseCount == 4) {
             houseCount = 0;
@@ -152,15 +259,47 @@ public class PropertyTile extends Tile {
         }
     }
 
+    /**
+     * Removes the buildings stored in this tile.
+     * 
+     * @deprecated use {@link BoardGame#setBuildings(PropertyTile, int)}
+     */
+    @Deprecated
+    public void clearBuildings() {
+        houseCount = 0;
+        hasHotel = false;
+    }
+
+    /**
+     * Gets the owner stored in this tile.
+     * 
+     * @return the owner, or null
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
+     */
+    @Deprecated
     public Player getOwner() {
         return owner;
     }
 
+    /**
+     * Checks if an owner is stored in this tile.
+     * 
+     * @return true if owned
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
+     */
+    @Deprecated
     public boolean isOwned() {
         return owner != null;
     }
 
+    /**
+     * Stores an owner in this tile.
+     * 
+     * @param p the owner, or null
+     * @deprecated use {@link BoardGame#setOwner(Tile, Player)}
+     */
+    @Deprecated
     public void setOwner(Player p) {
         this.owner = p;
     }
-}
\ No newline at end of file
+}
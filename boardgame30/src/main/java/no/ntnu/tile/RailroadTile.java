@@ -1,5 +1,6 @@
 package no.ntnu.tile;
 
+import no.ntnu.BoardGame;
 import no.ntnu.Player;
 
 /**
@@ -8,6 +9,7 @@ import no.ntnu.Player;
 public class RailroadTile extends Tile {
     private final String name;
     private final int price;
+    private final RentTable rentTable;
     private Player owner;
 
     /**
@@ -18,9 +20,22 @@ public class RailroadTile extends Tile {
      * @param price the purchase price
      */
     public RailroadTile(int id, String name, int price) {
+        this(id, name, price, RentTable.forRailroad(25));
+    }
+
+    /**
+     * Creates a railroad tile with a precomputed rent table.
+     * 
+     * @param id the tile ID
+     * @param name the railroad name
+     * @param price the purchase price
+     * @param rentTable rents by number of railroads owned
+     */
+    public RailroadTile(int id, String name, int price, RentTable rentTable) {
         super(id);
         this.name = name;
         this.price = price;
+        this.rentTable = rentTable;
     }
 
     /**
@@ -38,29 +53,72 @@ public class RailroadTile extends Tile {
         return name;
     }
 
+    /**
+     * Gets the rent when the owner has the given number of railroads.
+     * 
+     * @param ownedCount number of railroads the owner has
+     * @return the rent
+     */
     public int calculateRent(int ownedCount) {
-        return switch (ownedCount) {
-            case 1 -> 25;
-            case 2 -> 50;
-            case 3 -> 100;
-            case 4 -> 200;
-            default -> 0;
-        };
+        return rentTable.byOwnedCount(ownedCount);
     }
 
+    @Override
+    public int getRent(BoardGame game) {
+        Player owner = game.getOwner(this);
+        return owner != null ? calculateRent(owner.getOwnedRailroadCount()) : 0;
+    }
+
+    /**
+     * Gets the rent from the owner stored in this tile.
+     * 
+     * @return the rent, 0 if unowned
+     * @deprecated use {@link #getRent(BoardGame)}
+     */
+    @Deprecated
     @Override
     public int getRent() {
-        return 0;
+        return owner != null ? calculateRent(owner.getOwnedRailroadCount()) : 0;
+    }
+
+    /**
+     * Gets the precomputed rents for this railroad.
+     * 
+     * @return the rent table
+     */
+    public RentTable getRentTable() {
+        return rentTable;
     }
 
+    /**
+     * Gets the owner stored in this tile.
+     * 
+     * @return the owner, or null
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
+     */
+    @Deprecated
     public Player getOwner() {
         return owner;
     }
 
+    /**
+     * Checks if an owner is stored in this tile.
+     * 
+     * @return true if owned
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
+     */
+    @Deprecated
     public boolean isOwned() {
         return owner != null;
     }
 
+    /**
+     * Stores an owner in this tile.
+     * 
+     * @param owner the owner, or null
+     * @deprecated use {@link BoardGame#setOwner(Tile, Player)}
+     */
+    @Deprecated
     public void setOwner(Player owner) {
         this.owner = owner;
     }
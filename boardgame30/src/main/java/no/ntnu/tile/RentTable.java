@@ -0,0 +1,117 @@
+package no.ntnu.tile;
+
+import java.util.Arrays;
+
+/**
+ * Immutable table of precomputed rents for an ownable tile.
+ * <p>
+ * Property tables are indexed by building level, see {@link #propertyLevel}.
+ * Railroad tables hold the rent for each number of railroads owned, and utility
+ * tables hold the dice multiplier for each number of utilities owned.
+ * Tables hold no game state and can be shared between boards and threads.
+ */
+public final class RentTable {
+    /** Level of a property whose owner lacks the full color group. */
+    public static final int BASE = 0;
+    /** Level of an unbuilt property in a full color group. */
+    public static final int MONOPOLY = 1;
+    /** Level of a property with a hotel. */
+    public static final int HOTEL = 6;
+
+    private final int[] rents;
+
+    private RentTable(int[] rents) {
+        this.rents = rents;
+    }
+
+    /**
+     * Creates the table for a property: double rent for a full group,
+     * rent times (1 + 5 per house) with houses and 50 times rent with a hotel.
+     * 
+     * @param baseRent the rent without monopoly or buildings
+     * @return the rent table
+     */
+    public static RentTable forProperty(int baseRent) {
+        int[] rents = new int[HOTEL + 1];
+        rents[BASE] = baseRent;
+        rents[MONOPOLY] = baseRent * 2;
+        for (int houses = 1; houses <= 4; houses++) {
+            rents[MONOPOLY + houses] = baseRent * (1 + houses * 5);
+        }
+        rents[HOTEL] = baseRent * 50;
+        return new RentTable(rents);
+    }
+
+    /**
+     * Creates the table for a railroad, doubling the rent for each extra railroad owned.
+     * 
+     * @param baseRent the rent when one railroad is owned
+     * @return the rent table, indexed by railroads owned
+     */
+    public static RentTable forRailroad(int baseRent) {
+        return new RentTable(new int[] {0, baseRent, baseRent * 2, baseRent * 4, baseRent * 8});
+    }
+
+    /**
+     * Creates the table for a utility: 4 times the dice roll with one utility, 10 times with two.
+     * 
+     * @return the multiplier table, indexed by utilities owned
+     */
+    public static RentTable forUtility() {
+        return new RentTable(new int[] {0, 4, 10});
+    }
+
+    /**
+     * Gets the building level of a property, used to index property tables.
+     * Buildings only count when the owner has the full color group.
+     * 
+     * @param monopoly true if the owner has the full color group
+     * @param houses number of houses
+     * @param hotel true if the property has a hotel
+     * @return the level, from {@link #BASE} to {@link #HOTEL}
+     */
+    public static int propertyLevel(boolean monopoly, int houses, boolean hotel) {
+        if (!monopoly) {
+            return BASE;
+        }
+        return hotel ? HOTEL : MONOPOLY + houses;
+    }
+
+    /**
+     * Gets the entry at an index.
+     * 
+     * @param index a level for property tables, or an owned count
+     * @return the rent or multiplier
+     */
+    public int get(int index) {
+        return rents[index];
+    }
+
+    /**
+     * Gets the entry for a number of tiles owned in the same group.
+     * Counts beyond the table use the last entry.
+     * 
+     * @param ownedCount number of tiles owned, 0 gives 0
+     * @return the rent or multiplier
+     */
+    public int byOwnedCount(int ownedCount) {
+        if (ownedCount <= 0) {
+            return 0;
+        }
+        return rents[Math.min(ownedCount, rents.length - 1)];
+    }
+
+    /**
+     * Gets the number of entries.
+     * 
+     * @return table size
+     */
+    public int size() {
+        return rents.length;
+    }
+
+    @Override
+    public String toString() {
+        return "RentTable" + Arrays.toString(rents);
+    }
+}
@@ -1,5 +1,6 @@
 package no.ntnu.tile;
 
+import no.ntnu.BoardGame;
 import no.ntnu.action.TileAction;
 
 /**
@@ -41,6 +42,24 @@ public class Tile {
         return "Tile " + id;
     }
 
+    /**
+     * Gets the rent a visitor owes here in a game.
+     * 
+     * @param game the game whose owners and buildings count
+     * @return the rent, 0 for tiles that cannot be owned
+     */
+    public int getRent(BoardGame game) {
+        return 0;
+    }
+
+    /**
+     * Gets the rent from state stored in the tile, for boards without a
+     * position index.
+     * 
+     * @return the rent, 0 for tiles that cannot be owned
+     * @deprecated use {@link #getRent(BoardGame)}
+     */
+    @Deprecated
     public int getRent() {
         return 0;
     }
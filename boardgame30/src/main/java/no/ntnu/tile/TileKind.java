@@ -0,0 +1,41 @@
+package no.ntnu.tile;
+
+/**
+ * What happens when a player lands on a tile, as described by a board definition.
+ */
+public enum TileKind {
+    GO("GoAction"),
+    PROPERTY("PropertyAction"),
+    RAILROAD("RailroadAction"),
+    UTILITY("UtilityAction"),
+    TAX("TaxAction"),
+    CHANCE("ChanceAction"),
+    CHEST("ChestAction"),
+    GO_TO_JAIL("GoToJailAction"),
+    SKIP_TURN("SkipTurnAction"),
+    PLAIN(null);
+
+    private final String actionKey;
+
+    TileKind(String actionKey) {
+        this.actionKey = actionKey;
+    }
+
+    /**
+     * Gets the TileActionFactory key for this kind.
+     * 
+     * @return the action key, or null for tiles without an action
+     */
+    public String getActionKey() {
+        return actionKey;
+    }
+
+    /**
+     * Checks if tiles of this kind can be bought.
+     * 
+     * @return true for properties, railroads and utilities
+     */
+    public boolean isOwnable() {
+        return this == PROPERTY || this == RAILROAD || this == UTILITY;
+    }
+}
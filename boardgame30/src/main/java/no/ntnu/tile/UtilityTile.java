@@ -1,5 +1,6 @@
 package no.ntnu.tile;
 
+import no.ntnu.BoardGame;
 import no.ntnu.Player;
 
 /**
@@ -8,6 +9,7 @@ import no.ntnu.Player;
 public class UtilityTile extends Tile {
     private final String name;
     private final int price;
+    private final RentTable rentTable;
     private Player owner;
     private int lastRoll;
     private int ownedCount;
@@ -20,9 +22,22 @@ public class UtilityTile extends Tile {
      * @param price the purchase price
      */
     public UtilityTile(int id, String name, int price) {
+        this(id, name, price, RentTable.forUtility());
+    }
+
+    /**
+     * Creates a utility tile with a precomputed multiplier table.
+     * 
+     * @param id the tile ID
+     * @param name the utility name
+     * @param price the purchase price
+     * @param rentTable dice multipliers by number of utilities owned
+     */
+    public UtilityTile(int id, String name, int price, RentTable rentTable) {
         super(id);
         this.name = name;
         this.price = price;
+        this.rentTable = rentTable;
     }
 
     /**
@@ -46,45 +61,92 @@ public class UtilityTile extends Tile {
     }
 
     /**
-     * Should be called by action to set context for rent calculation.
+     * Gets the rent for the game's last roll.
+     * 
+     * @param game the game whose owner and roll count
+     * @return the rent, 0 if unowned
+     */
+    @Override
+    public int getRent(BoardGame game) {
+        Player owner = game.getOwner(this);
+        return owner != null ? calculateRent(game.getLastRoll(), owner.getOwnedUtilityCount()) : 0;
+    }
+
+    /**
+     * Stores a roll and owned count for a later call to {@link #getRent()}.
      * 
      * @param lastRoll the dice roll total
      * @param ownedCount number of utilities owned by the owner
+     * @deprecated use {@link #calculateRent(int, int)}, which does not modify
+     *     the tile, or {@link #getRent(BoardGame)}
      */
+    @Deprecated
     public void setRentContext(int lastRoll, int ownedCount) {
         this.lastRoll = lastRoll;
         this.ownedCount = ownedCount;
     }
 
+    /**
+     * Gets the rent for the roll stored with {@link #setRentContext}.
+     * 
+     * @return the rent
+     * @deprecated use {@link #getRent(BoardGame)}
+     */
+    @Deprecated
     @Override
     public int getRent() {
-        int multiplier = (ownedCount == 1 ? 4 : 10);
-        return lastRoll * multiplier;
+        return calculateRent(lastRoll, ownedCount);
+    }
+
+    /**
+     * Gets the rent for a dice roll when the owner has the given number of utilities.
+     * 
+     * @param diceRoll the dice roll total
+     * @param ownedCount number of utilities the owner has
+     * @return the rent
+     */
+    public int calculateRent(int diceRoll, int ownedCount) {
+        return diceRoll * rentTable.byOwnedCount(ownedCount);
+    }
+
+    /**
+     * Gets the precomputed dice multipliers for this utility.
+     * 
+     * @return the multiplier table
+     */
+    public RentTable getRentTable() {
+        return rentTable;
     }
 
     /**
-     * Gets the owner of this utility.
+     * Gets the owner stored in this utility.
      * 
      * @return the owner player, or null if unowned
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
      */
+    @Deprecated
     public Player getOwner() {
         return owner;
     }
 
     /**
-     * Checks if this utility is owned.
+     * Checks if an owner is stored in this utility.
      * 
      * @return true if owned
+     * @deprecated use {@link BoardGame#getOwner(Tile)}
      */
+    @Deprecated
     public boolean isOwned() {
         return owner != null;
     }
 
     /**
-     * Sets the owner of this utility.
+     * Stores an owner in this utility.
      * 
      * @param owner the new owner
+     * @deprecated use {@link BoardGame#setOwner(Tile, Player)}
      */
+    @Deprecated
     public void setOwner(Player owner) {
         this.owner = owner;
     }
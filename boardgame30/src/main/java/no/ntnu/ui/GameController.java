@@ -159,14 +159,8 @@ public class GameController implements GameObserver {
         int idx = game.getPlayers().indexOf(player);
         if (idx < 0) return;
 
-        boolean canBuy = false;
-        if (property instanceof PropertyTile pt && pt.getOwner() == null) {
-            canBuy = true;
-        } else if (property instanceof RailroadTile rt && rt.getOwner() == null) {
-            canBuy = true;
-        } else if (property instanceof UtilityTile ut && ut.getOwner() == null) {
-            canBuy = true;
-        }
+        boolean canBuy = (property instanceof PropertyTile || property instanceof RailroadTile
+            || property instanceof UtilityTile) && game.getOwner(property) == null;
         
         if (canBuy && player.getBalance() >= property.getPrice()) {
             view.getPlayerPane(idx).getBuyButton().setDisable(false);
@@ -2,7 +2,6 @@ package no.ntnu.ui;
 
 import javafx.application.Application;
 import javafx.scene.Scene;
-import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 import no.ntnu.BoardGame;
 import no.ntnu.Dice;
@@ -29,17 +28,7 @@ public class MainApp extends Application {
         
         Dice dice = new Dice(2);
         BoardGame gameModel = new BoardGame(dice);
-        try {
-            var board = MonopolyBoardFactory.createBoard(gameModel);
-            gameModel.setBoard(board);
-        } catch (InvalidDataException ex) {
-            Alert alert = new Alert(Alert.AlertType.ERROR);
-            alert.setTitle("Error");
-            alert.setHeaderText("Could not build the board");
-            alert.setContentText(ex.getMessage());
-            alert.showAndWait();
-            return;
-        }
+        gameModel.setBoard(MonopolyBoardFactory.sharedBoard());
         
         for (var name : names) {
             gameModel.addPlayer(new Player(name));
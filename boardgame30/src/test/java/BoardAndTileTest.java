@@ -3,6 +3,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import no.ntnu.tile.*;
 import no.ntnu.action.*;
 import no.ntnu.Board;
@@ -112,6 +114,79 @@ public class BoardAndTileTest {
         assertDoesNotThrow(() -> board.validate());
     }
     
+    @Test
+    void testBuildIndexOnCircularBoard() {
+        Tile first = new Tile(1);
+        board.setFirstTile(first);
+        Tile current = first;
+        for (int i = 2; i <= 40; i++) {
+            Tile tile = new Tile(i);
+            current.setNextTile(tile);
+            board.registerTile(tile);
+            current = tile;
+        }
+        current.setNextTile(first);
+        
+        assertFalse(board.isIndexed());
+        assertTrue(board.buildIndex());
+        assertTrue(board.isIndexed());
+        assertEquals(40, board.getLoopLength());
+        assertEquals(0, board.getPosition(first));
+        assertEquals(39, board.getPosition(board.getTileById(40)));
+        assertEquals(board.getTileById(11), board.getTileAt(10));
+        assertEquals(-1, board.getPosition(new Tile(5)));
+    }
+    
+    @Test
+    void testGroupInLoopOrder() {
+        Tile go = new Tile(1);
+        PropertyTile mediterranean = new PropertyTile(2, "Mediterranean", PropertyColor.BROWN, 60, 2, 50);
+        PropertyTile oriental = new PropertyTile(3, "Oriental", PropertyColor.LIGHT_BLUE, 100, 6, 50);
+        PropertyTile baltic = new PropertyTile(4, "Baltic", PropertyColor.BROWN, 60, 4, 50);
+        board.setFirstTile(go);
+        go.setNextTile(mediterranean);
+        mediterranean.setNextTile(oriental);
+        oriental.setNextTile(baltic);
+        baltic.setNextTile(go);
+        board.registerTile(mediterranean);
+        board.registerTile(oriental);
+        board.registerTile(baltic);
+        assertTrue(board.getGroup(PropertyColor.BROWN).isEmpty(), "Not indexed yet");
+        
+        assertTrue(board.buildIndex());
+        
+        assertEquals(List.of(mediterranean, baltic), board.getGroup(PropertyColor.BROWN));
+        assertEquals(List.of(oriental), board.getGroup(PropertyColor.LIGHT_BLUE));
+        assertTrue(board.getGroup(PropertyColor.DARK_BLUE).isEmpty());
+    }
+    
+    @Test
+    void testBuildIndexOnOpenBoard() {
+        Tile first = new Tile(1);
+        Tile second = new Tile(2);
+        first.setNextTile(second);
+        board.setFirstTile(first);
+        board.registerTile(second);
+        
+        assertFalse(board.buildIndex());
+        assertEquals(-1, board.getPosition(first));
+        assertThrows(IllegalStateException.class, () -> board.getTileAt(0));
+    }
+    
+    @Test
+    void testRegisteringTileDropsIndex() {
+        Tile first = new Tile(1);
+        first.setNextTile(first);
+        board.setFirstTile(first);
+        assertTrue(board.buildIndex());
+        
+        board.registerTile(new Tile(100));
+        assertFalse(board.isIndexed());
+        assertEquals(100, board.getTileById(100).getId());
+        assertNull(board.getTileById(-3));
+        assertThrows(IllegalArgumentException.class, () -> board.registerTile(new Tile(-1)));
+    }
+    
     @Test
     void testTileBasics() {
         Tile tile = new Tile(5);
@@ -252,4 +327,41 @@ public class BoardAndTileTest {
         assertEquals(0, prop.getHouseCount());
         assertEquals(200, prop.getRent());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testRentTables() {
+        RentTable property = RentTable.forProperty(4);
+        assertEquals(4, property.get(RentTable.propertyLevel(false, 3, false)));
+        assertEquals(8, property.get(RentTable.propertyLevel(true, 0, false)));
+        assertEquals(24, property.get(RentTable.propertyLevel(true, 1, false)));
+        assertEquals(84, property.get(RentTable.propertyLevel(true, 4, false)));
+        assertEquals(200, property.get(RentTable.propertyLevel(true, 0, true)));
+        
+        RentTable railroad = RentTable.forRailroad(25);
+        assertEquals(0, railroad.byOwnedCount(0));
+        assertEquals(25, railroad.byOwnedCount(1));
+        assertEquals(200, railroad.byOwnedCount(4));
+        
+        UtilityTile util = new UtilityTile(13, "Electric Company", 150);
+        assertEquals(28, util.calculateRent(7, 1));
+        assertEquals(100, util.calculateRent(10, 2));
+        assertEquals(0, util.getRent());
+    }
+    
+    @Test
+    void testRailroadRentFollowsOwnerCount() {
+        RailroadTile rail1 = new RailroadTile(6, "Reading Railroad", 200);
+        RailroadTile rail2 = new RailroadTile(16, "Pennsylvania Railroad", 200);
+        Player owner = new Player("Owner");
+        assertEquals(0, rail1.getRent());
+        
+        rail1.setOwner(owner);
+        owner.addOwned(rail1);
+        assertEquals(25, rail1.getRent());
+        
+        rail2.setOwner(owner);
+        owner.addOwned(rail2);
+        assertEquals(50, rail1.getRent());
+        assertEquals(50, rail2.calculateRent(2));
+    }
+}
@@ -0,0 +1,185 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Dice;
+import no.ntnu.Player;
+import no.ntnu.action.*;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.*;
+
+/**
+ * Tests for the shared board definition and the per-game board state.
+ */
+public class BoardDefinitionTest {
+
+    @Test
+    void testStandardDefinitionIsShared() throws InvalidDataException {
+        Board shared = MonopolyBoardFactory.sharedBoard();
+        Board own = MonopolyBoardFactory.createBoard(MonopolyBoardFactory.standardDefinition());
+
+        BoardDefinition definition = MonopolyBoardFactory.standardDefinition();
+        assertSame(definition, shared.getDefinition());
+        assertSame(definition, own.getDefinition());
+        assertSame(definition, BoardDefinition.of(shared));
+        assertSame(shared, MonopolyBoardFactory.sharedBoard(definition));
+        assertNotSame(shared.getTileById(2), own.getTileById(2));
+    }
+
+    @Test
+    void testStandardDefinitionMatchesTiles() throws InvalidDataException {
+        Board board = MonopolyBoardFactory.sharedBoard();
+        BoardDefinition definition = board.getDefinition();
+
+        assertEquals(40, definition.getSize());
+        for (int position = 0; position < definition.getSize(); position++) {
+            Tile tile = board.getTileAt(position);
+            assertEquals(tile.getId(), definition.getTileId(position));
+            assertEquals(tile.getName(), definition.getName(position));
+            assertEquals(tile.getPrice(), definition.getPrice(position));
+            assertEquals(position, definition.getPosition(tile.getId()));
+        }
+
+        int boardwalk = definition.getPosition(40);
+        assertEquals(TileKind.PROPERTY, definition.getKind(boardwalk));
+        assertEquals(PropertyColor.DARK_BLUE, definition.getColor(boardwalk));
+        assertEquals(200, definition.getHousePrice(boardwalk));
+        assertSame(((PropertyTile) board.getTileById(40)).getRentTable(), definition.getRentTable(boardwalk));
+
+        int goToJail = definition.getPosition(31);
+        assertEquals(TileKind.GO_TO_JAIL, definition.getKind(goToJail));
+        assertEquals(definition.getPosition(11), definition.getJailPosition(goToJail));
+        assertEquals(200, definition.getAmount(definition.getPosition(5)));
+        assertEquals(TileKind.PLAIN, definition.getKind(definition.getPosition(21)));
+    }
+
+    @Test
+    void testBoardBuiltFromCustomDefinition() throws InvalidDataException {
+        BoardDefinition definition = BoardDefinition.builder()
+            .addGo(1, "Start", 100)
+            .addProperty(2, "Lane", PropertyColor.BROWN, 80, 50, RentTable.forProperty(5))
+            .addTax(3, "Toll", 30)
+            .addSpace(4, "Cell", TileKind.PLAIN)
+            .addGoToJail(5, "Arrest", 4)
+            .build();
+
+        Board board = MonopolyBoardFactory.sharedBoard(definition);
+
+        assertSame(definition, board.getDefinition());
+        assertEquals(5, board.getLoopLength());
+        assertEquals(100, ((GoAction) board.getTileById(1).getAction()).getAmount());
+        assertEquals(30, ((TaxAction) board.getTileById(3).getAction()).getAmount());
+        assertSame(board.getTileById(4), ((GoToJailAction) board.getTileById(5).getAction()).getJailTile());
+        assertEquals(5, ((PropertyTile) board.getTileById(2)).getRentTable().get(RentTable.BASE));
+        assertNull(board.getTileById(4).getAction());
+        assertSame(board, MonopolyBoardFactory.sharedBoard(definition));
+    }
+
+    @Test
+    void testDefinitionDroppedWhenBoardChanges() throws InvalidDataException {
+        Board board = MonopolyBoardFactory.createBoard(MonopolyBoardFactory.standardDefinition());
+        board.registerTile(new Tile(99));
+        assertNull(board.getDefinition());
+    }
+
+    @Test
+    void testGamesOnSharedBoardKeepTheirOwnState() {
+        Board board = MonopolyBoardFactory.sharedBoard();
+        BoardGame first = new BoardGame(new Dice(2));
+        BoardGame second = new BoardGame(new Dice(2));
+        first.setBoard(board);
+        second.setBoard(board);
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        first.addPlayer(alice);
+        second.addPlayer(bob);
+        alice.adjustBalance(1000);
+
+        PropertyTile mediterranean = (PropertyTile) board.getTileById(2);
+        PropertyTile baltic = (PropertyTile) board.getTileById(4);
+        first.buyProperty(alice, mediterranean);
+        first.setOwner(baltic, alice);
+        first.setBuildings(baltic, 2);
+
+        assertSame(alice, first.getOwner(mediterranean));
+        assertNull(second.getOwner(mediterranean));
+        assertEquals(2, first.getBuildings(baltic));
+        assertEquals(0, second.getBuildings(baltic));
+        assertEquals(baltic.getRentTable().get(RentTable.propertyLevel(true, 2, false)), baltic.getRent(first));
+        assertEquals(0, baltic.getRent(second));
+
+        first.setOwner(baltic, null);
+        assertEquals(0, first.getBuildings(baltic));
+        assertFalse(alice.getOwnedProperties().contains(baltic));
+        assertThrows(IllegalArgumentException.class, () -> first.setOwner(board.getTileById(1), alice));
+        assertThrows(IllegalArgumentException.class, () -> first.setOwner(baltic, bob));
+    }
+
+    @Test
+    void testHandBuiltBoardKeepsStateInTiles() {
+        Board board = new Board();
+        Tile start = new Tile(1);
+        PropertyTile lane = new PropertyTile(2, "Lane", PropertyColor.BROWN, 60, 4, 50);
+        board.setFirstTile(start);
+        start.setNextTile(lane);
+        board.registerTile(lane);
+        BoardGame game = new BoardGame(new Dice(2));
+        game.setBoard(board);
+        Player alice = new Player("Alice");
+        game.addPlayer(alice);
+
+        game.buyProperty(alice, lane);
+        game.setBuildings(lane, BoardState.HOTEL);
+
+        assertSame(alice, game.getOwner(lane));
+        assertEquals(BoardState.HOTEL, game.getBuildings(lane));
+        assertEquals(lane.getRentTable().get(RentTable.propertyLevel(false, 0, true)), lane.getRent(game));
+    }
+
+    @Test
+    void testBuilderRejectsInvalidBoards() {
+        assertThrows(IllegalArgumentException.class, () -> BoardDefinition.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> BoardDefinition.builder()
+            .addGo(1, "Start", 200).addSpace(1, "Again", TileKind.CHANCE).build());
+        assertThrows(IllegalArgumentException.class, () -> BoardDefinition.builder()
+            .addGo(1, "Start", 200).addGoToJail(2, "Arrest", 7).build());
+        assertThrows(IllegalArgumentException.class, () -> BoardDefinition.builder()
+            .addSpace(1, "Lane", TileKind.PROPERTY));
+    }
+
+    @Test
+    void testBoardState() {
+        BoardState state = new BoardState(MonopolyBoardFactory.standardDefinition());
+        assertEquals(-1, state.getOwner(3));
+
+        state.setOwner(3, 2);
+        state.setOwner(5, 2);
+        state.setBuildings(3, BoardState.HOTEL);
+        state.setBuildings(5, 3);
+        assertTrue(state.hasHotel(3));
+        assertEquals(0, state.getHouses(3));
+        assertEquals(3, state.getHouses(5));
+
+        BoardState copy = state.copy();
+        state.releaseAll(2);
+        assertEquals(-1, state.getOwner(3));
+        assertEquals(2, copy.getOwner(3));
+        assertEquals(0, state.getBuildings(3));
+        assertEquals(BoardState.HOTEL, copy.getBuildings(3));
+
+        copy.setOwner(7, 1);
+        copy.setOwner(9, 4);
+        copy.removeSeat(2);
+        assertEquals(-1, copy.getOwner(3));
+        assertEquals(0, copy.getBuildings(5));
+        assertEquals(1, copy.getOwner(7), "Earlier seats keep their number");
+        assertEquals(3, copy.getOwner(9), "Later seats move down");
+
+        assertThrows(IllegalArgumentException.class, () -> state.setBuildings(3, 6));
+        assertThrows(IllegalArgumentException.class, () -> state.setOwner(3, -2));
+    }
+}
@@ -3,7 +3,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
 import no.ntnu.tile.*;
 import no.ntnu.action.*;
@@ -12,6 +15,12 @@ import no.ntnu.BoardGame;
 import no.ntnu.Board;
 import no.ntnu.Dice;
 import no.ntnu.tile.PropertyTile;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.ConsoleGameLogger;
+import no.ntnu.simulation.GameOutcome;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.PurchasePolicy;
 
 
 /**
@@ -200,6 +209,8 @@ public class BoardGameTest {
         
         assertNull(prop.getOwner());
         assertNull(rail.getOwner());
+        assertTrue(player1.getOwnedProperties().isEmpty());
+        assertEquals(0, player1.getOwnedRailroadCount());
     }
     
     @Test
@@ -234,4 +245,100 @@ public class BoardGameTest {
     }
     
     
+    @Test
+    void testMovementOnIndexedBoardPassesGo() throws InvalidDataException {
+        BoardGame standardGame = new BoardGame(new Dice(2));
+        Board standardBoard = MonopolyBoardFactory.createBoard(standardGame);
+        standardGame.setBoard(standardBoard);
+        assertTrue(standardBoard.isIndexed());
+        
+        standardGame.addPlayer(player1);
+        standardGame.addPlayer(player2);
+        List<String> goActions = new ArrayList<>();
+        standardGame.addObserver(new ConsoleGameLogger() {
+            @Override
+            public void onTileAction(Player player, String actionName, Tile tile) {
+                if (actionName.equals("GoAction")) {
+                    goActions.add(player.getName());
+                }
+            }
+        });
+        player1.setCurrentTile(standardBoard.getTileById(40));
+        
+        standardGame.playTurn();
+        
+        int expectedId = (39 + standardGame.getLastRoll()) % 40 + 1;
+        assertEquals(expectedId, player1.getCurrentTileId());
+        assertEquals(List.of("Alice"), goActions);
+    }
+    
+    @Test
+    void testForkCopiesStateIndependently() throws InvalidDataException {
+        BoardGame original = new BoardGame(new SplittableRandom(3));
+        Board standardBoard = MonopolyBoardFactory.sharedBoard();
+        original.setBoard(standardBoard);
+        original.addPlayer(player1);
+        original.addPlayer(player2);
+        PropertyTile brown = (PropertyTile) standardBoard.getTileById(2);
+        original.buyProperty(player1, brown);
+        original.buyProperty(player1, standardBoard.getTileById(4));
+        original.setBuildings(brown, 1);
+        player2.setCurrentTile(standardBoard.getTileById(11));
+        player2.goToJail();
+        original.nextTurn();
+
+        BoardGame fork = original.fork(new SplittableRandom(5));
+        Player alice = fork.getPlayers().get(0);
+        Player bob = fork.getPlayers().get(1);
+
+        assertNotSame(player1, alice);
+        assertSame(standardBoard, fork.getBoard(), "Tiles and actions are shared");
+        assertEquals(player1.getBalance(), alice.getBalance());
+        assertEquals(11, bob.getCurrentTileId());
+        assertTrue(bob.isInJail());
+        assertEquals(1, fork.getCurrentPlayerIndex());
+        assertSame(alice, fork.getOwner(brown));
+        assertEquals(1, fork.getBuildings(brown));
+        assertTrue(alice.hasMonopoly(PropertyColor.BROWN));
+
+        fork.nextTurn();
+        fork.buyProperty(alice, fork.getBoard().getTileById(7));
+        assertNull(original.getOwner(standardBoard.getTileById(7)));
+        fork.setBuildings(brown, 2);
+        assertEquals(1, original.getBuildings(brown));
+        assertEquals(2, player1.getOwnedProperties().size());
+        assertEquals(1, original.getCurrentPlayerIndex());
+
+        BoardGame second = original.fork(new SplittableRandom(6));
+        original.setBuildings((PropertyTile) standardBoard.getTileById(4), 1);
+        assertEquals(0, second.getBuildings((PropertyTile) standardBoard.getTileById(4)),
+            "Writing after a fork copies the shared state");
+        assertEquals(2, second.getPlayers().get(0).getOwnedProperties().size());
+    }
+
+    @Test
+    void testForksWithSameSeedPlayAlikeOnAnyThread() throws Exception {
+        GameSimulator simulator = new GameSimulator(3, PurchasePolicy.always(), 500);
+        BoardGame original = simulator.newGame(new SplittableRandom(8));
+        for (int i = 0; i < 30; i++) {
+            original.playTurn();
+            original.nextTurn();
+        }
+
+        BoardGame first = original.fork(new SplittableRandom(21));
+        BoardGame second = original.fork(new SplittableRandom(21));
+        int turnsBefore = original.getTurnCount();
+
+        GameOutcome here = simulator.play(first);
+        GameOutcome elsewhere = CompletableFuture.supplyAsync(() -> simulator.play(second)).get();
+
+        assertEquals(here, elsewhere);
+        assertEquals(turnsBefore, original.getTurnCount());
+    }
+
+    @Test
+    void testForkRequiresIndexedBoard() {
+        game.addPlayer(player1);
+        assertThrows(IllegalStateException.class, () -> game.fork(new SplittableRandom(1)));
+    }
 }
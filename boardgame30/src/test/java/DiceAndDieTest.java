@@ -1,6 +1,8 @@
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+
 import no.ntnu.Dice;
 import no.ntnu.Die;
 
@@ -126,4 +128,14 @@ public class DiceAndDieTest {
         
         assertTrue(foundDoubles, "Should have found at least one double in 100 attempts");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSeededDiceAreReproducible() {
+        Dice first = new Dice(2, new SplittableRandom(11));
+        Dice second = new Dice(2, new SplittableRandom(11));
+        
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.rollAll(), second.rollAll());
+        }
+    }
+}
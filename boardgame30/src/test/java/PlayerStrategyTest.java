@@ -0,0 +1,224 @@
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.give;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.Board;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests for strategies deciding purchases, jail fines and building inside playTurn.
+ */
+public class PlayerStrategyTest {
+
+    private BoardGame game;
+    private Board board;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    void setUp() throws InvalidDataException {
+        game = new BoardGame(new SplittableRandom(3));
+        board = MonopolyBoardFactory.sharedBoard();
+        game.setBoard(board);
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        game.addPlayer(alice);
+        game.addPlayer(bob);
+    }
+
+    @Test
+    void testStrategyBuysOfferedTiles() {
+        List<Tile> offered = new ArrayList<>();
+        alice.setStrategy((g, player, tile) -> {
+            offered.add(tile);
+            return true;
+        });
+
+        for (int i = 0; i < 40; i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+
+        assertFalse(offered.isEmpty());
+        for (Tile tile : offered) {
+            assertNotNull(game.getOwner(tile), tile.getName() + " was not bought");
+        }
+        assertEquals(offered.size(), alice.getOwnedProperties().size()
+            + alice.getOwnedRailroadCount() + alice.getOwnedUtilityCount());
+        assertTrue(bob.getOwnedProperties().isEmpty(), "Players without a strategy decide outside the game");
+    }
+
+    @Test
+    void testStrategyDecliningLeavesTileUnowned() {
+        alice.setStrategy((g, player, tile) -> false);
+        for (int i = 0; i < 40; i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+        assertTrue(alice.getOwnedProperties().isEmpty());
+        assertEquals(0, alice.getOwnedRailroadCount() + alice.getOwnedUtilityCount());
+    }
+
+    @Test
+    void testStrategyPaysJailFine() {
+        int[] asked = new int[1];
+        alice.setStrategy(new PlayerStrategy() {
+            @Override
+            public boolean shouldBuy(BoardGame g, Player player, Tile tile) {
+                return false;
+            }
+
+            @Override
+            public boolean shouldPayJailFine(BoardGame g, Player player) {
+                asked[0]++;
+                return true;
+            }
+        });
+        Tile jail = alice.getCurrentTile();
+        alice.goToJail();
+
+        game.playTurn();
+
+        assertEquals(1, asked[0]);
+        assertFalse(alice.isInJail());
+        assertNotSame(jail, alice.getCurrentTile(), "A player who paid moves like any other");
+    }
+
+    @Test
+    void testBuildHouseChargesHousePrice() {
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        PropertyTile first = brown.get(0);
+        assertFalse(game.buildHouse(alice, first), "No building without the whole group");
+
+        give(game, alice, brown);
+        int balance = alice.getBalance();
+        assertTrue(game.buildHouse(alice, first));
+
+        assertEquals(1, game.getBuildings(first));
+        assertEquals(balance - first.getHousePrice(), alice.getBalance());
+        assertFalse(game.buildHouse(bob, first), "Only the owner can build");
+    }
+
+    @Test
+    void testBuildPutsUpHotelAfterFourHouses() {
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        give(game, alice, brown);
+        PropertyTile first = brown.get(0);
+        int position = board.getPosition(first);
+        int balance = alice.getBalance();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(game.build(alice, position));
+        }
+
+        assertEquals(BoardState.HOTEL, game.getBuildings(first));
+        assertEquals(balance - 5 * first.getHousePrice(), alice.getBalance());
+        assertFalse(game.build(alice, position));
+        assertFalse(game.build(alice, 0), "GO cannot be built on");
+        assertFalse(game.build(alice, -1));
+    }
+
+    @Test
+    void testBuildRefusedWhenUnaffordable() {
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        give(game, alice, brown);
+        alice.adjustBalance(-alice.getBalance() + brown.get(0).getHousePrice() - 1);
+
+        assertFalse(game.buildHouse(alice, brown.get(0)));
+        assertEquals(0, game.getBuildings(brown.get(0)));
+    }
+
+    @Test
+    void testStrategyBuildsEvenlyAtEndOfTurn() {
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        give(game, alice, brown);
+        alice.setStrategy(PlayerStrategy.withReserve(1000));
+
+        game.playTurn();
+
+        int[] buildings = new int[brown.size()];
+        for (int i = 0; i < brown.size(); i++) {
+            buildings[i] = game.getBuildings(brown.get(i));
+        }
+        assertTrue(buildings[0] > 0);
+        assertTrue(Math.abs(buildings[0] - buildings[1]) <= 1, "Builds evenly across the group");
+        assertTrue(alice.getBalance() >= 1000 - 200, "The reserve is only broken by rent and taxes");
+    }
+
+    @Test
+    void testBuyingOwnedTileIsIgnored() {
+        PropertyTile tile = board.getGroup(PropertyColor.BROWN).get(0);
+        give(game, bob, List.of(tile));
+        int balance = alice.getBalance();
+
+        game.buyProperty(alice, tile);
+
+        assertSame(bob, game.getOwner(tile));
+        assertEquals(balance, alice.getBalance());
+    }
+
+    @Test
+    void testBankruptPlayersBuildingsReturnToBank() {
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        give(game, alice, brown);
+        game.buildHouse(alice, brown.get(0));
+        alice.adjustBalance(-alice.getBalance() - 1);
+
+        assertTrue(game.checkBankruptcy(alice));
+
+        assertNull(game.getOwner(brown.get(0)));
+        assertEquals(0, game.getBuildings(brown.get(0)));
+    }
+
+    @Test
+    void testAutomatedGamesPlayToTheEnd() throws InvalidDataException {
+        int finished = 0;
+        int built = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            BoardGame automated = new BoardGame(new SplittableRandom(seed));
+            Board automatedBoard = MonopolyBoardFactory.sharedBoard();
+            automated.setBoard(automatedBoard);
+            for (int i = 0; i < 3; i++) {
+                Player player = new Player("Bot " + i);
+                player.setStrategy(PlayerStrategy.withReserve(150));
+                automated.addPlayer(player);
+            }
+
+            while (!automated.isFinished() && automated.getTurnCount() < 5000) {
+                Player player = automated.getCurrentPlayer();
+                automated.playTurn();
+                if (automated.getCurrentPlayer() == player && !automated.checkBankruptcy(player)) {
+                    automated.nextTurn();
+                }
+                for (Player p : automated.getPlayers()) {
+                    assertTrue(p.getBalance() >= 0 || p == player, "Only the current player can fall below zero");
+                }
+            }
+
+            if (automated.isFinished()) {
+                finished++;
+            }
+            for (int position = 0; position < automatedBoard.getLoopLength(); position++) {
+                if (automatedBoard.getTileAt(position) instanceof PropertyTile pt
+                    && automated.getBuildings(pt) > 0) {
+                    built++;
+                }
+            }
+        }
+        assertTrue(finished > 0, "Some games should end with a winner");
+        assertTrue(built > 0, "Strategies should build on their monopolies");
+    }
+}
@@ -150,6 +150,46 @@ public class PlayerTest {
         assertFalse(player.hasMonopoly(PropertyColor.DARK_BLUE));
     }
     
+    @Test
+    void testOwnershipCounts() {
+        PropertyTile brown1 = new PropertyTile(2, "Baltic", PropertyColor.BROWN, 60, 4, 50);
+        PropertyTile blue1 = new PropertyTile(38, "Park Place", PropertyColor.DARK_BLUE, 350, 35, 175);
+        RailroadTile rail1 = new RailroadTile(6, "Reading Railroad", 200);
+        RailroadTile rail2 = new RailroadTile(16, "Pennsylvania Railroad", 200);
+        UtilityTile util = new UtilityTile(13, "Electric Company", 150);
+        
+        player.addOwned(brown1);
+        player.addOwned(blue1);
+        player.addOwned(rail1);
+        player.addOwned(rail2);
+        player.addOwned(util);
+        player.addOwned(new Tile(1));
+        
+        assertEquals(1, player.getOwnedCount(PropertyColor.BROWN));
+        assertEquals(1, player.getOwnedCount(PropertyColor.DARK_BLUE));
+        assertEquals(0, player.getOwnedCount(PropertyColor.RED));
+        assertEquals(0, player.getOwnedCount(null));
+        assertEquals(2, player.getOwnedRailroadCount());
+        assertEquals(1, player.getOwnedUtilityCount());
+        
+        player.clearOwnedProperties();
+        
+        assertEquals(0, player.getOwnedCount(PropertyColor.BROWN));
+        assertEquals(0, player.getOwnedRailroadCount());
+        assertEquals(0, player.getOwnedUtilityCount());
+        assertFalse(player.hasMonopoly(PropertyColor.BROWN));
+    }
+    
+    @Test
+    void testOwnedViewsFollowChanges() {
+        PropertyTile prop = new PropertyTile(2, "Baltic", PropertyColor.BROWN, 60, 4, 50);
+        
+        assertSame(player.getOwnedProperties(), player.getOwnedProperties());
+        var view = player.getOwnedProperties();
+        player.addOwned(prop);
+        assertEquals(1, view.size());
+    }
+    
     @Test
     void testOwnedListsAreImmutable() {
         PropertyTile prop = new PropertyTile(2, "Baltic", PropertyColor.BROWN, 60, 4, 50);
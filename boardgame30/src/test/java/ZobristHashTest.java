@@ -0,0 +1,143 @@
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.Board;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+
+/**
+ * Tests that the incrementally updated position hash matches a full rehash and identifies positions.
+ */
+public class ZobristHashTest {
+
+    private BoardGame game;
+    private Board board;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    void setUp() throws InvalidDataException {
+        game = newGame(11, "Alice", "Bob");
+        board = game.getBoard();
+        alice = game.getPlayers().get(0);
+        bob = game.getPlayers().get(1);
+    }
+
+    private static void assertUpToDate(BoardGame game) {
+        long incremental = game.getZobristHash();
+        game.rehash();
+        assertEquals(game.getZobristHash(), incremental, "Hash after turn " + game.getTurnCount());
+    }
+
+    @Test
+    void testIncrementalHashMatchesRehashThroughWholeGames() throws InvalidDataException {
+        for (long seed = 1; seed <= 20; seed++) {
+            BoardGame game = new BoardGame(new SplittableRandom(seed));
+            game.setBoard(MonopolyBoardFactory.sharedBoard());
+            for (int i = 1; i <= 4; i++) {
+                Player player = new Player("Player " + i);
+                player.setStrategy(PlayerStrategy.withReserve(i * 40));
+                game.addPlayer(player);
+            }
+            assertUpToDate(game);
+
+            while (!game.isFinished() && game.getTurnCount() < 400) {
+                Player current = game.getCurrentPlayer();
+                game.playTurn();
+                if (game.getCurrentPlayer() == current && !game.checkBankruptcy(current)) {
+                    game.nextTurn();
+                }
+                assertUpToDate(game);
+            }
+        }
+    }
+
+    @Test
+    void testForkKeepsHash() {
+        game.buyProperty(alice, board.getTileAt(1));
+        BoardGame copy = game.fork();
+
+        assertEquals(game.getZobristHash(), copy.getZobristHash());
+        assertEquals(game.getPositionHash(1), copy.getPositionHash(1));
+    }
+
+    @Test
+    void testSamePositionReachedInAnyOrderHashesTheSame() throws InvalidDataException {
+        BoardGame other = newGame(12, "Alice", "Bob");
+        List<PropertyTile> brown = board.getGroup(PropertyColor.BROWN);
+        List<PropertyTile> otherBrown = new ArrayList<>();
+        for (PropertyTile tile : brown) {
+            otherBrown.add((PropertyTile) other.getBoard().getTileAt(board.getPosition(tile)));
+        }
+        Player otherAlice = other.getPlayers().get(0);
+
+        game.buyProperty(alice, brown.get(0));
+        game.buyProperty(alice, brown.get(1));
+        game.buildHouse(alice, brown.get(1));
+        game.buildHouse(alice, brown.get(0));
+        other.buyProperty(otherAlice, otherBrown.get(1));
+        other.buyProperty(otherAlice, otherBrown.get(0));
+        other.buildHouse(otherAlice, otherBrown.get(0));
+        other.buildHouse(otherAlice, otherBrown.get(1));
+
+        assertEquals(game.getZobristHash(), other.getZobristHash());
+        assertEquals(game.getPositionHash(10), other.getPositionHash(10));
+    }
+
+    @Test
+    void testHashTellsPositionsApart() {
+        long start = game.getZobristHash();
+        game.buyProperty(alice, board.getTileAt(1));
+        long aliceOwns = game.getZobristHash();
+
+        assertNotEquals(start, aliceOwns);
+        game.rehash();
+        assertEquals(aliceOwns, game.getZobristHash());
+
+        BoardGame swapped = game.fork();
+        PropertyTile tile = (PropertyTile) swapped.getBoard().getTileAt(1);
+        swapped.setOwner(tile, swapped.getPlayers().get(1));
+        assertTrue(swapped.getPlayers().get(0).getOwnedProperties().isEmpty());
+        assertNotEquals(aliceOwns, swapped.getZobristHash(), "Owner seat is part of the hash");
+    }
+
+    @Test
+    void testPositionHashBucketsBalancesAndTracksTurnState() {
+        long hash = game.getPositionHash(100);
+
+        long exact = game.getPositionHash(1);
+        alice.adjustBalance(10);
+        assertEquals(hash, game.getPositionHash(100), "1500 and 1510 share a bucket of 100");
+        assertNotEquals(exact, game.getPositionHash(1));
+        alice.adjustBalance(-10);
+
+        alice.goToJail();
+        assertNotEquals(hash, game.getPositionHash(100));
+        alice.releaseFromJail();
+        assertEquals(hash, game.getPositionHash(100));
+
+        bob.setSkipNextTurn(true);
+        assertNotEquals(hash, game.getPositionHash(100));
+        bob.setSkipNextTurn(false);
+
+        game.nextTurn();
+        assertNotEquals(hash, game.getPositionHash(100), "Whose turn it is is part of the hash");
+    }
+
+    @Test
+    void testRejectsNonPositiveBucket() {
+        assertThrows(IllegalArgumentException.class, () -> game.getPositionHash(0));
+        assertThrows(IllegalArgumentException.class, () -> game.getPositionHash(-5));
+    }
+}
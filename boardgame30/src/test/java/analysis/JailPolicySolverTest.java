@@ -0,0 +1,190 @@
+package analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.analysis.JailPolicy;
+import no.ntnu.analysis.JailPolicySolver;
+import no.ntnu.analysis.RentSummary;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.TileKind;
+
+/**
+ * Tests for the jail policy solver and the rent summaries it is keyed by.
+ */
+public class JailPolicySolverTest {
+    private static final BoardDefinition STANDARD = MonopolyBoardFactory.standardDefinition();
+    private static final int JAIL = STANDARD.getPosition(11);
+
+    /**
+     * Gives every ownable tile to a seat, with the given buildings on each property.
+     */
+    private static BoardState ownedBy(int seat, int buildings) {
+        BoardState state = new BoardState(STANDARD);
+        for (int position = 0; position < STANDARD.getSize(); position++) {
+            if (STANDARD.getKind(position).isOwnable()) {
+                state.setOwner(position, seat);
+                if (STANDARD.getKind(position) == TileKind.PROPERTY) {
+                    state.setBuildings(position, buildings);
+                }
+            }
+        }
+        return state;
+    }
+
+    @Test
+    void testPaysEarlyOnEmptyBoard() {
+        JailPolicy policy = JailPolicySolver.solve(STANDARD, RentSummary.of(STANDARD, new BoardState(STANDARD), 0),
+            JailPolicySolver.DEFAULT_DISCOUNT);
+
+        assertTrue(policy.shouldPay(JAIL, 0));
+        assertTrue(policy.shouldPay(JAIL, 1));
+        assertFalse(policy.shouldPay(JAIL, 2), "Rolling on the last turn never costs more than paying");
+        assertTrue(policy.getPayAdvantage(JAIL, 0) > policy.getPayAdvantage(JAIL, 1));
+        assertEquals(policy.shouldPay(JAIL, 2), policy.shouldPay(JAIL, 5));
+        assertTrue(policy.getIterations() > 0);
+    }
+
+    @Test
+    void testStaysWhenOpponentsHaveBuilt() {
+        RentSummary built = RentSummary.of(STANDARD, ownedBy(1, 3), 0);
+        JailPolicy policy = JailPolicySolver.solve(STANDARD, built, JailPolicySolver.DEFAULT_DISCOUNT);
+
+        for (int served = 0; served < 3; served++) {
+            assertFalse(policy.shouldPay(JAIL, served), "Turn " + served);
+        }
+        JailPolicy hotels = JailPolicySolver.solve(STANDARD, RentSummary.of(STANDARD, ownedBy(1, BoardState.HOTEL), 0),
+            JailPolicySolver.DEFAULT_DISCOUNT);
+        assertTrue(hotels.getPayAdvantage(JAIL, 0) < policy.getPayAdvantage(JAIL, 0));
+    }
+
+    @Test
+    void testOwnTilesOweNothing() {
+        RentSummary own = RentSummary.of(STANDARD, ownedBy(0, 3), 0);
+
+        assertTrue(own.isEmpty());
+        assertEquals(own, RentSummary.of(STANDARD, new BoardState(STANDARD), 0));
+    }
+
+    @Test
+    void testSummaryLevels() {
+        BoardState state = new BoardState(STANDARD);
+        int boardwalk = STANDARD.getPosition(40);
+        int parkPlace = STANDARD.getPosition(38);
+        int reading = STANDARD.getPosition(6);
+        int electric = STANDARD.getPosition(13);
+        state.setOwner(boardwalk, 1);
+        state.setOwner(reading, 1);
+        state.setOwner(electric, 2);
+
+        RentSummary summary = RentSummary.of(STANDARD, state, 0);
+        assertEquals(1, summary.getLevel(boardwalk), "Base rent");
+        assertEquals(0, summary.getLevel(parkPlace));
+        assertEquals(2, summary.getLevel(reading), "One railroad owned");
+        assertEquals(STANDARD.getRentTable(boardwalk).get(0), summary.getRent(STANDARD, boardwalk, 7));
+        assertEquals(7 * 4, summary.getRent(STANDARD, electric, 7), "Utility rent is a multiple of the roll");
+
+        state.setOwner(parkPlace, 1);
+        state.setBuildings(boardwalk, BoardState.HOTEL);
+        summary = RentSummary.of(STANDARD, state, 0);
+        assertEquals(7, summary.getLevel(boardwalk), "Hotel");
+        assertEquals(2, summary.getLevel(parkPlace), "Monopoly without buildings");
+        assertEquals(0, RentSummary.of(STANDARD, state, 1).getLevel(boardwalk));
+    }
+
+    @Test
+    void testGameAndCompactStateSummarizeAlike() throws InvalidDataException {
+        BoardGame game = newGame(5, "Alice", "Bob");
+        Board board = game.getBoard();
+        Player alice = game.getPlayers().get(0);
+        Player bob = game.getPlayers().get(1);
+        BoardState state = new BoardState(STANDARD);
+        game.nextTurn();
+        for (int position = 0; position < board.getLoopLength(); position++) {
+            if (board.getTileAt(position) instanceof PropertyTile pt && pt.getColor() == PropertyColor.ORANGE) {
+                game.buyProperty(bob, pt);
+                state.setOwner(position, 1);
+            } else if (board.getTileAt(position) instanceof RailroadTile rt && position < 20) {
+                game.buyProperty(bob, rt);
+                state.setOwner(position, 1);
+            }
+        }
+        for (int position = 0; position < board.getLoopLength(); position++) {
+            if (board.getTileAt(position) instanceof PropertyTile pt && pt.getColor() == PropertyColor.ORANGE) {
+                game.buildHouse(bob, pt);
+                state.setBuildings(position, 1);
+            }
+        }
+
+        assertEquals(RentSummary.of(STANDARD, state, 0), RentSummary.of(game, alice));
+        assertTrue(RentSummary.of(game, bob).isEmpty());
+    }
+
+    @Test
+    void testPoliciesAreCachedPerSummary() throws InvalidDataException {
+        BoardGame game = newGame(5, "Alice", "Bob");
+        Player alice = game.getPlayers().get(0);
+        RentSummary empty = RentSummary.of(STANDARD, new BoardState(STANDARD), 0);
+
+        JailPolicy policy = JailPolicySolver.forGame(game, alice);
+        assertSame(policy, JailPolicySolver.forSummary(STANDARD, empty));
+        assertSame(policy, JailPolicySolver.forGame(newGame(5, "Alice", "Bob"), alice));
+        assertNotSame(policy, JailPolicySolver.forSummary(STANDARD, RentSummary.of(STANDARD, ownedBy(1, 0), 0)));
+        assertNotSame(policy, JailPolicySolver.solve(STANDARD, empty, JailPolicySolver.DEFAULT_DISCOUNT));
+    }
+
+    @Test
+    void testBoardsWithoutDefinitionShareCachedPolicies() throws InvalidDataException {
+        Board board = MonopolyBoardFactory.createBoard(STANDARD);
+        board.setDefinition(null);
+        BoardGame game = new BoardGame(new SplittableRandom(6));
+        game.setBoard(board);
+        Player alice = new Player("Alice");
+        game.addPlayer(alice);
+        game.addPlayer(new Player("Bob"));
+
+        JailPolicy policy = JailPolicySolver.forGame(game, alice);
+        assertSame(policy, JailPolicySolver.forGame(game, alice), "Described afresh, found by fingerprint");
+        assertSame(policy, JailPolicySolver.forGame(newGame(6, "Alice", "Bob"), alice));
+    }
+
+    @Test
+    void testStrategyAnswersFromPolicy() throws InvalidDataException {
+        BoardGame game = newGame(5, "Alice", "Bob");
+        Player alice = game.getPlayers().get(0);
+        PlayerStrategy strategy = JailPolicySolver.withSolvedJailPolicy(PlayerStrategy.withReserve(0));
+
+        assertFalse(strategy.shouldPayJailFine(game, alice), "Not in jail");
+        alice.setCurrentTile(game.getBoard().getTileAt(JAIL));
+        alice.goToJail();
+        assertTrue(strategy.shouldPayJailFine(game, alice));
+        assertTrue(strategy.shouldBuy(game, alice, game.getBoard().getTileAt(1)), "Buying is delegated");
+
+        alice.adjustBalance(-alice.getBalance() + BoardGame.JAIL_FINE - 1);
+        assertFalse(strategy.shouldPayJailFine(game, alice), "Cannot afford the fine");
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        RentSummary empty = RentSummary.of(STANDARD, new BoardState(STANDARD), 0);
+        BoardDefinition small = BoardDefinition.builder().addGo(1, "Start", 200)
+            .addSpace(2, "Lot", TileKind.PLAIN).build();
+
+        assertThrows(IllegalArgumentException.class, () -> JailPolicySolver.solve(STANDARD, empty, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> JailPolicySolver.solve(STANDARD, empty, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> JailPolicySolver.solve(small, empty, 0.9));
+    }
+}
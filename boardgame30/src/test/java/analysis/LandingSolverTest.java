@@ -0,0 +1,102 @@
+package analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.analysis.LandingProbabilities;
+import no.ntnu.analysis.LandingSolver;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.simulation.CompactGame;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.RentTable;
+import no.ntnu.tile.TileKind;
+
+/**
+ * Tests for the analytical landing-probability solver.
+ */
+public class LandingSolverTest {
+    private static final BoardDefinition STANDARD = MonopolyBoardFactory.standardDefinition();
+
+    @Test
+    void testStandardBoardDistribution() {
+        LandingProbabilities result = LandingSolver.forBoard(STANDARD);
+        int jail = STANDARD.getPosition(11);
+        int goToJail = STANDARD.getPosition(31);
+
+        double total = 0.0;
+        int mostOccupied = 0;
+        for (int position = 0; position < result.getSize(); position++) {
+            total += result.getOccupancy(position);
+            if (result.getOccupancy(position) > result.getOccupancy(mostOccupied)) {
+                mostOccupied = position;
+            }
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(jail, mostOccupied);
+        assertEquals(0.0, result.getOccupancy(goToJail), 1e-12);
+        assertTrue(result.getLandingProbability(goToJail) > 0.02);
+        assertTrue(result.getJailProbability() > 0.05);
+        assertTrue(result.getJailProbability() < result.getOccupancy(jail));
+    }
+
+    @Test
+    void testResultsAreCachedPerDefinition() {
+        assertSame(LandingSolver.forBoard(STANDARD), LandingSolver.forBoard(STANDARD));
+        assertNotSame(LandingSolver.forBoard(STANDARD), LandingSolver.solve(STANDARD));
+    }
+
+    @Test
+    void testBoardWithoutJailIsUniform() {
+        BoardDefinition.Builder builder = BoardDefinition.builder().addGo(1, "Start", 200);
+        for (int id = 2; id <= 12; id++) {
+            builder.addProperty(id, "Lot " + id, PropertyColor.BROWN, 60, 50, RentTable.forProperty(2));
+        }
+        LandingProbabilities result = LandingSolver.solve(builder.build());
+
+        for (int position = 0; position < result.getSize(); position++) {
+            assertEquals(1.0 / 12, result.getOccupancy(position), 1e-9);
+            assertEquals(1.0 / 12, result.getLandingProbability(position), 1e-9);
+        }
+        assertEquals(0.0, result.getJailProbability());
+    }
+
+    @Test
+    void testSkipTileHoldsPlayerForAnExtraTurn() {
+        BoardDefinition.Builder builder = BoardDefinition.builder().addGo(1, "Start", 200);
+        for (int id = 2; id <= 12; id++) {
+            builder.addSpace(id, "Space " + id, id == 7 ? TileKind.SKIP_TURN : TileKind.PLAIN);
+        }
+        LandingProbabilities result = LandingSolver.solve(builder.build());
+
+        int skip = 6;
+        assertEquals(2.0 / 13, result.getOccupancy(skip), 1e-9);
+        assertEquals(1.0 / 13, result.getOccupancy(skip - 1), 1e-9);
+    }
+
+    @Test
+    void testMatchesPlayedGames() {
+        LandingProbabilities expected = LandingSolver.forBoard(STANDARD);
+        // Nobody buys, so nobody pays rent and players only move
+        CompactGame game = new CompactGame(STANDARD, 2, new SplittableRandom(99), Integer.MAX_VALUE);
+        int turns = 400_000;
+        long[] endedOn = new long[STANDARD.getSize()];
+        int counted = 0;
+        while (counted < turns && !game.isFinished()) {
+            int seat = game.getCurrentSeat();
+            game.step();
+            if (seat == 0) {
+                endedOn[game.getPosition(0)]++;
+                counted++;
+            }
+        }
+
+        assertEquals(turns, counted);
+        for (int position = 0; position < STANDARD.getSize(); position++) {
+            assertEquals(expected.getOccupancy(position), (double) endedOn[position] / turns, 0.003,
+                "position " + position);
+        }
+    }
+}
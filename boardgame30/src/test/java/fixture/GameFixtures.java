@@ -0,0 +1,74 @@
+package fixture;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.tile.Tile;
+
+/**
+ * Games on the shared standard board, set up the same way by every test that needs one.
+ */
+public final class GameFixtures {
+    private GameFixtures() {}
+
+    /**
+     * Creates a seeded game with named players.
+     *
+     * @param seed seed for the dice and cards
+     * @param names names of the players, in seat order
+     * @return the game, with every player on GO
+     */
+    public static BoardGame newGame(long seed, String... names) {
+        BoardGame game = new BoardGame(new SplittableRandom(seed));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        for (String name : names) {
+            game.addPlayer(new Player(name));
+        }
+        return game;
+    }
+
+    /**
+     * Creates a seeded game with players named "Player 1" and up.
+     *
+     * @param seed seed for the dice and cards
+     * @param players number of players
+     * @return the game, with every player on GO
+     */
+    public static BoardGame newGame(long seed, int players) {
+        BoardGame game = new BoardGame(new SplittableRandom(seed));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        for (int i = 1; i <= players; i++) {
+            game.addPlayer(new Player("Player " + i));
+        }
+        return game;
+    }
+
+    /**
+     * Hands tiles to a player without payment.
+     *
+     * @param game the game
+     * @param player the new owner
+     * @param tiles the tiles to give
+     */
+    public static void give(BoardGame game, Player player, List<? extends Tile> tiles) {
+        for (Tile tile : tiles) {
+            game.setOwner(tile, player);
+        }
+    }
+
+    /**
+     * Plays turns until the count is reached or the game ends.
+     *
+     * @param game the game
+     * @param turns the number of turns
+     */
+    public static void play(BoardGame game, int turns) {
+        for (int i = 0; i < turns && !game.isFinished(); i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that the engine emits its Flight Recorder events while a recording runs.
+ */
+class EngineEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private static class Counter implements GameObserver {
+        int rolls;
+        int rents;
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            rolls++;
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            rents++;
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {}
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {}
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {}
+        @Override
+        public void onPlayerSkipped(Player player) {}
+        @Override
+        public void onGameEnd(Player winner) {}
+    }
+
+    /**
+     * Plays a game buying everything affordable, so rents and bankruptcies happen.
+     */
+    private static BoardGame playGame(Counter counter, int[] purchases) throws InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(21));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        game.addPlayer(new Player("Alice"));
+        game.addPlayer(new Player("Bob"));
+        game.addPlayer(new Player("Carol"));
+        game.addObserver(counter);
+        Tile[] offered = new Tile[1];
+        game.addObserver(new Counter() {
+            @Override
+            public void onPropertyAvailable(Player player, Tile property) {
+                offered[0] = property;
+            }
+        });
+        for (int turn = 0; turn < 3000 && !game.isFinished(); turn++) {
+            Player player = game.getCurrentPlayer();
+            offered[0] = null;
+            game.playTurn();
+            if (game.getCurrentPlayer() != player) {
+                continue;
+            }
+            if (offered[0] != null && player.getBalance() >= offered[0].getPrice()) {
+                game.buyProperty(player, offered[0]);
+                purchases[0]++;
+            }
+            if (!game.checkBankruptcy(player)) {
+                game.nextTurn();
+            }
+        }
+        return game;
+    }
+
+    @Test
+    void testEventsRecorded() throws Exception {
+        Counter counter = new Counter();
+        int[] purchases = new int[1];
+        BoardGame game;
+        Path file = dir.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("no.ntnu.Turn", "no.ntnu.DiceRoll", "no.ntnu.TileAction",
+                    "no.ntnu.RentPayment", "no.ntnu.Purchase", "no.ntnu.Bankruptcy")) {
+                recording.enable(name);
+            }
+            recording.start();
+            game = playGame(counter, purchases);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+        boolean actionClassSeen = false;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            counts.merge(event.getEventType().getName(), 1, Integer::sum);
+            if (event.getEventType().getName().equals("no.ntnu.TileAction")
+                && event.getClass("actionClass") != null) {
+                actionClassSeen = true;
+            }
+        }
+
+        assertEquals(game.getTurnCount(), counts.get("no.ntnu.Turn"));
+        assertEquals(counter.rolls, counts.get("no.ntnu.DiceRoll"));
+        assertEquals(counter.rents, counts.get("no.ntnu.RentPayment"));
+        assertTrue(counts.get("no.ntnu.Purchase") > 0);
+        assertTrue(counts.get("no.ntnu.Purchase") <= purchases[0]);
+        assertTrue(counts.get("no.ntnu.TileAction") > 0);
+        assertTrue(actionClassSeen);
+        if (game.isFinished()) {
+            assertEquals(2, counts.get("no.ntnu.Bankruptcy"));
+        }
+    }
+
+    @Test
+    void testNothingRecordedWhenDisabled() throws Exception {
+        Path file = dir.resolve("empty.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("no.ntnu.Turn");
+            recording.disable("no.ntnu.DiceRoll");
+            recording.start();
+            playGame(new Counter(), new int[1]);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            assertNotEquals("no.ntnu.DiceRoll", event.getEventType().getName());
+        }
+    }
+}
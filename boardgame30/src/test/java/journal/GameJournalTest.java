@@ -0,0 +1,159 @@
+package journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.journal.GameJournal;
+import no.ntnu.journal.GameJournalReader;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.PurchasePolicy;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that a journal reads back exactly the events that were written.
+ */
+class GameJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static class TextRecorder implements GameObserver {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            events.add("DICE_ROLL " + player.getName() + " " + die1 + " " + die2);
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            events.add("PLAYER_MOVED " + player.getName() + " " + from.getId() + " " + to.getId() + " " + steps);
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            events.add("TILE_ACTION " + player.getName() + " " + actionName + " " + tile.getId());
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            events.add("PROPERTY_AVAILABLE " + player.getName() + " " + property.getId());
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            events.add("RENT_PAID " + payer.getName() + " " + owner.getName() + " " + property.getId() + " " + amount);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            events.add("PLAYER_SKIPPED " + player.getName());
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            events.add("GAME_END " + winner.getName());
+        }
+    }
+
+    private static String describe(GameJournalReader reader) {
+        return switch (reader.getKind()) {
+            case DICE_ROLL -> "DICE_ROLL " + reader.getPlayerName() + " " + reader.getDie1() + " " + reader.getDie2();
+            case PLAYER_MOVED -> "PLAYER_MOVED " + reader.getPlayerName() + " " + reader.getFromTileId()
+                + " " + reader.getTileId() + " " + reader.getSteps();
+            case TILE_ACTION -> "TILE_ACTION " + reader.getPlayerName() + " " + reader.getActionName()
+                + " " + reader.getTileId();
+            case PROPERTY_AVAILABLE -> "PROPERTY_AVAILABLE " + reader.getPlayerName() + " " + reader.getTileId();
+            case RENT_PAID -> "RENT_PAID " + reader.getPlayerName() + " " + reader.getOtherPlayerName()
+                + " " + reader.getTileId() + " " + reader.getAmount();
+            case PLAYER_SKIPPED -> "PLAYER_SKIPPED " + reader.getPlayerName();
+            case GAME_END -> "GAME_END " + reader.getPlayerName();
+        };
+    }
+
+    @Test
+    void testReadsBackEveryEventAcrossSegments() throws IOException, InvalidDataException {
+        GameSimulator simulator = new GameSimulator(3, PurchasePolicy.always(), 400);
+        BoardGame game = simulator.newGame(new SplittableRandom(31));
+        TextRecorder direct = new TextRecorder();
+        GameJournal journal = new GameJournal(tempDir, 4096);
+        game.addObserver(direct);
+        game.addObserver(journal);
+
+        simulator.play(game);
+        journal.close();
+
+        assertTrue(journal.getSegmentCount() > 1);
+        assertEquals(direct.events.size(), journal.getRecordCount());
+        List<String> read = new ArrayList<>();
+        try (GameJournalReader reader = new GameJournalReader(tempDir)) {
+            while (reader.next()) {
+                read.add(describe(reader));
+            }
+        }
+        assertEquals(direct.events, read);
+        assertTrue(read.stream().anyMatch(e -> e.startsWith("RENT_PAID")));
+    }
+
+    @Test
+    void testNewJournalReplacesOldSegments() throws IOException, InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(2));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        game.addPlayer(new Player("Alice"));
+
+        try (GameJournal first = new GameJournal(tempDir, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                first.onPlayerSkipped(game.getCurrentPlayer());
+            }
+        }
+        try (GameJournal second = new GameJournal(tempDir, 4096)) {
+            second.onGameEnd(game.getCurrentPlayer());
+        }
+
+        int count = 0;
+        try (GameJournalReader reader = new GameJournalReader(tempDir)) {
+            while (reader.next()) {
+                count++;
+                assertEquals("Alice", reader.getPlayerName());
+            }
+        }
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testLongNamesAreCutBetweenCharacters() throws IOException, InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(3));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        // One ASCII byte, then two-byte characters running past the name limit
+        game.addPlayer(new Player("a" + "\u00f8".repeat(600)));
+
+        try (GameJournal journal = new GameJournal(tempDir, 4096)) {
+            journal.onPlayerSkipped(game.getCurrentPlayer());
+        }
+
+        try (GameJournalReader reader = new GameJournalReader(tempDir)) {
+            assertTrue(reader.next());
+            String name = reader.getPlayerName();
+            assertFalse(name.contains("\ufffd"), "No character was split");
+            assertTrue(name.length() > 500);
+            assertTrue(("a" + "\u00f8".repeat(600)).startsWith(name));
+        }
+    }
+
+    @Test
+    void testSegmentSizeMustFitRecords() {
+        assertThrows(IllegalArgumentException.class, () -> new GameJournal(tempDir, 100));
+    }
+}
@@ -0,0 +1,67 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.AsyncGameLogger;
+import no.ntnu.observer.ConsoleGameLogger;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that the asynchronous logger writes the same lines as the console logger.
+ */
+class AsyncGameLoggerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWritesSameLinesAsConsoleLogger() throws IOException, InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(12));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        game.addPlayer(new Player("Alice"));
+        game.addPlayer(new Player("Bob"));
+
+        Path file = tempDir.resolve("game.log");
+        AsyncGameLogger async = AsyncGameLogger.toFile(file);
+        game.addObserver(new ConsoleGameLogger());
+        game.addObserver(async);
+
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(console, true, StandardCharsets.UTF_8));
+        try {
+            for (int i = 0; i < 200; i++) {
+                game.playTurn();
+                Player player = game.getCurrentPlayer();
+                Tile tile = player.getCurrentTile();
+                if (tile.getPrice() > 0) {
+                    game.notifyPropertyAvailable(player, tile);
+                }
+                game.nextTurn();
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+        async.close();
+
+        String expected = console.toString(StandardCharsets.UTF_8);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals(0, async.getDroppedCount());
+        assertEquals(expected.lines().count(), async.getWrittenCount());
+    }
+}
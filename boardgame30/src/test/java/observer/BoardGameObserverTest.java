@@ -5,11 +5,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import no.ntnu.tile.Tile;
 import no.ntnu.tile.PropertyTile;
 import no.ntnu.tile.PropertyColor;
+import no.ntnu.action.TaxAction;
+import no.ntnu.observer.GameEventKind;
 import no.ntnu.observer.GameObserver;
 import no.ntnu.Board;
 import no.ntnu.BoardGame;
@@ -175,4 +179,39 @@ class BoardGameObserverTest {
         assertEquals(observer.diceRollCount, observer2.diceRollCount);
         assertEquals(observer.moveCount, observer2.moveCount);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testObserverOnlyReceivesDeclaredKinds() {
+        Tile t2 = new Tile(2);
+        board.getFirstTile().setNextTile(t2);
+        t2.setNextTile(board.getFirstTile());
+        board.registerTile(t2);
+        t2.setAction(new TaxAction(100));
+
+        BoardGame endOnlyGame = new BoardGame(new Dice(2));
+        endOnlyGame.setBoard(board);
+        TestObserver endOnly = new TestObserver() {
+            @Override
+            public Set<GameEventKind> getInterests() {
+                return EnumSet.of(GameEventKind.GAME_END);
+            }
+        };
+        endOnlyGame.addObserver(endOnly);
+        Player p1 = new Player("Alice");
+        Player p2 = new Player("Bob");
+        endOnlyGame.addPlayer(p1);
+        endOnlyGame.addPlayer(p2);
+
+        assertTrue(endOnlyGame.hasObservers(GameEventKind.GAME_END));
+        assertFalse(endOnlyGame.hasObservers(GameEventKind.TILE_ACTION));
+        for (int i = 0; i < 20; i++) {
+            endOnlyGame.playTurn();
+            endOnlyGame.nextTurn();
+        }
+        assertTrue(endOnly.events.isEmpty());
+
+        p1.adjustBalance(-10_000);
+        endOnlyGame.checkBankruptcy(p1);
+        assertEquals(List.of("END:Bob"), endOnly.events);
+    }
+}
@@ -0,0 +1,211 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import static fixture.GameFixtures.play;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.observer.DispatchProfiler;
+import no.ntnu.observer.GameEventKind;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.observer.ObserverStats;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that the dispatch profiler counts and times calls per observer and kind.
+ */
+class DispatchProfilerTest {
+
+    private static class CountingObserver implements GameObserver {
+        private final long sleepMillis;
+        private final Set<GameEventKind> interests;
+        int diceRolls;
+
+        CountingObserver(long sleepMillis, Set<GameEventKind> interests) {
+            this.sleepMillis = sleepMillis;
+            this.interests = interests;
+        }
+
+        @Override
+        public Set<GameEventKind> getInterests() {
+            return interests;
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            diceRolls++;
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {}
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {}
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {}
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {}
+        @Override
+        public void onPlayerSkipped(Player player) {}
+        @Override
+        public void onGameEnd(Player winner) {}
+    }
+
+    @Test
+    void testCountsCallsPerKind() throws InvalidDataException {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        CountingObserver all = new CountingObserver(0, EnumSet.allOf(GameEventKind.class));
+        CountingObserver endOnly = new CountingObserver(0, EnumSet.of(GameEventKind.GAME_END));
+        game.addObserver(all);
+        DispatchProfiler profiler = new DispatchProfiler(Duration.ofSeconds(1));
+        game.setDispatchProfiler(profiler);
+        game.addObserver(endOnly);
+
+        play(game, 50);
+
+        ObserverStats stats = profiler.getStats(all);
+        assertNotNull(stats);
+        assertEquals(all.diceRolls, stats.getCount(GameEventKind.DICE_ROLL));
+        assertTrue(stats.getCount(GameEventKind.PLAYER_MOVED) > 0);
+        long histogramTotal = 0;
+        for (long bucket : stats.getHistogram(GameEventKind.DICE_ROLL)) {
+            histogramTotal += bucket;
+        }
+        assertEquals(stats.getCount(GameEventKind.DICE_ROLL), histogramTotal);
+        assertTrue(stats.getMaxNanos(GameEventKind.DICE_ROLL) <= stats.getPercentileNanos(GameEventKind.DICE_ROLL, 100));
+
+        ObserverStats endStats = profiler.getStats(endOnly);
+        assertEquals(0, endStats.getCount(GameEventKind.DICE_ROLL));
+        assertEquals(0, endOnly.diceRolls);
+        assertTrue(profiler.getSlowObservers().isEmpty());
+    }
+
+    @Test
+    void testFlagsObserverOverBudget() throws InvalidDataException {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        CountingObserver slow = new CountingObserver(2, EnumSet.of(GameEventKind.DICE_ROLL));
+        game.addObserver(slow);
+        DispatchProfiler profiler = new DispatchProfiler(Duration.ofMillis(1));
+        game.setDispatchProfiler(profiler);
+
+        play(game, 5);
+
+        ObserverStats stats = profiler.getStats(slow);
+        assertEquals(5, stats.getOverBudgetCount(GameEventKind.DICE_ROLL));
+        assertTrue(stats.isOverBudget());
+        assertEquals(1, profiler.getSlowObservers().size());
+        assertTrue(profiler.report().contains("SLOW"));
+
+        profiler.reset();
+        assertEquals(0, stats.getCount(GameEventKind.DICE_ROLL));
+        assertFalse(stats.isOverBudget());
+    }
+
+    @Test
+    void testRemovingProfilerStopsTiming() throws InvalidDataException {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        CountingObserver observer = new CountingObserver(0, EnumSet.of(GameEventKind.DICE_ROLL));
+        game.addObserver(observer);
+        DispatchProfiler profiler = new DispatchProfiler(Duration.ofSeconds(1));
+        game.setDispatchProfiler(profiler);
+        play(game, 3);
+        game.setDispatchProfiler(null);
+        play(game, 3);
+
+        assertEquals(6, observer.diceRolls);
+        assertEquals(3, profiler.getStats(observer).getCount(GameEventKind.DICE_ROLL));
+    }
+
+    @Test
+    void testPeriodicReport() throws Exception {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        game.addObserver(new CountingObserver(0, EnumSet.allOf(GameEventKind.class)));
+        CountDownLatch reported = new CountDownLatch(2);
+        AtomicReference<String> last = new AtomicReference<>();
+        try (DispatchProfiler profiler = new DispatchProfiler(Duration.ofMillis(5))) {
+            game.setDispatchProfiler(profiler);
+            play(game, 10);
+            profiler.startReporting(Duration.ofMillis(10), report -> {
+                last.set(report);
+                reported.countDown();
+            });
+            assertTrue(reported.await(5, TimeUnit.SECONDS));
+        }
+        assertTrue(last.get().contains("CountingObserver"));
+        assertTrue(last.get().contains("DICE_ROLL"));
+    }
+
+    @Test
+    void testTimesWeakObserversUnderTheirOwnName() throws InvalidDataException {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        DispatchProfiler profiler = new DispatchProfiler(Duration.ofSeconds(1));
+        game.setDispatchProfiler(profiler);
+        CountingObserver observer = new CountingObserver(0, EnumSet.of(GameEventKind.DICE_ROLL));
+        game.addWeakObserver(observer);
+
+        play(game, 4);
+
+        ObserverStats stats = profiler.getStats(observer);
+        assertNotNull(stats);
+        assertEquals(4, stats.getCount(GameEventKind.DICE_ROLL));
+        assertSame(observer, stats.getObserver());
+        assertTrue(stats.getName().startsWith("CountingObserver@"), stats.getName());
+        assertEquals(1, profiler.getStats().size());
+    }
+
+    @Test
+    void testRemovedObserversAreNotKeptAlive() throws InterruptedException, InvalidDataException {
+        BoardGame game = newGame(9, "Alice", "Bob");
+        DispatchProfiler profiler = new DispatchProfiler(Duration.ofSeconds(1));
+        game.setDispatchProfiler(profiler);
+        WeakReference<CountingObserver> strong = attachAndDetach(game, false);
+        WeakReference<CountingObserver> weak = attachAndDetach(game, true);
+
+        for (int i = 0; i < 50 && (strong.get() != null || weak.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(strong.get(), "Removed observer was kept by the profiler");
+        assertNull(weak.get(), "Removed weak observer was kept by the profiler");
+        assertTrue(profiler.getStats().isEmpty(), "Statistics of collected observers are dropped");
+    }
+
+    private static WeakReference<CountingObserver> attachAndDetach(BoardGame game, boolean weakly) {
+        CountingObserver observer = new CountingObserver(0, EnumSet.allOf(GameEventKind.class));
+        if (weakly) {
+            game.addWeakObserver(observer);
+        } else {
+            game.addObserver(observer);
+        }
+        play(game, 2);
+        assertTrue(game.removeObserver(observer));
+        return new WeakReference<>(observer);
+    }
+
+    @Test
+    void testHistogramBuckets() {
+        assertEquals(0, ObserverStats.bucket(0));
+        assertEquals(0, ObserverStats.bucket(1));
+        assertEquals(1, ObserverStats.bucket(2));
+        assertEquals(9, ObserverStats.bucket(1023));
+        assertEquals(10, ObserverStats.bucket(1024));
+        assertEquals(62, ObserverStats.bucket(Long.MAX_VALUE));
+    }
+}
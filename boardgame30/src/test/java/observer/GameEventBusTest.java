@@ -0,0 +1,125 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.GameEventBus;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that the event bus delivers events in order and never blocks the game.
+ */
+class GameEventBusTest {
+
+    private static class RecordingObserver implements GameObserver {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            events.add("DICE:" + player.getName() + ":" + die1 + "," + die2);
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            events.add("MOVE:" + player.getName() + ":" + from.getId() + "->" + to.getId() + ":" + steps);
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            events.add("ACTION:" + player.getName() + ":" + actionName + ":" + tile.getId());
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            events.add("AVAILABLE:" + player.getName() + ":" + property.getId());
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            events.add("RENT:" + payer.getName() + "->" + owner.getName() + ":" + amount);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            events.add("SKIP:" + player.getName());
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            events.add("END:" + winner.getName());
+        }
+    }
+
+    @Test
+    void testDeliversSameEventsAsDirectObserver() throws InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(6));
+        game.setBoard(MonopolyBoardFactory.sharedBoard());
+        game.addPlayer(new Player("Alice"));
+        game.addPlayer(new Player("Bob"));
+
+        RecordingObserver direct = new RecordingObserver();
+        RecordingObserver viaBus = new RecordingObserver();
+        GameEventBus bus = new GameEventBus(1024);
+        GameEventBus.Subscription subscription = bus.subscribe(viaBus);
+        game.addObserver(direct);
+        game.addObserver(bus);
+
+        for (int i = 0; i < 40; i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+        bus.close();
+
+        assertFalse(direct.events.isEmpty());
+        assertEquals(direct.events, viaBus.events);
+        assertEquals(direct.events.size(), subscription.getDeliveredCount());
+        assertEquals(0, subscription.getDroppedCount());
+    }
+
+    @Test
+    void testSlowConsumerDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver slow = new RecordingObserver() {
+            @Override
+            public void onPlayerSkipped(Player player) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onPlayerSkipped(player);
+            }
+        };
+        GameEventBus bus = new GameEventBus(8);
+        GameEventBus.Subscription subscription = bus.subscribe(slow);
+        Player player = new Player("Alice");
+
+        int published = 1000;
+        for (int i = 0; i < published; i++) {
+            bus.onPlayerSkipped(player);
+        }
+        release.countDown();
+        bus.close();
+
+        assertEquals(published, bus.getPublishedCount());
+        assertTrue(subscription.getDroppedCount() > 0);
+        assertEquals(published, subscription.getDeliveredCount() + subscription.getDroppedCount());
+        assertEquals(subscription.getDeliveredCount(), slow.events.size());
+    }
+
+    @Test
+    void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(12));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+    }
+}
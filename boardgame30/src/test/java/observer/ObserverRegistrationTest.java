@@ -0,0 +1,186 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import static fixture.GameFixtures.play;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.observer.GameEventKind;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.observer.TurnBatchObserver;
+import no.ntnu.observer.TurnEventBatch;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests removing observers, weak registration and changes during dispatch.
+ */
+class ObserverRegistrationTest {
+
+    private static class RollCounter implements GameObserver {
+        int rolls;
+
+        @Override
+        public Set<GameEventKind> getInterests() {
+            return EnumSet.of(GameEventKind.DICE_ROLL);
+        }
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            rolls++;
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {}
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {}
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {}
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {}
+        @Override
+        public void onPlayerSkipped(Player player) {}
+        @Override
+        public void onGameEnd(Player winner) {}
+    }
+
+    @Test
+    void testRemovedObserverGetsNoEvents() throws InvalidDataException {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        RollCounter counter = new RollCounter();
+        game.addObserver(counter);
+        play(game, 5);
+        int rolls = counter.rolls;
+
+        assertTrue(game.removeObserver(counter));
+        assertFalse(game.removeObserver(counter));
+        play(game, 5);
+
+        assertEquals(rolls, counter.rolls);
+        assertFalse(game.hasObservers(GameEventKind.DICE_ROLL));
+        assertEquals(0, game.getObserverCount());
+    }
+
+    @Test
+    void testChangesDuringDispatchApplyToNextEvent() throws InvalidDataException {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        RollCounter late = new RollCounter();
+        RollCounter second = new RollCounter();
+        GameObserver selfRemoving = new RollCounter() {
+            @Override
+            public void onDiceRoll(Player player, int die1, int die2) {
+                super.onDiceRoll(player, die1, die2);
+                game.removeObserver(this);
+                game.addObserver(late);
+            }
+        };
+        game.addObserver(selfRemoving);
+        game.addObserver(second);
+
+        play(game, 4);
+
+        assertEquals(1, ((RollCounter) selfRemoving).rolls);
+        assertEquals(second.rolls, late.rolls + 1, "The observer added during dispatch missed only that event");
+        assertEquals(2, game.getObserverCount());
+    }
+
+    @Test
+    void testWeakObserverIsDroppedOnceCollected() throws Exception {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        RollCounter strong = new RollCounter();
+        game.addObserver(strong);
+        WeakReference<RollCounter> probe = addWeakCounter(game);
+        play(game, 3);
+        assertEquals(2, game.getObserverCount());
+        assertEquals(3, probe.get() != null ? probe.get().rolls : 3);
+
+        for (int i = 0; i < 50 && probe.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(probe.get(), "Weakly registered observer was not collected");
+        play(game, 3);
+        game.removeObserver(strong);
+
+        assertEquals(6, strong.rolls);
+        assertEquals(0, game.getObserverCount());
+        assertFalse(game.hasObservers(GameEventKind.DICE_ROLL));
+    }
+
+    private static WeakReference<RollCounter> addWeakCounter(BoardGame game) {
+        RollCounter weak = new RollCounter();
+        game.addWeakObserver(weak);
+        return new WeakReference<>(weak);
+    }
+
+    @Test
+    void testWeakObserverCanBeRemoved() throws InvalidDataException {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        RollCounter counter = new RollCounter();
+        game.addWeakObserver(counter);
+        play(game, 2);
+
+        assertTrue(game.removeObserver(counter));
+        play(game, 2);
+
+        assertEquals(2, counter.rolls);
+        assertFalse(game.hasObservers(GameEventKind.DICE_ROLL));
+    }
+
+    @Test
+    void testRemoveTurnObserver() throws InvalidDataException {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        int[] batches = new int[1];
+        TurnBatchObserver observer = (TurnEventBatch batch) -> batches[0]++;
+        game.addTurnObserver(observer);
+        play(game, 3);
+        int delivered = batches[0];
+
+        assertTrue(game.removeTurnObserver(observer));
+        assertFalse(game.removeTurnObserver(observer));
+        play(game, 3);
+
+        assertEquals(delivered, batches[0]);
+        assertEquals(0, game.getObserverCount());
+    }
+
+    @Test
+    void testObserversChangedFromAnotherThread() throws Exception {
+        BoardGame game = newGame(12, "Alice", "Bob");
+        game.getPlayers().forEach(player -> player.adjustBalance(1_000_000));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread host = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    RollCounter client = new RollCounter();
+                    game.addObserver(client);
+                    game.addWeakObserver(new RollCounter());
+                    game.removeObserver(client);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        host.start();
+        try {
+            play(game, 20_000);
+        } finally {
+            running.set(false);
+            host.join();
+        }
+
+        assertNull(failure.get());
+        System.gc();
+        play(game, 10);
+        assertTrue(game.getObserverCount() < 1000, "Observers kept: " + game.getObserverCount());
+    }
+}
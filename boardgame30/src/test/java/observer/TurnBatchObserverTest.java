@@ -0,0 +1,138 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.observer.GameEventKind;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.observer.TurnBatchObserver;
+import no.ntnu.observer.TurnEventBatch;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests that turn observers receive every event once, grouped by turn.
+ */
+class TurnBatchObserverTest {
+
+    private static class KindRecorder implements GameObserver {
+        final List<GameEventKind> kinds = new ArrayList<>();
+
+        @Override
+        public void onDiceRoll(Player player, int die1, int die2) {
+            kinds.add(GameEventKind.DICE_ROLL);
+        }
+
+        @Override
+        public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+            kinds.add(GameEventKind.PLAYER_MOVED);
+        }
+
+        @Override
+        public void onTileAction(Player player, String actionName, Tile tile) {
+            kinds.add(GameEventKind.TILE_ACTION);
+        }
+
+        @Override
+        public void onPropertyAvailable(Player player, Tile property) {
+            kinds.add(GameEventKind.PROPERTY_AVAILABLE);
+        }
+
+        @Override
+        public void onRentPaid(Player payer, Player owner, Tile property, int amount) {
+            kinds.add(GameEventKind.RENT_PAID);
+        }
+
+        @Override
+        public void onPlayerSkipped(Player player) {
+            kinds.add(GameEventKind.PLAYER_SKIPPED);
+        }
+
+        @Override
+        public void onGameEnd(Player winner) {
+            kinds.add(GameEventKind.GAME_END);
+        }
+    }
+
+    @Test
+    void testBatchesHoldSameEventsAsDirectObserver() throws InvalidDataException {
+        BoardGame game = newGame(4, "Alice", "Bob");
+        KindRecorder direct = new KindRecorder();
+        KindRecorder replayed = new KindRecorder();
+        List<Integer> turns = new ArrayList<>();
+        game.addObserver(direct);
+        game.addTurnObserver(batch -> {
+            turns.add(batch.getTurn());
+            assertTrue(batch.contains(GameEventKind.DICE_ROLL));
+            assertEquals(GameEventKind.DICE_ROLL, batch.getKind(0));
+            batch.replayTo(replayed);
+        });
+
+        for (int i = 0; i < 50; i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+
+        assertEquals(direct.kinds, replayed.kinds);
+        assertEquals(50, turns.size());
+        assertEquals(1, turns.get(0));
+        assertEquals(50, turns.get(49));
+    }
+
+    @Test
+    void testFilteredBatchesOnlyHoldWantedKinds() throws InvalidDataException {
+        BoardGame game = newGame(4, "Alice", "Bob");
+        List<Integer> rolls = new ArrayList<>();
+        game.addTurnObserver(new TurnBatchObserver() {
+            @Override
+            public Set<GameEventKind> getInterests() {
+                return EnumSet.of(GameEventKind.DICE_ROLL);
+            }
+
+            @Override
+            public void onTurnCompleted(TurnEventBatch batch) {
+                assertEquals(1, batch.size());
+                rolls.add(batch.getDie1(0) + batch.getDie2(0));
+            }
+        });
+        List<Integer> sizes = new ArrayList<>();
+        game.addTurnObserver(batch -> sizes.add(batch.size()));
+
+        for (int i = 0; i < 20; i++) {
+            game.playTurn();
+            game.nextTurn();
+        }
+
+        assertEquals(20, rolls.size());
+        assertTrue(sizes.stream().anyMatch(size -> size > 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new TurnEventBatch().getKind(0));
+    }
+
+    @Test
+    void testGameEndDeliversFinalBatch() throws InvalidDataException {
+        BoardGame game = newGame(4, "Alice", "Bob");
+        List<GameEventKind> lastKinds = new ArrayList<>();
+        game.addTurnObserver(batch -> {
+            lastKinds.clear();
+            for (int i = 0; i < batch.size(); i++) {
+                lastKinds.add(batch.getKind(i));
+            }
+        });
+
+        game.playTurn();
+        Player alice = game.getPlayers().get(0);
+        alice.adjustBalance(-10_000);
+        game.checkBankruptcy(alice);
+
+        assertEquals(GameEventKind.GAME_END, lastKinds.get(lastKinds.size() - 1));
+        assertEquals(GameEventKind.DICE_ROLL, lastKinds.get(0));
+    }
+}
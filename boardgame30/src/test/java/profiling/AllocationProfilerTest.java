@@ -0,0 +1,158 @@
+package profiling;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.play;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import no.ntnu.Board;
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.observer.GameObserver;
+import no.ntnu.profiling.AllocationProfiler;
+import no.ntnu.profiling.TurnPhase;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.RailroadTile;
+import no.ntnu.tile.Tile;
+import no.ntnu.tile.UtilityTile;
+
+/**
+ * Tests allocation accounting per turn, and that a steady-state turn allocates nothing.
+ */
+class AllocationProfilerTest {
+    private static final int WARMUP_TURNS = 50_000;
+    private static final int WINDOWS = 5;
+    private static final int WINDOW_TURNS = 10_000;
+    /**
+     * Whether to check that turns allocate exactly nothing. That relies on the
+     * JIT compiler removing short-lived objects, which an interpreted run or an
+     * instrumenting agent prevents; such runs can pass -Dallocation.exact=false.
+     */
+    private static final boolean EXACT = ManagementFactory.getCompilationMXBean() != null
+        && Boolean.parseBoolean(System.getProperty("allocation.exact", "true"));
+
+    /**
+     * Builds a late-game position: three rich players owning every other ownable
+     * tile, some with houses, so turns pay rent of every kind but nobody goes bankrupt.
+     */
+    private static BoardGame lateGame() throws InvalidDataException {
+        BoardGame game = new BoardGame(new SplittableRandom(33));
+        Board board = MonopolyBoardFactory.sharedBoard();
+        game.setBoard(board);
+        for (int i = 1; i <= 3; i++) {
+            Player player = new Player("Player " + i);
+            player.adjustBalance(1_000_000_000);
+            game.addPlayer(player);
+        }
+        int owned = 0;
+        for (int position = 0; position < board.getLoopLength(); position++) {
+            Tile tile = board.getTileAt(position);
+            Player owner = game.getPlayers().get(owned % 3);
+            if (tile instanceof PropertyTile || tile instanceof RailroadTile || tile instanceof UtilityTile) {
+                game.setOwner(tile, owner);
+                if (tile instanceof PropertyTile pt && owned % 4 == 0) {
+                    game.setBuildings(pt, 1);
+                }
+                owned++;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * A turn that allocates fails every window. Compilation and deoptimization
+     * can allocate a few bytes once in a while, so one clean window is enough.
+     */
+    @Test
+    void testSteadyStateTurnAllocatesNothing() throws InvalidDataException {
+        assumeTrue(AllocationProfiler.isSupported());
+        assumeTrue(EXACT, "Exact allocation checks are turned off");
+        AllocationProfiler counter = new AllocationProfiler();
+        BoardGame game = lateGame();
+        play(game, WARMUP_TURNS);
+
+        long total = 0;
+        long cleanest = Long.MAX_VALUE;
+        for (int window = 0; window < WINDOWS; window++) {
+            long before = counter.allocatedBytes();
+            play(game, WINDOW_TURNS);
+            long allocated = counter.allocatedBytes() - before;
+            total += allocated;
+            cleanest = Math.min(cleanest, allocated);
+        }
+
+        assertFalse(game.isFinished());
+        assertEquals(0, cleanest, "Bytes allocated by the cleanest " + WINDOW_TURNS + " turns");
+        assertTrue(total < WINDOWS * WINDOW_TURNS, "Bytes allocated by all windows: " + total);
+    }
+
+    @Test
+    void testPhasesWithoutObserversAllocateNothing() throws InvalidDataException {
+        assumeTrue(AllocationProfiler.isSupported());
+        assumeTrue(EXACT, "Exact allocation checks are turned off");
+        BoardGame game = lateGame();
+        play(game, WARMUP_TURNS);
+        AllocationProfiler profiler = new AllocationProfiler();
+        game.setAllocationProfiler(profiler);
+
+        long cleanest = Long.MAX_VALUE;
+        for (int window = 0; window < WINDOWS; window++) {
+            profiler.reset();
+            play(game, WINDOW_TURNS);
+            assertEquals(WINDOW_TURNS, profiler.getTurns());
+            cleanest = Math.min(cleanest, profiler.getTotalBytes());
+        }
+
+        assertEquals(0, cleanest, profiler.report());
+    }
+
+    @Test
+    void testObserverAllocationIsChargedToNotify() throws InvalidDataException {
+        assumeTrue(AllocationProfiler.isSupported());
+        BoardGame game = lateGame();
+        game.addObserver(new GameObserver() {
+            private Object last;
+
+            @Override
+            public void onDiceRoll(Player player, int die1, int die2) {
+                last = new long[16];
+            }
+
+            @Override
+            public void onPlayerMoved(Player player, Tile from, Tile to, int steps) {
+                last = player.getName() + " moved to " + to.getName();
+            }
+
+            @Override
+            public void onTileAction(Player player, String actionName, Tile tile) {}
+            @Override
+            public void onPropertyAvailable(Player player, Tile property) {}
+            @Override
+            public void onRentPaid(Player payer, Player owner, Tile property, int amount) {}
+            @Override
+            public void onPlayerSkipped(Player player) {}
+            @Override
+            public void onGameEnd(Player winner) {}
+        });
+        play(game, WARMUP_TURNS / 10);
+        AllocationProfiler profiler = new AllocationProfiler();
+        game.setAllocationProfiler(profiler);
+
+        play(game, 1000);
+
+        assertEquals(1000, profiler.getTurns());
+        assertTrue(profiler.getBytesPerTurn(TurnPhase.NOTIFY) >= 16 * Long.BYTES, profiler.report());
+        // The engine itself allocates nothing, apart from rare compiler activity
+        assertTrue(profiler.getBytes(TurnPhase.NOTIFY) > 0.95 * profiler.getTotalBytes(), profiler.report());
+        assertTrue(profiler.getMaxTurnBytes() > 0);
+
+        profiler.reset();
+        assertEquals(0, profiler.getTotalBytes());
+        assertEquals(0, profiler.getTurns());
+    }
+}
@@ -0,0 +1,189 @@
+package search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.search.Evaluator;
+import no.ntnu.search.ExpectimaxPlayer;
+import no.ntnu.search.ExpectimaxStats;
+import no.ntnu.search.TranspositionTable;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+import no.ntnu.tile.Tile;
+
+/**
+ * Tests the expectimax player: reproducible decisions, deepening and pluggable evaluation.
+ */
+class ExpectimaxPlayerTest {
+    private static final Duration BUDGET = Duration.ofSeconds(10);
+    private static final PlayerStrategy OPPONENTS = PlayerStrategy.withReserve(150);
+
+    @Test
+    void testDecisionsAreReproducible() throws InvalidDataException {
+        BoardGame game = newGame(1, 3);
+        Player me = game.getCurrentPlayer();
+        PropertyTile offered = game.getBoard().getGroup(PropertyColor.LIGHT_BLUE).get(0);
+        ExpectimaxPlayer first = new ExpectimaxPlayer(2, BUDGET, Evaluator.netWorthShare(), OPPONENTS, 9);
+        ExpectimaxPlayer second = new ExpectimaxPlayer(2, BUDGET, Evaluator.netWorthShare(), OPPONENTS, 9);
+
+        boolean answer = first.shouldBuy(game, me, offered);
+
+        assertEquals(answer, second.shouldBuy(game, me, offered));
+        assertEquals(first.getLastSearch().nodes(), second.getLastSearch().nodes());
+        assertEquals(first.getLastSearch().cutoffs(), second.getLastSearch().cutoffs());
+        assertEquals(answer, first.shouldBuy(game, me, offered));
+        assertEquals(1500, me.getBalance(), "Searching does not change the game");
+        assertNull(game.getOwner(offered));
+    }
+
+    @Test
+    void testDeepensToMaxDepthWithinBudget() throws InvalidDataException {
+        BoardGame game = newGame(2, 2);
+        ExpectimaxPlayer player = new ExpectimaxPlayer(3, BUDGET);
+        assertSame(ExpectimaxStats.NONE, player.getLastSearch());
+
+        player.shouldBuy(game, game.getCurrentPlayer(), game.getBoard().getTileAt(1));
+
+        ExpectimaxStats stats = player.getLastSearch();
+        assertEquals(3, stats.depth(), stats.toString());
+        assertTrue(stats.nodes() > 11 * 11, stats.toString());
+        assertTrue(stats.getNodesPerSecond() > 0);
+    }
+
+    @Test
+    void testFirstIterationCompletesWhenOutOfTime() throws InvalidDataException {
+        BoardGame game = newGame(3, 2);
+        ExpectimaxPlayer player = new ExpectimaxPlayer(6, Duration.ofNanos(1));
+
+        player.shouldBuy(game, game.getCurrentPlayer(), game.getBoard().getTileAt(1));
+
+        assertEquals(1, player.getLastSearch().depth(), player.getLastSearch().toString());
+    }
+
+    @Test
+    void testEvaluatorDrivesDecisions() throws InvalidDataException {
+        BoardGame game = newGame(4, 2);
+        Player me = game.getCurrentPlayer();
+        PropertyTile offered = game.getBoard().getGroup(PropertyColor.ORANGE).get(0);
+        Evaluator cash = (g, p) -> g.getPlayers().contains(p) ? Math.min(1, p.getBalance() / 10_000.0) : 0;
+        Evaluator land = (g, p) -> g.getPlayers().contains(p) ? p.getOwnedProperties().size() / 40.0 : 0;
+
+        assertFalse(new ExpectimaxPlayer(2, BUDGET, cash, OPPONENTS, 1).shouldBuy(game, me, offered));
+        assertTrue(new ExpectimaxPlayer(2, BUDGET, land, OPPONENTS, 1).shouldBuy(game, me, offered));
+
+        me.goToJail();
+        assertFalse(new ExpectimaxPlayer(2, BUDGET, cash, OPPONENTS, 1).shouldPayJailFine(game, me));
+    }
+
+    @Test
+    void testBuysTileCompletingMonopoly() throws InvalidDataException {
+        BoardGame game = newGame(5, 2);
+        Player me = game.getCurrentPlayer();
+        List<PropertyTile> darkBlue = game.getBoard().getGroup(PropertyColor.DARK_BLUE);
+        game.setOwner(darkBlue.get(0), me);
+        // The opponent can land on either tile, so the search sees the monopoly rent
+        game.getPlayers().get(1).setCurrentTile(game.getBoard().getTileAt(33));
+        ExpectimaxPlayer player = new ExpectimaxPlayer(2, BUDGET);
+
+        assertTrue(player.shouldBuy(game, me, darkBlue.get(1)), player.getLastSearch().toString());
+    }
+
+    @Test
+    void testBuildsWhereItPays() throws InvalidDataException {
+        BoardGame game = newGame(6, 2);
+        Player me = game.getCurrentPlayer();
+        List<PropertyTile> orange = game.getBoard().getGroup(PropertyColor.ORANGE);
+        orange.forEach(tile -> game.setOwner(tile, me));
+        Evaluator houses = (g, p) -> {
+            int built = 0;
+            for (PropertyTile tile : p.getOwnedProperties()) {
+                built += g.getBuildings(tile);
+            }
+            return g.getPlayers().contains(p) ? built / 100.0 : 0;
+        };
+        ExpectimaxPlayer player = new ExpectimaxPlayer(1, BUDGET, houses, OPPONENTS, 3);
+
+        int position = player.chooseBuild(game, me);
+
+        assertTrue(orange.contains(game.getBoard().getTileAt(position)), "Built at " + position);
+        assertTrue(player.getLastSearch().nodes() > 0);
+        assertEquals(PlayerStrategy.NO_BUILD, player.chooseBuild(game, game.getPlayers().get(1)));
+        assertSame(ExpectimaxStats.NONE, player.getLastSearch(), "A decision without a choice replaces the stats");
+    }
+
+    @Test
+    void testPlaysWholeTurns() throws InvalidDataException {
+        BoardGame game = newGame(7, 3);
+        ExpectimaxPlayer player = new ExpectimaxPlayer(1, Duration.ofMillis(50));
+        long[] nodes = new long[1];
+        game.getPlayers().get(0).setStrategy(new PlayerStrategy() {
+            @Override
+            public boolean shouldBuy(BoardGame g, Player p, Tile tile) {
+                boolean answer = player.shouldBuy(g, p, tile);
+                nodes[0] += player.getLastSearch().nodes();
+                return answer;
+            }
+
+            @Override
+            public boolean shouldPayJailFine(BoardGame g, Player p) {
+                return player.shouldPayJailFine(g, p);
+            }
+
+            @Override
+            public int chooseBuild(BoardGame g, Player p) {
+                return player.chooseBuild(g, p);
+            }
+        });
+        game.getPlayers().get(1).setStrategy(OPPONENTS);
+        game.getPlayers().get(2).setStrategy(OPPONENTS);
+
+        while (!game.isFinished() && game.getTurnCount() < 120) {
+            Player current = game.getCurrentPlayer();
+            game.playTurn();
+            if (game.getCurrentPlayer() == current && !game.checkBankruptcy(current)) {
+                game.nextTurn();
+            }
+        }
+
+        assertTrue(nodes[0] > 0, "Buy decisions were searched");
+        game.getPlayers().forEach(p -> assertTrue(p.getBalance() >= 0, p.getName()));
+    }
+
+    @Test
+    void testTranspositionTableKeepsDecisionsAndSavesWork() throws InvalidDataException {
+        BoardGame game = newGame(8, 2);
+        Player me = game.getCurrentPlayer();
+        List<PropertyTile> brown = game.getBoard().getGroup(PropertyColor.BROWN);
+        ExpectimaxPlayer plain = new ExpectimaxPlayer(3, BUDGET, Evaluator.netWorthShare(), OPPONENTS, 4);
+        ExpectimaxPlayer cached = new ExpectimaxPlayer(3, BUDGET, Evaluator.netWorthShare(), OPPONENTS, 4);
+        TranspositionTable table = new TranspositionTable(1 << 16);
+        cached.setTranspositionTable(table);
+
+        assertEquals(plain.shouldBuy(game, me, brown.get(0)), cached.shouldBuy(game, me, brown.get(0)));
+        // Declining either tile leads to the same positions, so the second search reuses the first
+        assertEquals(plain.shouldBuy(game, me, brown.get(1)), cached.shouldBuy(game, me, brown.get(1)));
+
+        ExpectimaxStats stats = cached.getLastSearch();
+        assertEquals(3, stats.depth());
+        assertTrue(stats.tableHits() > 0, stats.toString());
+        assertTrue(stats.nodes() < plain.getLastSearch().nodes(), stats + " vs " + plain.getLastSearch());
+        assertTrue(table.getHitRate() > 0);
+
+        me.goToJail();
+        assertEquals(plain.shouldPayJailFine(game, me), cached.shouldPayJailFine(game, me));
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxPlayer(0, BUDGET));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxPlayer(2, Duration.ZERO));
+    }
+}
@@ -0,0 +1,132 @@
+package search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static fixture.GameFixtures.newGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import no.ntnu.BoardGame;
+import no.ntnu.Player;
+import no.ntnu.PlayerStrategy;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.search.MctsPlayer;
+import no.ntnu.search.SearchStats;
+import no.ntnu.tile.PropertyColor;
+import no.ntnu.tile.PropertyTile;
+
+/**
+ * Tests the tree search player: its decisions, its statistics and whole games.
+ */
+class MctsPlayerTest {
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private MctsPlayer player(Duration budget, int horizon) {
+        return new MctsPlayer(budget, pool, PlayerStrategy.withReserve(MctsPlayer.DEFAULT_ROLLOUT_RESERVE),
+            horizon, 11);
+    }
+
+    @Test
+    void testSearchReportsRolloutsPerSecond() throws InvalidDataException {
+        BoardGame game = newGame(1, 3);
+        MctsPlayer mcts = player(Duration.ofMillis(100), 100);
+        assertSame(SearchStats.NONE, mcts.getLastSearch());
+
+        mcts.shouldBuy(game, game.getCurrentPlayer(), game.getBoard().getTileAt(1));
+
+        SearchStats stats = mcts.getLastSearch();
+        assertTrue(stats.rollouts() > 2, stats.toString());
+        assertEquals(2, stats.threads());
+        assertTrue(stats.nanos() >= 100_000_000L, stats.toString());
+        assertTrue(stats.nodes() > 1, stats.toString());
+        assertTrue(stats.getRolloutsPerSecond() > 0);
+        assertEquals(stats, mcts.getTotalSearch());
+    }
+
+    @Test
+    void testBuysTileCompletingMonopoly() throws InvalidDataException {
+        BoardGame game = newGame(2, 2);
+        Player me = game.getCurrentPlayer();
+        List<PropertyTile> darkBlue = game.getBoard().getGroup(PropertyColor.DARK_BLUE);
+        game.setOwner(darkBlue.get(0), me);
+        MctsPlayer mcts = player(Duration.ofSeconds(1), 100);
+
+        assertTrue(mcts.shouldBuy(game, me, darkBlue.get(1)), mcts.getLastSearch().toString());
+    }
+
+    @Test
+    void testUnaffordableChoicesNeedNoSearch() throws InvalidDataException {
+        BoardGame game = newGame(3, 2);
+        Player me = game.getCurrentPlayer();
+        me.adjustBalance(-me.getBalance() + 10);
+        MctsPlayer mcts = player(Duration.ofMillis(100), 100);
+
+        assertFalse(mcts.shouldBuy(game, me, game.getBoard().getTileAt(1)));
+        me.goToJail();
+        assertFalse(mcts.shouldPayJailFine(game, me));
+        assertEquals(PlayerStrategy.NO_BUILD, mcts.chooseBuild(game, me));
+        assertSame(SearchStats.NONE, mcts.getLastSearch());
+    }
+
+    @Test
+    void testBuildChoiceIsLegal() throws InvalidDataException {
+        BoardGame game = newGame(4, 2);
+        Player me = game.getCurrentPlayer();
+        List<PropertyTile> brown = game.getBoard().getGroup(PropertyColor.BROWN);
+        for (PropertyTile tile : brown) {
+            game.setOwner(tile, me);
+        }
+        MctsPlayer mcts = player(Duration.ofMillis(100), 100);
+
+        int position = mcts.chooseBuild(game, me);
+
+        assertTrue(position == PlayerStrategy.NO_BUILD || brown.contains(game.getBoard().getTileAt(position)));
+        assertTrue(mcts.getLastSearch().rollouts() >= brown.size() + 1);
+        assertEquals(0, game.getBuildings(brown.get(0)), "Searching does not change the game");
+        assertEquals(1500, me.getBalance());
+
+        assertEquals(PlayerStrategy.NO_BUILD, mcts.chooseBuild(game, game.getPlayers().get(1)));
+        assertSame(SearchStats.NONE, mcts.getLastSearch(), "A decision without a choice replaces the stats");
+    }
+
+    @Test
+    void testPlaysGamesAgainstSimpleStrategies() throws InvalidDataException {
+        BoardGame game = newGame(5, 3);
+        MctsPlayer mcts = player(Duration.ofMillis(2), 40);
+        game.getPlayers().get(0).setStrategy(mcts);
+        game.getPlayers().get(1).setStrategy(PlayerStrategy.withReserve(150));
+        game.getPlayers().get(2).setStrategy(PlayerStrategy.withReserve(150));
+        Player searcher = game.getPlayers().get(0);
+
+        while (!game.isFinished() && game.getTurnCount() < 150) {
+            Player player = game.getCurrentPlayer();
+            game.playTurn();
+            if (game.getCurrentPlayer() == player && !game.checkBankruptcy(player)) {
+                game.nextTurn();
+            }
+        }
+
+        assertTrue(mcts.getTotalSearch().rollouts() > 0);
+        for (Player player : game.getPlayers()) {
+            assertTrue(player.getBalance() >= 0, player.getName());
+        }
+        if (game.getPlayers().contains(searcher)) {
+            assertSame(mcts, searcher.getStrategy(), "Rollouts change the strategies of forks only");
+        }
+    }
+
+    @Test
+    void testRejectsEmptyBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsPlayer(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new MctsPlayer(Duration.ofMillis(1), pool,
+            PlayerStrategy.withReserve(0), 0, 1));
+    }
+}
@@ -0,0 +1,136 @@
+package search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import no.ntnu.search.TranspositionTable;
+
+/**
+ * Tests the transposition table: packing, replacement and lock-free sharing between threads.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void testStoresAndFindsEntries() {
+        TranspositionTable table = new TranspositionTable(64);
+        assertEquals(TranspositionTable.MISS, table.probe(42));
+
+        table.store(42, 0.625, TranspositionTable.LOWER_BOUND, 7, 1);
+        long entry = table.probe(42);
+
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(0.625, TranspositionTable.value(entry), 1e-7);
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(1, TranspositionTable.move(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(43));
+        assertEquals(3, table.getProbes());
+        assertEquals(1, table.getHits());
+
+        table.store(43, 0, TranspositionTable.EXACT, 0, TranspositionTable.NO_MOVE);
+        assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.move(table.probe(43)));
+        assertEquals(0, TranspositionTable.value(table.probe(43)));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42));
+        assertEquals(1, table.getProbes());
+    }
+
+    @Test
+    void testBoundsAreRoundedOutwards() {
+        TranspositionTable table = new TranspositionTable(8);
+        double value = 1.0 / 3;
+
+        table.store(1, value, TranspositionTable.LOWER_BOUND, 1, 0);
+        table.store(2, value, TranspositionTable.UPPER_BOUND, 1, 0);
+
+        assertTrue(TranspositionTable.value(table.probe(1)) <= value);
+        assertTrue(TranspositionTable.value(table.probe(2)) >= value);
+    }
+
+    @Test
+    void testKeepsDeeperEntriesOfCurrentSearch() {
+        TranspositionTable table = new TranspositionTable(8);
+        table.store(5, 0.5, TranspositionTable.EXACT, 4, 0);
+
+        table.store(5, 0.1, TranspositionTable.EXACT, 2, 0);
+        assertEquals(4, TranspositionTable.depth(table.probe(5)));
+
+        table.store(5, 0.2, TranspositionTable.EXACT, 4, 0);
+        assertEquals(0.2, TranspositionTable.value(table.probe(5)), 1e-7);
+
+        table.newSearch();
+        table.store(5, 0.3, TranspositionTable.EXACT, 1, 0);
+        assertEquals(1, TranspositionTable.depth(table.probe(5)), "Older results give way");
+    }
+
+    @Test
+    void testReplacesShallowestOrOldestInBucket() {
+        TranspositionTable table = new TranspositionTable(2);
+        assertEquals(2, table.getCapacity(), "One bucket, so every key competes");
+
+        table.store(1, 0.1, TranspositionTable.EXACT, 5, 0);
+        table.store(2, 0.2, TranspositionTable.EXACT, 3, 0);
+        table.store(3, 0.3, TranspositionTable.EXACT, 4, 0);
+        assertNotEquals(TranspositionTable.MISS, table.probe(1));
+        assertEquals(TranspositionTable.MISS, table.probe(2));
+        assertNotEquals(TranspositionTable.MISS, table.probe(3));
+
+        table.newSearch();
+        table.store(4, 0.4, TranspositionTable.EXACT, 1, 0);
+        table.store(5, 0.5, TranspositionTable.EXACT, 1, 0);
+        assertEquals(TranspositionTable.MISS, table.probe(1));
+        assertEquals(TranspositionTable.MISS, table.probe(3));
+    }
+
+    @Test
+    void testRoundsCapacityUpToPowerOfTwo() {
+        assertEquals(2, new TranspositionTable(1).getCapacity());
+        assertEquals(1024, new TranspositionTable(1000).getCapacity());
+        assertEquals(1024, new TranspositionTable(1024).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable((1 << 28) + 1));
+    }
+
+    @Test
+    void testConcurrentWritersNeverMixUpEntries() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(64);
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 200_000; i++) {
+                    long key = random.nextLong(512);
+                    long entry = table.probe(key);
+                    // Writers store different data for a key, but always with the key in the move
+                    if (entry != TranspositionTable.MISS && TranspositionTable.move(entry) >> 3 != key) {
+                        wrong.incrementAndGet();
+                    }
+                    table.store(key, random.nextDouble(), TranspositionTable.EXACT, random.nextInt(8),
+                        (int) key << 3 | (int) seed);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(0, wrong.get());
+        assertTrue(table.getHitRate() > 0);
+    }
+}
@@ -0,0 +1,114 @@
+package simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import no.ntnu.Board;
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.BoardState;
+import no.ntnu.Player;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.factory.MonopolyBoardFactory;
+import no.ntnu.simulation.CompactGame;
+import no.ntnu.simulation.GameOutcome;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.PurchasePolicy;
+
+/**
+ * Checks that the compact engine plays exactly like BoardGame for the same random stream.
+ */
+public class CompactGameParityTest {
+    private static final int MAX_TURNS = 2000;
+
+    @Test
+    void testSameOutcomeAsBoardGame() throws InvalidDataException {
+        for (long seed = 1; seed <= 40; seed++) {
+            for (int players = 2; players <= 4; players++) {
+                assertParity(seed, players);
+            }
+        }
+    }
+
+    @Test
+    void testResetReplaysSameGame() throws InvalidDataException {
+        BoardDefinition board = BoardDefinition.of(buildGame(new SplittableRandom(0)).board());
+        CompactGame game = new CompactGame(board, 3, new SplittableRandom(7), 0);
+        GameOutcome first = game.play(MAX_TURNS);
+        int balance = game.getBalance(0);
+
+        game.reset(new SplittableRandom(7));
+        GameOutcome second = game.play(MAX_TURNS);
+
+        assertEquals(first, second);
+        assertEquals(balance, game.getBalance(0));
+    }
+
+    @Test
+    void testForkSharesStateUntilWritten() throws InvalidDataException {
+        BoardDefinition board = BoardDefinition.of(buildGame(new SplittableRandom(0)).board());
+        CompactGame game = new CompactGame(board, 3, new SplittableRandom(4), 0);
+        for (int i = 0; i < 40; i++) {
+            game.step();
+        }
+        BoardState before = game.getState();
+
+        CompactGame first = game.fork(new SplittableRandom(12));
+        CompactGame second = game.fork(new SplittableRandom(12));
+        GameOutcome outcome = first.play(MAX_TURNS);
+
+        assertEquals(outcome, second.play(MAX_TURNS));
+        for (int at = 0; at < board.getSize(); at++) {
+            assertEquals(before.getOwner(at), game.getOwner(at));
+            assertEquals(first.getOwner(at), second.getOwner(at));
+        }
+        assertEquals(40, game.getTurnCount());
+    }
+
+    private void assertParity(long seed, int playerCount) throws InvalidDataException {
+        Fixture fixture = buildGame(new SplittableRandom(seed));
+        for (int i = 1; i <= playerCount; i++) {
+            fixture.game().addPlayer(new Player("Player " + i));
+        }
+        List<Player> seats = new ArrayList<>(fixture.game().getPlayers());
+        BoardDefinition compactBoard = BoardDefinition.of(fixture.board());
+
+        GameOutcome expected = new GameSimulator(playerCount, PurchasePolicy.always(), MAX_TURNS)
+            .play(fixture.game());
+        CompactGame compact = new CompactGame(compactBoard, playerCount, new SplittableRandom(seed), 0);
+        GameOutcome actual = compact.play(MAX_TURNS);
+
+        String context = "seed " + seed + ", " + playerCount + " players";
+        assertEquals(expected, actual, context);
+        for (int seat = 0; seat < playerCount; seat++) {
+            Player player = seats.get(seat);
+            if (fixture.game().getPlayers().contains(player)) {
+                assertEquals(player.getBalance(), compact.getBalance(seat), context);
+                assertEquals(fixture.board().getPosition(player.getCurrentTile()),
+                    compact.getPosition(seat), context);
+                assertEquals(player.isInJail(), compact.isInJail(seat), context);
+            }
+        }
+        for (int at = 0; at < compactBoard.getSize(); at++) {
+            Player owner = fixture.game().getOwner(fixture.board().getTileAt(at));
+            assertEquals(owner == null ? -1 : seats.indexOf(owner), compact.getOwner(at), context);
+        }
+    }
+
+    private record Fixture(BoardGame game, Board board) {}
+
+    /**
+     * Standard board where dice and every card tile share one random source.
+     */
+    private Fixture buildGame(RandomGenerator random) throws InvalidDataException {
+        BoardGame game = new BoardGame(random);
+        Board board = MonopolyBoardFactory.sharedBoard();
+        game.setBoard(board);
+        return new Fixture(game, board);
+    }
+}
@@ -0,0 +1,109 @@
+package simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import no.ntnu.BoardGame;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.simulation.GameOutcome;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.MonteCarloRunner;
+import no.ntnu.simulation.PurchasePolicy;
+import no.ntnu.simulation.SimulationResult;
+
+/**
+ * Tests for headless game simulation.
+ */
+public class MonteCarloRunnerTest {
+
+    @Test
+    void testSingleGameRespectsTurnLimit() throws InvalidDataException {
+        GameSimulator simulator = new GameSimulator(3, PurchasePolicy.always(), 200);
+        GameOutcome outcome = simulator.playGame();
+
+        assertTrue(outcome.turns() <= 200);
+        assertTrue(outcome.bankruptcies() <= 2);
+        if (outcome.isFinished()) {
+            assertTrue(outcome.winnerSeat() >= 0 && outcome.winnerSeat() < 3);
+            assertEquals(2, outcome.bankruptcies());
+        }
+    }
+
+    @Test
+    void testPurchasesHappenWithBuyingPolicy() throws InvalidDataException {
+        GameSimulator simulator = new GameSimulator(2, PurchasePolicy.always(), 30);
+        BoardGame game = simulator.newGame();
+        simulator.play(game);
+
+        long owned = game.getPlayers().stream()
+            .mapToLong(p -> p.getOwnedProperties().size()
+                + p.getOwnedRailroads().size()
+                + p.getOwnedUtilities().size())
+            .sum();
+        assertTrue(owned > 0);
+    }
+
+    @Test
+    void testNeverBuyingPolicyOwnsNothing() throws InvalidDataException {
+        GameSimulator simulator = new GameSimulator(2, PurchasePolicy.never(), 30);
+        BoardGame game = simulator.newGame();
+        simulator.play(game);
+
+        game.getPlayers().forEach(p -> assertTrue(p.getOwnedProperties().isEmpty()));
+    }
+
+    @Test
+    void testParallelRunAggregatesAllGames() {
+        GameSimulator simulator = new GameSimulator(4, PurchasePolicy.always(), 300);
+        SimulationResult result;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            result = new MonteCarloRunner(simulator, pool).run(100);
+        }
+
+        assertEquals(100, result.getGames());
+        long wins = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(result.getFinishedGames(), wins);
+        assertEquals(100, result.getFinishedGames() + result.getUnfinishedGames());
+        assertTrue(result.getMaxTurns() <= 300);
+        assertTrue(result.getMinTurns() <= result.getMaxTurns());
+    }
+
+    @Test
+    void testSeededRunsAreReproducible() {
+        GameSimulator simulator = new GameSimulator(3, PurchasePolicy.always(), 300);
+        SimulationResult first;
+        SimulationResult second;
+        try (ForkJoinPool four = new ForkJoinPool(4); ForkJoinPool two = new ForkJoinPool(2)) {
+            first = new MonteCarloRunner(simulator, four, 99).run(80);
+            second = new MonteCarloRunner(simulator, two, 99).run(80);
+        }
+
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    void testSameSeedReplaysSameGame() throws InvalidDataException {
+        GameSimulator simulator = new GameSimulator(4, PurchasePolicy.always(), 500);
+        GameOutcome first = simulator.playGame(new SplittableRandom(5));
+        GameOutcome second = simulator.playGame(new SplittableRandom(5));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(1, PurchasePolicy.always(), 100));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(2, PurchasePolicy.always(), 0));
+        MonteCarloRunner runner = new MonteCarloRunner(
+            new GameSimulator(2, PurchasePolicy.always(), 10));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(-1));
+    }
+}
@@ -0,0 +1,171 @@
+package simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import no.ntnu.BoardDefinition;
+import no.ntnu.BoardGame;
+import no.ntnu.exception.InvalidDataException;
+import no.ntnu.simulation.GameOutcome;
+import no.ntnu.simulation.GameSimulator;
+import no.ntnu.simulation.PurchasePolicy;
+import no.ntnu.simulation.Replay;
+import no.ntnu.simulation.ReplayResult;
+import no.ntnu.simulation.ReplayVerifier;
+import no.ntnu.simulation.Replayer;
+import no.ntnu.tile.TileKind;
+
+public class ReplayTest {
+    private static final List<String> PLAYERS = List.of("Player 1", "Player 2", "Player 3");
+    private static final int MAX_TURNS = 2000;
+
+    private final Replayer replayer = new Replayer();
+
+    @Test
+    void testRecordedGameMatchesSimulator() throws InvalidDataException {
+        GameSimulator simulator = new GameSimulator(3, PurchasePolicy.withReserve(200), MAX_TURNS);
+        for (long seed = 1; seed <= 10; seed++) {
+            Replay replay = replayer.record(seed, PLAYERS, PurchasePolicy.withReserve(200), MAX_TURNS);
+            GameOutcome outcome = simulator.playGame(new SplittableRandom(seed));
+
+            assertEquals(outcome.turns(), replay.getTurns());
+            assertTrue(replay.getDecisionCount() > 0);
+            assertEquals(replay.getTurns() / Replay.CHECKPOINT_INTERVAL, replay.getCheckpointCount());
+        }
+    }
+
+    @Test
+    void testWriteAndReadRoundTrip() throws Exception {
+        Replay replay = replayer.record(42, PLAYERS, PurchasePolicy.always(), MAX_TURNS);
+        Replay read = Replay.read(new ByteArrayInputStream(toBytes(replay)));
+
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(replay.getBoardFingerprint(), read.getBoardFingerprint());
+        assertEquals(PLAYERS, read.getPlayerNames());
+        assertEquals(replay.getMaxTurns(), read.getMaxTurns());
+        assertEquals(replay.getTurns(), read.getTurns());
+        assertEquals(replay.getDecisionCount(), read.getDecisionCount());
+        for (int i = 0; i < replay.getDecisionCount(); i++) {
+            assertEquals(replay.getDecisionTurn(i), read.getDecisionTurn(i));
+            assertEquals(replay.getDecision(i), read.getDecision(i));
+        }
+        assertEquals(replay.getCheckpointCount(), read.getCheckpointCount());
+        assertEquals(replay.getFinalChecksum(), read.getFinalChecksum());
+    }
+
+    @Test
+    void testReplayIsCompact() throws Exception {
+        Replay replay = replayer.record(3, PLAYERS, PurchasePolicy.always(), MAX_TURNS);
+        int bytes = toBytes(replay).length;
+
+        assertTrue(bytes < 64 + 2 * replay.getDecisionCount() + 8 * replay.getCheckpointCount(),
+            "Replay takes " + bytes + " bytes");
+    }
+
+    @Test
+    void testVerifyUnchangedReplay() throws Exception {
+        Replay replay = replayer.record(11, PLAYERS, PurchasePolicy.withReserve(100), MAX_TURNS);
+        ReplayResult result = replayer.verify(Replay.read(new ByteArrayInputStream(toBytes(replay))));
+
+        assertTrue(result.isVerified());
+        assertEquals(replay.getTurns(), result.turns());
+        assertEquals(replay.getTurns(), result.lastVerifiedTurn());
+    }
+
+    @Test
+    void testRegenerateReproducesFinalState() throws InvalidDataException {
+        Replay replay = replayer.record(5, PLAYERS, PurchasePolicy.always(), MAX_TURNS);
+        BoardGame first = replayer.regenerate(replay);
+        BoardGame second = replayer.regenerate(replay);
+
+        assertEquals(replay.getTurns(), first.getTurnCount());
+        assertEquals(first.getPlayers().size(), second.getPlayers().size());
+        for (int i = 0; i < first.getPlayers().size(); i++) {
+            assertEquals(first.getPlayers().get(i).getName(), second.getPlayers().get(i).getName());
+            assertEquals(first.getPlayers().get(i).getBalance(), second.getPlayers().get(i).getBalance());
+        }
+    }
+
+    @Test
+    void testChangedDecisionReportsItsTurn() throws Exception {
+        Replay replay = replayer.record(8, PLAYERS, PurchasePolicy.always(), MAX_TURNS);
+        assertTrue(replay.getDecision(0));
+        Replay tampered = Replay.read(new ByteArrayInputStream(flipFirstDecision(replay)));
+        assertFalse(tampered.getDecision(0));
+
+        ReplayResult result = replayer.verify(tampered);
+
+        assertFalse(result.isVerified());
+        int changedTurn = replay.getDecisionTurn(0);
+        assertTrue(result.divergentTurn() >= changedTurn, "Diverged at " + result.divergentTurn());
+        assertTrue(result.lastVerifiedTurn() < changedTurn);
+        assertThrows(IllegalStateException.class, () -> replayer.regenerate(tampered));
+    }
+
+    @Test
+    void testOtherBoardIsRejected() throws InvalidDataException {
+        Replay replay = replayer.record(1, PLAYERS, PurchasePolicy.always(), MAX_TURNS);
+        BoardDefinition other = BoardDefinition.builder()
+            .addGo(1, "Go", 200)
+            .addSpace(2, "Rest", TileKind.PLAIN)
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> new Replayer(other).verify(replay));
+    }
+
+    @Test
+    void testGarbageIsRejected() {
+        assertThrows(InvalidDataException.class,
+            () -> Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+        assertThrows(InvalidDataException.class,
+            () -> Replay.read(new ByteArrayInputStream(new byte[] {0x4D, 0x52, 0x45, 0x50, 1, 0})));
+    }
+
+    @Test
+    void testBatchVerifierFindsFirstDivergence() throws Exception {
+        List<Replay> replays = new ArrayList<>();
+        for (long seed = 0; seed < 200; seed++) {
+            replays.add(replayer.record(seed, PLAYERS, PurchasePolicy.withReserve(150), MAX_TURNS));
+        }
+        ReplayVerifier verifier = new ReplayVerifier(replayer);
+
+        ReplayVerifier.Report clean = verifier.verifyAll(replays);
+        assertTrue(clean.isAllVerified(), clean.toString());
+        assertEquals(200, clean.getReplayCount());
+        assertEquals(-1, clean.getFirstDivergedIndex());
+
+        Replay original = replays.get(137);
+        replays.set(137, Replay.read(new ByteArrayInputStream(flipFirstDecision(original))));
+        ReplayVerifier.Report report = verifier.verifyAll(replays);
+
+        assertEquals(1, report.getDivergedCount());
+        assertEquals(137, report.getFirstDivergedIndex());
+        assertTrue(report.getResults().get(137).divergentTurn() >= original.getDecisionTurn(0));
+    }
+
+    private static byte[] toBytes(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Flips the first answer in the packed decision bits, which sit just before the
+     * checkpoint count, the checkpoints and the final checksum.
+     */
+    private static byte[] flipFirstDecision(Replay replay) throws IOException {
+        byte[] bytes = toBytes(replay);
+        assertTrue(replay.getCheckpointCount() < 128);
+        int decisionEnd = bytes.length - 8 - 8 * replay.getCheckpointCount() - 1;
+        int decisionBytes = (replay.getDecisionCount() + 7) / 8;
+        bytes[decisionEnd - decisionBytes] ^= 1;
+        return bytes;
+    }
+}